@@ -0,0 +1,102 @@
+package com.alert.news.cluster;
+
+import com.alert.news.dto.NewsDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 노드 간 메시지 (JSON으로 직렬화해 {@link ClusterTransport}로 전송)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClusterMessage {
+
+    /**
+     * 메시지 종류
+     */
+    public enum Type {
+
+        /**
+         * 뉴스 전달 (customerId가 있으면 그 고객사에게만, 없으면 받는 노드의 모든 고객사에게)
+         */
+        NEWS,
+
+        /**
+         * 보낸 노드에 연결된 고객사 추가 또는 갱신
+         */
+        ROUTES,
+
+        /**
+         * 보낸 노드에서 연결이 끊긴 고객사
+         */
+        UNROUTE,
+
+        /**
+         * 보낸 노드 종료
+         */
+        LEAVE
+    }
+
+    private Type type;
+    private String nodeId;
+    private String customerId;
+    private List<String> customerIds;
+    private NewsDto news;
+    // 뉴스가 메시지 크기 한도를 넘으면 ID만 보내고 받는 노드가 DB에서 조회
+    private String newsId;
+
+    public ClusterMessage() {}
+
+    public ClusterMessage(Type type, String nodeId) {
+        this.type = type;
+        this.nodeId = nodeId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public String getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(String customerId) {
+        this.customerId = customerId;
+    }
+
+    public List<String> getCustomerIds() {
+        return customerIds;
+    }
+
+    public void setCustomerIds(List<String> customerIds) {
+        this.customerIds = customerIds;
+    }
+
+    public NewsDto getNews() {
+        return news;
+    }
+
+    public void setNews(NewsDto news) {
+        this.news = news;
+    }
+
+    public String getNewsId() {
+        return newsId;
+    }
+
+    public void setNewsId(String newsId) {
+        this.newsId = newsId;
+    }
+}
@@ -0,0 +1,131 @@
+package com.alert.news.cluster;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 고객사 → 노드 라우팅 테이블
+ *
+ * 다른 노드가 알려 준 "이 노드에 연결된 고객사" 목록을 보관합니다. 고객사는 여러 노드에 동시에 연결될 수 있습니다.
+ * 항목마다 마지막으로 알림을 받은 시각을 두고, 주기적인 전체 알림이 끊긴 노드와 고객사는 {@link #expire(long)}로 지웁니다.
+ */
+public class ClusterRoutingTable {
+
+    // 노드 ID → 노드 경로
+    private final Map<String, NodeRoutes> nodes = new ConcurrentHashMap<>();
+
+    /**
+     * 노드에 연결된 고객사 추가 또는 갱신 (고객사가 없어도 노드가 살아 있음을 기록)
+     *
+     * @return 처음 알게 된 노드이면 true
+     */
+    public boolean addRoutes(String nodeId, Collection<String> customerIds, long nowMillis) {
+        boolean[] added = new boolean[1];
+        NodeRoutes node = nodes.computeIfAbsent(nodeId, id -> {
+            added[0] = true;
+            return new NodeRoutes();
+        });
+        node.lastSeenMillis = nowMillis;
+        for (String customerId : customerIds) {
+            node.customers.put(customerId, nowMillis);
+        }
+        return added[0];
+    }
+
+    /**
+     * 노드에서 연결이 끊긴 고객사 제거
+     */
+    public void removeRoutes(String nodeId, Collection<String> customerIds) {
+        NodeRoutes node = nodes.get(nodeId);
+        if (node == null) {
+            return;
+        }
+        for (String customerId : customerIds) {
+            node.customers.remove(customerId);
+        }
+    }
+
+    /**
+     * 노드 제거 (종료 알림을 받은 경우)
+     */
+    public void removeNode(String nodeId) {
+        nodes.remove(nodeId);
+    }
+
+    /**
+     * cutoffMillis 이전에 마지막으로 알림을 받은 노드와 고객사 제거
+     *
+     * @return 제거한 노드 수
+     */
+    public int expire(long cutoffMillis) {
+        int removed = 0;
+        Iterator<NodeRoutes> it = nodes.values().iterator();
+        while (it.hasNext()) {
+            NodeRoutes node = it.next();
+            if (node.lastSeenMillis < cutoffMillis) {
+                it.remove();
+                removed++;
+                continue;
+            }
+            node.customers.values().removeIf(lastSeen -> lastSeen < cutoffMillis);
+        }
+        return removed;
+    }
+
+    /**
+     * 고객사가 한 곳이라도 연결된 노드
+     */
+    public List<String> getNodes() {
+        List<String> result = new ArrayList<>(nodes.size());
+        for (Map.Entry<String, NodeRoutes> entry : nodes.entrySet()) {
+            if (!entry.getValue().customers.isEmpty()) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 고객사가 연결된 노드
+     */
+    public List<String> getNodesFor(String customerId) {
+        List<String> result = new ArrayList<>(1);
+        for (Map.Entry<String, NodeRoutes> entry : nodes.entrySet()) {
+            if (entry.getValue().customers.containsKey(customerId)) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 알고 있는 노드 수 (고객사가 없는 노드 포함)
+     */
+    public int getNodeCount() {
+        return nodes.size();
+    }
+
+    /**
+     * 전체 (노드, 고객사) 경로 수
+     */
+    public int getRouteCount() {
+        int count = 0;
+        for (NodeRoutes node : nodes.values()) {
+            count += node.customers.size();
+        }
+        return count;
+    }
+
+    /**
+     * 노드 한 곳의 고객사 경로
+     */
+    private static final class NodeRoutes {
+        // 고객사 ID → 마지막 알림 시각 (ms)
+        private final Map<String, Long> customers = new ConcurrentHashMap<>();
+        private volatile long lastSeenMillis;
+    }
+}
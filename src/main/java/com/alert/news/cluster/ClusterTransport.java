@@ -0,0 +1,39 @@
+package com.alert.news.cluster;
+
+import java.io.Closeable;
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 메시지 전송 인터페이스
+ *
+ * 노드마다 자기 앞으로 온 메시지와 모든 노드 대상 메시지를 받습니다.
+ * 전달은 최선 노력(best effort)이며, 연결이 끊긴 동안의 메시지는 유실될 수 있습니다.
+ */
+public interface ClusterTransport extends Closeable {
+
+    /**
+     * 수신 시작 (이 노드 앞으로 온 메시지와 모든 노드 대상 메시지를 handler로 전달)
+     */
+    void start(String nodeId, Consumer<String> handler);
+
+    /**
+     * 한 노드에 메시지 전송
+     *
+     * @return 전송 요청 성공 여부 (상대 노드의 수신 여부는 보장하지 않음)
+     */
+    boolean send(String nodeId, String message);
+
+    /**
+     * 모든 노드에 메시지 전송 (보낸 노드도 받을 수 있으므로 받는 쪽에서 걸러야 함)
+     */
+    boolean publish(String message);
+
+    /**
+     * 메시지 최대 크기 (UTF-8 bytes)
+     */
+    int maxMessageBytes();
+
+    @Override
+    default void close() {
+    }
+}
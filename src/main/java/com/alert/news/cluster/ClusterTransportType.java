@@ -0,0 +1,17 @@
+package com.alert.news.cluster;
+
+/**
+ * 노드 간 메시지 전송 방식 (cluster.transport 설정값)
+ */
+public enum ClusterTransportType {
+
+    /**
+     * Postgres NOTIFY (노드별 채널, 별도 브로커 없이 같은 DB를 쓰는 노드끼리 전송)
+     */
+    POSTGRES_NOTIFY,
+
+    /**
+     * 프로세스 내 전송 (같은 JVM의 노드끼리 바로 호출, 단일 노드 실행과 테스트용)
+     */
+    LOOPBACK
+}
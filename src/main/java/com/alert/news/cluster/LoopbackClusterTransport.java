@@ -0,0 +1,69 @@
+package com.alert.news.cluster;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 프로세스 내 노드 간 전송
+ *
+ * 같은 노드 맵을 공유하는 전송끼리 네트워크 없이 메시지를 주고받습니다.
+ * 받는 노드의 handler를 보낸 스레드에서 바로 호출하므로 테스트에서 전달 순서와 시점이 결정적입니다.
+ */
+public class LoopbackClusterTransport implements ClusterTransport {
+
+    private final Map<String, Consumer<String>> nodes;
+    private final int maxMessageBytes;
+    private volatile String nodeId;
+
+    /**
+     * 단독 노드 (다른 노드가 없으므로 자기 자신에게만 전달)
+     */
+    public LoopbackClusterTransport() {
+        this(new ConcurrentHashMap<>(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param nodes 노드 ID → 수신 handler (같은 맵을 넘긴 전송끼리 연결됨)
+     */
+    public LoopbackClusterTransport(Map<String, Consumer<String>> nodes, int maxMessageBytes) {
+        this.nodes = nodes;
+        this.maxMessageBytes = maxMessageBytes;
+    }
+
+    @Override
+    public void start(String nodeId, Consumer<String> handler) {
+        this.nodeId = nodeId;
+        nodes.put(nodeId, handler);
+    }
+
+    @Override
+    public boolean send(String nodeId, String message) {
+        Consumer<String> handler = nodes.get(nodeId);
+        if (handler == null) {
+            return false;
+        }
+        handler.accept(message);
+        return true;
+    }
+
+    @Override
+    public boolean publish(String message) {
+        for (Consumer<String> handler : nodes.values()) {
+            handler.accept(message);
+        }
+        return true;
+    }
+
+    @Override
+    public int maxMessageBytes() {
+        return maxMessageBytes;
+    }
+
+    @Override
+    public void close() {
+        if (nodeId != null) {
+            nodes.remove(nodeId);
+        }
+    }
+}
@@ -0,0 +1,485 @@
+package com.alert.news.cluster;
+
+import com.alert.news.dto.NewsDto;
+import com.alert.news.model.News;
+import com.alert.news.queue.RecentIdFilter;
+import com.alert.news.service.ConnectedCustomerRegistry;
+import com.alert.news.service.ConnectedCustomerRegistry.CustomerConnections;
+import com.alert.news.service.NewsService;
+import com.alert.news.service.WebSocketService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드 간 뉴스 전달 (여러 인스턴스 실행 시 다른 노드에 연결된 고객사에게 전달)
+ *
+ * 뉴스를 처리한 노드는 자기 고객사에게 보낸 뒤, {@link ClusterRoutingTable}에서 고객사가 연결된 다른 노드를 찾아
+ * 노드마다 메시지를 한 번씩만 보냅니다. 받은 노드는 자기 고객사에게만 전송하고 다시 전달하지 않습니다.
+ * 고객사 수와 관계없이 뉴스 한 건은 노드 사이를 노드당 최대 한 번 오갑니다.
+ *
+ * 노드마다 cluster.route-sync-interval(ms)마다 레지스트리의 고객사 목록을 확인해 바뀐 부분만 모든 노드에 알리고,
+ * cluster.route-refresh-interval(ms)마다 전체 목록을 다시 알립니다. cluster.route-ttl(ms) 동안 알림이 없는 노드는 경로에서 뺍니다.
+ * 처음 보는 노드의 알림을 받으면 다음 확인 때 전체 목록을 알려 새 노드가 바로 경로를 갖게 합니다.
+ *
+ * 전송은 최선 노력이므로 노드 사이에서 유실된 뉴스는 클라이언트가 재연결 시 lastSequence로 다시 받습니다.
+ *
+ * 전달은 뉴스 한 건을 노드 하나만 처리하는 수집 경로(HTTP 큐 추가, news_outbox의 SKIP LOCKED 점유)를 전제로 합니다.
+ * Postgres LISTEN(queue.ingest.listen.enabled)은 모든 노드가 같은 알림을 받아 각자 자기 고객사에게 보내므로,
+ * LISTEN을 켠 노드는 처리한 뉴스를 다른 노드에 전달하지 않습니다. 클러스터에서 LISTEN을 쓰려면 모든 노드에서 켜야 합니다.
+ * 받은 노드는 queue.dedup.window(ms) 안에 이미 자기 고객사에게 보낸 뉴스(직접 처리했거나 다른 노드가 먼저 전달한 뉴스)를 버리고,
+ * 나머지는 수신 스레드를 막지 않도록 가상 스레드에서 전송합니다.
+ */
+@Component
+public class NewsClusterRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsClusterRelay.class);
+
+    // 경로 메시지에서 고객사 ID 목록 외의 필드에 남겨 두는 여유 (bytes)
+    private static final int MESSAGE_OVERHEAD_BYTES = 256;
+    private static final int DEDUP_BUCKETS = 6;
+
+    @Value("${cluster.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cluster.node-id:}")
+    private String nodeId;
+
+    @Value("${cluster.transport:postgres-notify}")
+    private ClusterTransportType transportType;
+
+    @Value("${cluster.route-sync-interval:1000}")
+    private long routeSyncInterval = 1_000;
+
+    @Value("${cluster.route-refresh-interval:10000}")
+    private long routeRefreshInterval = 10_000;
+
+    @Value("${cluster.route-ttl:30000}")
+    private long routeTtl = 30_000;
+
+    @Value("${queue.ingest.listen.enabled:false}")
+    private boolean listenEnabled;
+
+    @Value("${queue.dedup.window:60000}")
+    private long dedupWindow = 60_000;
+
+    @Value("${queue.dedup.max-entries:100000}")
+    private int dedupMaxEntries = 100_000;
+
+    @Value("${cluster.postgres.health-check-interval:10000}")
+    private int healthCheckInterval;
+
+    @Value("${cluster.postgres.reconnect-delay:1000}")
+    private long reconnectDelay;
+
+    @Value("${cluster.postgres.max-reconnect-delay:30000}")
+    private long maxReconnectDelay;
+
+    @Value("${spring.datasource.url:}")
+    private String url;
+
+    @Value("${spring.datasource.username:}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    private final ConnectedCustomerRegistry connectedCustomerRegistry;
+    private final WebSocketService webSocketService;
+    private final NewsService newsService;
+    private final ObjectMapper objectMapper;
+
+    private final ClusterRoutingTable routingTable = new ClusterRoutingTable();
+    private volatile ClusterTransport transport;
+    private ScheduledExecutorService announcer;
+    private ExecutorService receivers;
+    // 이 노드의 고객사에게 이미 보낸 브로드캐스트 뉴스 ID (직접 처리한 뉴스와 다른 노드에서 받은 뉴스)
+    private RecentIdFilter deliveredIds;
+
+    // syncRoutes에서만 사용 (announcer 스레드)
+    private Set<String> announcedCustomerIds = Set.of();
+    private long lastRefreshMillis;
+    private volatile boolean refreshRequested = true;
+
+    private final Counter relayedCounter;
+    private final Counter receivedCounter;
+    private final Counter failedCounter;
+    private final Counter duplicateCounter;
+
+    @Autowired
+    public NewsClusterRelay(ConnectedCustomerRegistry connectedCustomerRegistry,
+                            WebSocketService webSocketService,
+                            NewsService newsService,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry) {
+        this.connectedCustomerRegistry = connectedCustomerRegistry;
+        this.webSocketService = webSocketService;
+        this.newsService = newsService;
+        this.objectMapper = objectMapper;
+        this.relayedCounter = Counter.builder("news.cluster.relayed")
+                .description("다른 노드로 보낸 뉴스 메시지 수")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("news.cluster.received")
+                .description("다른 노드에서 받아 이 노드의 고객사에게 전송한 뉴스 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("news.cluster.failed")
+                .description("다른 노드로 보내지 못한 뉴스 메시지 수")
+                .register(meterRegistry);
+        this.duplicateCounter = Counter.builder("news.cluster.duplicate")
+                .description("이 노드의 고객사에게 이미 보내 버린 다른 노드의 뉴스 수")
+                .register(meterRegistry);
+        Gauge.builder("news.cluster.nodes", routingTable, ClusterRoutingTable::getNodeCount)
+                .description("경로를 알고 있는 다른 노드 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 노드 간 전달 시작 (cluster.enabled가 true일 때만)
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = defaultNodeId();
+        }
+        open(nodeId, switch (transportType) {
+            case POSTGRES_NOTIFY -> new PostgresNotifyClusterTransport(url, username, password,
+                    healthCheckInterval, reconnectDelay, maxReconnectDelay);
+            case LOOPBACK -> new LoopbackClusterTransport();
+        });
+
+        announcer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon(true).name("news-cluster-announcer").factory());
+        announcer.scheduleWithFixedDelay(this::syncRoutes, 0, routeSyncInterval, TimeUnit.MILLISECONDS);
+
+        logger.info("노드 간 뉴스 전달이 시작되었습니다. 노드: {}, 전송: {}, 경로 확인 주기: {}ms, 경로 유지 시간: {}ms",
+                   nodeId, transportType, routeSyncInterval, routeTtl);
+        if (listenEnabled) {
+            logger.warn("LISTEN 수집이 켜져 있어 이 노드에서 처리한 뉴스는 다른 노드에 전달하지 않습니다. " +
+                       "다른 노드의 고객사는 각 노드가 받은 알림으로 전송되므로 모든 노드에서 LISTEN을 켜야 합니다.");
+        }
+    }
+
+    /**
+     * 노드 간 전달 중지 (다른 노드가 바로 경로를 지우도록 종료 알림)
+     */
+    @PreDestroy
+    public void stop() {
+        ClusterTransport current = transport;
+        if (current == null) {
+            return;
+        }
+        if (announcer != null) {
+            announcer.shutdownNow();
+        }
+        publish(new ClusterMessage(ClusterMessage.Type.LEAVE, nodeId));
+        current.close();
+        transport = null;
+        receivers.shutdownNow();
+        logger.info("노드 간 뉴스 전달이 중지되었습니다. 노드: {}", nodeId);
+    }
+
+    /**
+     * 전송 수단을 지정해 수신 시작 (경로 알림은 syncRoutes 호출 시)
+     */
+    void open(String nodeId, ClusterTransport transport) {
+        this.nodeId = nodeId;
+        deliveredIds = new RecentIdFilter(dedupWindow, DEDUP_BUCKETS, dedupMaxEntries);
+        receivers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("news-cluster-receiver-", 0).factory());
+        transport.start(nodeId, this::onMessage);
+        this.transport = transport;
+    }
+
+    /**
+     * 이 노드에서 처리한 뉴스를 고객사가 연결된 다른 노드에 전달 (이 노드의 고객사 전송 후 호출)
+     *
+     * LISTEN을 켠 노드에서는 다른 노드도 같은 뉴스를 직접 처리하므로 전달하지 않습니다.
+     *
+     * @return 메시지를 보낸 노드 수
+     */
+    public int relay(News news) {
+        ClusterTransport current = transport;
+        if (current == null) {
+            return 0;
+        }
+        // 다른 노드가 같은 뉴스를 늦게 전달해 와도 이 노드의 고객사에게 다시 보내지 않도록 기록
+        deliveredIds.markIfAbsent(news.getId());
+        if (listenEnabled) {
+            return 0;
+        }
+        List<String> targets = routingTable.getNodes();
+        targets.remove(nodeId);
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        return send(current, targets, news, null);
+    }
+
+    /**
+     * 특정 고객사가 연결된 다른 노드에 뉴스 전달 (이 노드에서 그 고객사에게 보내지 못한 dead letter 재처리)
+     *
+     * @return 메시지를 보낸 노드 수
+     */
+    public int relayToCustomer(String customerId, News news) {
+        ClusterTransport current = transport;
+        if (current == null) {
+            return 0;
+        }
+        List<String> targets = routingTable.getNodesFor(customerId);
+        targets.remove(nodeId);
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        return send(current, targets, news, customerId);
+    }
+
+    /**
+     * 이 노드의 고객사 목록을 확인해 바뀐 부분을 다른 노드에 알리고, 알림이 끊긴 노드의 경로 정리
+     */
+    void syncRoutes() {
+        try {
+            Set<String> current = new HashSet<>();
+            for (CustomerConnections customer : connectedCustomerRegistry.getDeliverableCustomerConnections()) {
+                current.add(customer.getCustomerId());
+            }
+
+            long now = System.currentTimeMillis();
+            if (refreshRequested || now - lastRefreshMillis >= routeRefreshInterval) {
+                refreshRequested = false;
+                lastRefreshMillis = now;
+                publishCustomerIds(ClusterMessage.Type.ROUTES, current);
+            } else {
+                Set<String> added = new HashSet<>(current);
+                added.removeAll(announcedCustomerIds);
+                if (!added.isEmpty()) {
+                    publishCustomerIds(ClusterMessage.Type.ROUTES, added);
+                }
+            }
+            Set<String> removed = new HashSet<>(announcedCustomerIds);
+            removed.removeAll(current);
+            if (!removed.isEmpty()) {
+                publishCustomerIds(ClusterMessage.Type.UNROUTE, removed);
+            }
+            announcedCustomerIds = current;
+
+            int expired = routingTable.expire(now - routeTtl);
+            if (expired > 0) {
+                logger.warn("알림이 끊긴 노드 {}개를 경로에서 제외했습니다", expired);
+            }
+        } catch (Exception e) {
+            logger.error("노드 간 경로 알림 중 오류 발생", e);
+        }
+    }
+
+    public ClusterRoutingTable getRoutingTable() {
+        return routingTable;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public boolean isEnabled() {
+        return transport != null;
+    }
+
+    private int send(ClusterTransport current, List<String> targets, News news, String customerId) {
+        String message;
+        try {
+            message = encodeNews(current, news, customerId);
+        } catch (JsonProcessingException e) {
+            logger.error("노드 간 뉴스 메시지 직렬화 중 오류 발생: 뉴스 ID: {}", news.getId(), e);
+            failedCounter.increment(targets.size());
+            return 0;
+        }
+
+        int sent = 0;
+        for (String target : targets) {
+            if (current.send(target, message)) {
+                sent++;
+            } else {
+                failedCounter.increment();
+                logger.warn("다른 노드로 뉴스를 보내지 못했습니다: 노드: {}, 뉴스 ID: {}", target, news.getId());
+            }
+        }
+        relayedCounter.increment(sent);
+        logger.debug("뉴스 노드 간 전달 완료: 뉴스 ID: {}, 대상 노드: {}개, 성공: {}개", news.getId(), targets.size(), sent);
+        return sent;
+    }
+
+    /**
+     * 뉴스 메시지 직렬화 (메시지 크기 한도를 넘으면 ID만 보냄)
+     */
+    private String encodeNews(ClusterTransport current, News news, String customerId) throws JsonProcessingException {
+        ClusterMessage message = new ClusterMessage(ClusterMessage.Type.NEWS, nodeId);
+        message.setCustomerId(customerId);
+        NewsDto dto = new NewsDto(news.getId(), news.getTitle(), news.getContent(), news.getPublishedAt());
+        dto.setCreatedAt(news.getCreatedAt());
+        message.setNews(dto);
+        String json = objectMapper.writeValueAsString(message);
+        if (json.getBytes(StandardCharsets.UTF_8).length <= current.maxMessageBytes()) {
+            return json;
+        }
+        message.setNews(null);
+        message.setNewsId(news.getId());
+        return objectMapper.writeValueAsString(message);
+    }
+
+    private void onMessage(String raw) {
+        ClusterMessage message;
+        try {
+            message = objectMapper.readValue(raw, ClusterMessage.class);
+        } catch (JsonProcessingException e) {
+            logger.warn("노드 간 메시지를 해석할 수 없습니다: {}", raw, e);
+            return;
+        }
+        if (message.getType() == null || nodeId.equals(message.getNodeId())) {
+            return;
+        }
+
+        switch (message.getType()) {
+            case NEWS -> receiveNews(message);
+            case ROUTES -> {
+                List<String> customerIds = message.getCustomerIds() != null ? message.getCustomerIds() : List.of();
+                if (routingTable.addRoutes(message.getNodeId(), customerIds, System.currentTimeMillis())) {
+                    // 새 노드가 이 노드의 경로를 바로 알 수 있도록 다음 확인 때 전체 목록 알림
+                    refreshRequested = true;
+                    logger.info("새 노드를 발견했습니다: {}", message.getNodeId());
+                }
+            }
+            case UNROUTE -> {
+                if (message.getCustomerIds() != null) {
+                    routingTable.removeRoutes(message.getNodeId(), message.getCustomerIds());
+                }
+            }
+            case LEAVE -> {
+                routingTable.removeNode(message.getNodeId());
+                logger.info("노드가 종료되어 경로에서 제외했습니다: {}", message.getNodeId());
+            }
+        }
+    }
+
+    /**
+     * 다른 노드에서 받은 뉴스 중복 확인 후 전송 예약 (수신 스레드에서 호출)
+     *
+     * 특정 고객사 대상 메시지는 그 고객사의 재전송이므로 중복 확인 없이 보냅니다.
+     */
+    private void receiveNews(ClusterMessage message) {
+        String newsId = message.getNews() != null ? message.getNews().getId() : message.getNewsId();
+        boolean broadcast = message.getCustomerId() == null;
+        if (broadcast && newsId != null && !deliveredIds.markIfAbsent(newsId)) {
+            duplicateCounter.increment();
+            logger.debug("이미 이 노드의 고객사에게 보낸 뉴스라 버립니다: 노드: {}, 뉴스 ID: {}", message.getNodeId(), newsId);
+            return;
+        }
+        try {
+            receivers.execute(() -> deliverLocally(message, newsId, broadcast));
+        } catch (Exception e) {
+            // 종료 중에는 실행기가 작업을 받지 않음
+            logger.warn("다른 노드에서 받은 뉴스를 전송할 수 없습니다: 뉴스 ID: {}", newsId, e);
+        }
+    }
+
+    /**
+     * 다른 노드에서 받은 뉴스를 이 노드의 고객사에게만 전송 (다시 전달하지 않음)
+     */
+    private void deliverLocally(ClusterMessage message, String newsId, boolean broadcast) {
+        try {
+            News news = toNews(message);
+            if (news == null) {
+                logger.warn("다른 노드에서 받은 뉴스를 찾을 수 없습니다: 노드: {}, 뉴스 ID: {}", message.getNodeId(), newsId);
+                if (broadcast && newsId != null) {
+                    deliveredIds.forget(newsId);
+                }
+                return;
+            }
+            receivedCounter.increment();
+            if (broadcast) {
+                webSocketService.broadcastNewsToAllCustomers(news);
+            } else {
+                webSocketService.sendNewsToCustomer(message.getCustomerId(), news);
+            }
+        } catch (Exception e) {
+            logger.error("다른 노드에서 받은 뉴스 전송 중 오류 발생: 노드: {}, 뉴스 ID: {}", message.getNodeId(), newsId, e);
+        }
+    }
+
+    private News toNews(ClusterMessage message) {
+        NewsDto dto = message.getNews();
+        if (dto == null) {
+            return message.getNewsId() != null ? newsService.getNewsById(message.getNewsId()) : null;
+        }
+        News news = new News(dto.getId(), dto.getTitle(), dto.getContent(), dto.getPublishedAt());
+        news.setCreatedAt(dto.getCreatedAt());
+        return news;
+    }
+
+    /**
+     * 고객사 ID 목록을 메시지 크기 한도에 맞게 나눠 모든 노드에 알림 (빈 목록이면 노드가 살아 있다는 알림 한 건)
+     */
+    private void publishCustomerIds(ClusterMessage.Type type, Set<String> customerIds) throws JsonProcessingException {
+        int budget = Math.max(MESSAGE_OVERHEAD_BYTES, transport.maxMessageBytes() - MESSAGE_OVERHEAD_BYTES);
+        List<String> chunk = new ArrayList<>();
+        int chunkBytes = 0;
+        for (String customerId : customerIds) {
+            // 따옴표와 쉼표 포함
+            int bytes = customerId.getBytes(StandardCharsets.UTF_8).length + 3;
+            if (!chunk.isEmpty() && chunkBytes + bytes > budget) {
+                publishChunk(type, chunk);
+                chunk = new ArrayList<>();
+                chunkBytes = 0;
+            }
+            chunk.add(customerId);
+            chunkBytes += bytes;
+        }
+        if (!chunk.isEmpty() || type == ClusterMessage.Type.ROUTES) {
+            publishChunk(type, chunk);
+        }
+    }
+
+    private void publishChunk(ClusterMessage.Type type, List<String> customerIds) throws JsonProcessingException {
+        ClusterMessage message = new ClusterMessage(type, nodeId);
+        message.setCustomerIds(customerIds);
+        transport.publish(objectMapper.writeValueAsString(message));
+    }
+
+    private void publish(ClusterMessage message) {
+        try {
+            transport.publish(objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            logger.warn("노드 간 메시지 전송 실패: {}", message.getType(), e);
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + ProcessHandle.current().pid();
+    }
+}
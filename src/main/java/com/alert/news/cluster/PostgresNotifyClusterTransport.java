@@ -0,0 +1,187 @@
+package com.alert.news.cluster;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Postgres NOTIFY 기반 노드 간 전송
+ *
+ * 노드마다 자기 채널(news_relay_to_{노드 ID})과 전체 채널(news_relay_broadcast)을 LISTEN하고,
+ * 다른 노드에는 pg_notify로 그 노드의 채널에만 보냅니다. 메시지는 노드마다 한 번만 DB를 거칩니다.
+ *
+ * NOTIFY payload는 8000 bytes 미만이어야 하며, 연결이 끊긴 동안 보낸 메시지는 받지 못합니다.
+ * {@link com.alert.news.queue.NewsInsertListener}와 같이 풀의 연결을 점유하지 않도록 수신용과 전송용 연결을 직접 엽니다.
+ */
+public class PostgresNotifyClusterTransport implements ClusterTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresNotifyClusterTransport.class);
+
+    static final String BROADCAST_CHANNEL = "news_relay_broadcast";
+    static final String NODE_CHANNEL_PREFIX = "news_relay_to_";
+
+    // NOTIFY payload 한도 (8000 bytes 미만)
+    private static final int MAX_PAYLOAD_BYTES = 7999;
+    // Postgres 식별자 최대 길이
+    private static final int MAX_CHANNEL_LENGTH = 63;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int healthCheckInterval;
+    private final long reconnectDelay;
+    private final long maxReconnectDelay;
+
+    private Thread listenerThread;
+    private volatile Connection listenConnection;
+    // this 잠금 안에서만 사용
+    private Connection sendConnection;
+    private PreparedStatement notifyStatement;
+
+    public PostgresNotifyClusterTransport(String url, String username, String password,
+                                          int healthCheckInterval, long reconnectDelay, long maxReconnectDelay) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.healthCheckInterval = healthCheckInterval;
+        this.reconnectDelay = reconnectDelay;
+        this.maxReconnectDelay = maxReconnectDelay;
+    }
+
+    @Override
+    public void start(String nodeId, Consumer<String> handler) {
+        String channel = channelFor(nodeId);
+        // JDBC 소켓 읽기는 가상 스레드를 고정시키므로 플랫폼 스레드 사용
+        listenerThread = Thread.ofPlatform().daemon(true).name("news-cluster-listener")
+                .start(() -> listen(channel, handler));
+        logger.info("노드 간 전송 수신 시작: 채널: {}, {}", channel, BROADCAST_CHANNEL);
+    }
+
+    @Override
+    public boolean send(String nodeId, String message) {
+        return notify(channelFor(nodeId), message);
+    }
+
+    @Override
+    public boolean publish(String message) {
+        return notify(BROADCAST_CHANNEL, message);
+    }
+
+    @Override
+    public int maxMessageBytes() {
+        return MAX_PAYLOAD_BYTES;
+    }
+
+    @Override
+    public void close() {
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+        closeQuietly(listenConnection);
+        synchronized (this) {
+            closeQuietly(sendConnection);
+            sendConnection = null;
+            notifyStatement = null;
+        }
+    }
+
+    /**
+     * 노드 ID의 채널 이름 (LISTEN에 그대로 쓸 수 있도록 소문자, 숫자, 밑줄만 남김)
+     */
+    static String channelFor(String nodeId) {
+        String channel = NODE_CHANNEL_PREFIX + nodeId.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9_]", "_");
+        if (channel.length() > MAX_CHANNEL_LENGTH) {
+            // 잘라낸 이름끼리 겹치지 않도록 원래 ID의 해시를 붙임
+            String hash = Integer.toHexString(nodeId.hashCode());
+            channel = channel.substring(0, MAX_CHANNEL_LENGTH - hash.length() - 1) + "_" + hash;
+        }
+        return channel;
+    }
+
+    private synchronized boolean notify(String channel, String message) {
+        try {
+            if (notifyStatement == null) {
+                sendConnection = DriverManager.getConnection(url, username, password);
+                notifyStatement = sendConnection.prepareStatement("SELECT pg_notify(?, ?)");
+            }
+            notifyStatement.setString(1, channel);
+            notifyStatement.setString(2, message);
+            notifyStatement.execute();
+            return true;
+        } catch (SQLException e) {
+            // 다음 전송 때 다시 연결
+            logger.warn("노드 간 메시지 전송 실패: 채널: {}", channel, e);
+            closeQuietly(sendConnection);
+            sendConnection = null;
+            notifyStatement = null;
+            return false;
+        }
+    }
+
+    private void listen(String channel, Consumer<String> handler) {
+        long delay = reconnectDelay;
+        while (!Thread.currentThread().isInterrupted()) {
+            try (Connection conn = DriverManager.getConnection(url, username, password)) {
+                listenConnection = conn;
+                PGConnection pgConnection = conn.unwrap(PGConnection.class);
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                    statement.execute("LISTEN " + BROADCAST_CHANNEL);
+                }
+                delay = reconnectDelay;
+
+                while (!Thread.currentThread().isInterrupted()) {
+                    PGNotification[] notifications = pgConnection.getNotifications(healthCheckInterval);
+                    if (notifications == null || notifications.length == 0) {
+                        // 조용히 끊긴 연결을 찾아내기 위한 확인
+                        try (Statement statement = conn.createStatement()) {
+                            statement.execute("SELECT 1");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        try {
+                            handler.accept(notification.getParameter());
+                        } catch (Exception e) {
+                            logger.error("노드 간 메시지 처리 중 오류 발생: 채널: {}", notification.getName(), e);
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                logger.warn("노드 간 전송 수신 연결 오류, {}ms 후 다시 연결합니다", delay, e);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                delay = Math.min(delay * 2, maxReconnectDelay);
+            } finally {
+                listenConnection = null;
+            }
+        }
+    }
+
+    private void closeQuietly(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            logger.debug("노드 간 전송 연결 종료 중 오류", e);
+        }
+    }
+}
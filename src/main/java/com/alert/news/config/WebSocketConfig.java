@@ -1,21 +1,43 @@
 package com.alert.news.config;
 
+import com.alert.news.websocket.NewsSubscriptionInterceptor;
+import com.alert.news.websocket.OutboundSocketMonitor;
+import com.alert.news.websocket.WebSocketCompressionTracker;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * WebSocket 설정 클래스
  * 
  * STOMP 메시징을 위한 WebSocket 설정을 담당합니다.
  * 클라이언트와의 실시간 통신을 위한 엔드포인트와 메시지 브로커를 구성합니다.
+ * 뉴스 구독 권한은 {@link NewsSubscriptionInterceptor}가 클라이언트 입출력 채널에서 확인합니다.
+ * 압축(permessage-deflate)은 클라이언트가 요청하면 컨테이너가 협상하고, {@link WebSocketCompressionTracker}가 결과를 기록합니다.
+ * 소켓 쓰기는 {@link OutboundSocketMonitor}가 세션별 writer로 넘겨, 느린 소비자 판단에 쓸 소켓 버퍼 크기와 쓰기 시간을 잽니다.
  */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final NewsSubscriptionInterceptor newsSubscriptionInterceptor;
+    private final WebSocketCompressionTracker compressionTracker;
+    private final OutboundSocketMonitor socketMonitor;
+
+    @Autowired
+    public WebSocketConfig(NewsSubscriptionInterceptor newsSubscriptionInterceptor,
+                           WebSocketCompressionTracker compressionTracker,
+                           OutboundSocketMonitor socketMonitor) {
+        this.newsSubscriptionInterceptor = newsSubscriptionInterceptor;
+        this.compressionTracker = compressionTracker;
+        this.socketMonitor = socketMonitor;
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // WebSocket 연결을 위한 엔드포인트 등록
@@ -41,4 +63,24 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // 사용자별 메시지 전송을 위한 prefix 설정
         registry.setUserDestinationPrefix("/user");
     }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 연결별 압축 협상 결과 기록
+        registration.addDecoratorFactory(compressionTracker);
+        // 소켓 쓰기를 세션별 writer로 넘기고 밀린 바이트 수와 쓰기 시간 측정
+        registration.addDecoratorFactory(socketMonitor);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // 인증하지 않은 세션의 뉴스 토픽 구독, 브로커 내부 뉴스 주소 직접 구독 거부
+        registration.interceptors(newsSubscriptionInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 구독 이후 연결 해제/비활성화된 세션으로 가는 뉴스 토픽 메시지 제거
+        registration.interceptors(newsSubscriptionInterceptor);
+    }
 }
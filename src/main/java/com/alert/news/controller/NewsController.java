@@ -2,6 +2,7 @@ package com.alert.news.controller;
 
 import com.alert.news.dto.NewsDto;
 import com.alert.news.model.News;
+import com.alert.news.service.NewsContentCache;
 import com.alert.news.service.NewsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,9 +10,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -26,11 +29,15 @@ import java.util.List;
 @Tag(name = "News", description = "뉴스 관련 API")
 public class NewsController {
 
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
     private final NewsService newsService;
+    private final NewsContentCache newsContentCache;
 
     @Autowired
-    public NewsController(NewsService newsService) {
+    public NewsController(NewsService newsService, NewsContentCache newsContentCache) {
         this.newsService = newsService;
+        this.newsContentCache = newsContentCache;
     }
 
     /**
@@ -51,6 +58,30 @@ public class NewsController {
         return ResponseEntity.ok(newsDto);
     }
 
+    /**
+     * 뉴스 본문 조회 (headline 구성 연결용)
+     *
+     * 브로드캐스트 시점에 채운 본문 캐시에서 응답하고, 캐시에 없을 때만 DB를 조회해 캐시에 넣습니다.
+     */
+    @GetMapping("/{id}/content")
+    @Operation(summary = "뉴스 본문 조회", description = "제목만 받은 뉴스의 본문을 text/plain으로 조회합니다.")
+    public ResponseEntity<byte[]> getNewsContent(
+            @Parameter(description = "뉴스 ID", required = true)
+            @PathVariable String id) {
+        
+        byte[] content = newsContentCache.get(id);
+        if (content == null) {
+            News news = newsService.getNewsById(id);
+            if (news == null) {
+                return ResponseEntity.notFound().build();
+            }
+            newsContentCache.put(id, news.getContent());
+            content = news.getContent().getBytes(StandardCharsets.UTF_8);
+        }
+        
+        return ResponseEntity.ok().contentType(TEXT_PLAIN_UTF8).body(content);
+    }
+
     /**
      * 뉴스 목록 조회 (페이징)
      */
@@ -1,21 +1,38 @@
 package com.alert.news.controller;
 
+import com.alert.news.dto.BulkEnqueueRequestDto;
+import com.alert.news.dto.BulkEnqueueResponseDto;
+import com.alert.news.queue.DeadLetter;
+import com.alert.news.queue.EnqueueResult;
+import com.alert.news.queue.NewsPriority;
 import com.alert.news.queue.NewsQueueProcessor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 메시지 큐 REST API 컨트롤러
  * 
  * 메시지 큐 상태 조회 및 테스트를 위한 REST API를 제공합니다.
  * Swagger/OpenAPI 문서화를 위한 어노테이션을 포함합니다.
+ *
+ * 큐가 가득 차서 거부된 경우 429 상태와 Retry-After 헤더로 응답해 생산자가 과부하를 알 수 있게 합니다.
+ * 처리하지 못한 뉴스 ID(dead letter)는 조회하거나 한 번의 요청으로 큐에 다시 넣을 수 있습니다.
  */
 @RestController
+@Validated
 @RequestMapping("/api/v1/queue")
 @Tag(name = "Queue", description = "메시지 큐 관련 API")
 public class QueueController {
@@ -44,15 +61,96 @@ public class QueueController {
     @Operation(summary = "뉴스 ID 큐 추가", description = "테스트를 위해 뉴스 ID를 메시지 큐에 추가합니다.")
     public ResponseEntity<String> enqueueNewsId(
             @Parameter(description = "뉴스 ID", required = true)
-            @RequestParam String newsId) {
+            @RequestParam @NotBlank(message = "뉴스 ID는 비어 있을 수 없습니다") String newsId,
+
+            @Parameter(description = "우선순위 (HIGH, NORMAL, LOW)", example = "NORMAL")
+            @RequestParam(defaultValue = "NORMAL") NewsPriority priority) {
         
-        try {
-            newsQueueProcessor.enqueueNewsId(newsId);
-            return ResponseEntity.ok("뉴스 ID가 큐에 추가되었습니다: " + newsId);
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("뉴스 ID 큐 추가 중 오류가 발생했습니다: " + e.getMessage());
+        EnqueueResult result = newsQueueProcessor.enqueueNewsId(newsId, priority);
+        return switch (result) {
+            case ACCEPTED -> ResponseEntity.ok("뉴스 ID가 큐에 추가되었습니다: " + newsId);
+            case DUPLICATE -> ResponseEntity.ok("최근에 추가된 뉴스 ID라서 무시되었습니다: " + newsId);
+            case REJECTED, TIMED_OUT -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(newsQueueProcessor.getRetryAfterSeconds()))
+                    .body("큐가 가득 차서 뉴스 ID를 추가할 수 없습니다: " + newsId);
+            case FAILED -> ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("뉴스 ID 큐 추가 중 오류가 발생했습니다: " + newsId);
+        };
+    }
+
+    /**
+     * 요청 파라미터 검증 실패 (빈 뉴스 ID 등)
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<String> handleConstraintViolation(ConstraintViolationException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    /**
+     * 뉴스 ID 일괄 큐 추가
+     */
+    @PostMapping("/news/bulk")
+    @Operation(summary = "뉴스 ID 일괄 큐 추가",
+               description = "여러 뉴스 ID를 한 번에 메시지 큐에 추가하고 ID별 결과를 반환합니다. "
+                           + "과부하로 거부된 ID가 있으면 429와 Retry-After 헤더로 응답합니다.")
+    public ResponseEntity<BulkEnqueueResponseDto> enqueueNewsIds(@Valid @RequestBody BulkEnqueueRequestDto request) {
+        List<String> newsIds = request.getNewsIds();
+        NewsPriority priority = request.getPriority() != null ? request.getPriority() : NewsPriority.NORMAL;
+        List<EnqueueResult> results = newsQueueProcessor.enqueueNewsIds(newsIds, priority);
+
+        List<BulkEnqueueResponseDto.ItemResult> itemResults = new ArrayList<>(results.size());
+        int accepted = 0;
+        int rejected = 0;
+        for (int i = 0; i < results.size(); i++) {
+            EnqueueResult result = results.get(i);
+            itemResults.add(new BulkEnqueueResponseDto.ItemResult(newsIds.get(i), result));
+            if (result.isAccepted()) {
+                accepted++;
+            } else if (result.isRetryable()) {
+                rejected++;
+            }
+        }
+
+        if (rejected == 0) {
+            return ResponseEntity.ok(new BulkEnqueueResponseDto(accepted, 0, null, itemResults));
+        }
+        long retryAfter = newsQueueProcessor.getRetryAfterSeconds();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                .body(new BulkEnqueueResponseDto(accepted, rejected, retryAfter, itemResults));
+    }
+
+    /**
+     * dead letter 조회
+     */
+    @GetMapping("/dead-letters")
+    @Operation(summary = "dead letter 조회", description = "처리하지 못한 뉴스 ID를 실패 사유, 실패 고객사와 함께 오래된 순서로 조회합니다.")
+    public ResponseEntity<List<DeadLetter>> getDeadLetters(
+            @Parameter(description = "최대 조회 개수", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(newsQueueProcessor.getDeadLetters(limit));
+    }
+
+    /**
+     * dead letter 재처리
+     */
+    @PostMapping("/dead-letters/replay")
+    @Operation(summary = "dead letter 재처리",
+               description = "보관 중인 dead letter를 설정된 배치 크기와 간격으로 속도를 제한해 큐에 다시 넣습니다. "
+                           + "전송에 실패한 고객사가 기록된 항목은 그 고객사에게만 다시 보냅니다. "
+                           + "재처리는 백그라운드에서 진행되며 진행 상황은 큐 상태 조회로 확인합니다.")
+    public ResponseEntity<String> replayDeadLetters(
+            @Parameter(description = "재처리할 최대 개수 (0이면 전체)", example = "0")
+            @RequestParam(defaultValue = "0") int limit) {
+
+        if (!newsQueueProcessor.isDeadLetterEnabled()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("dead letter 보관소가 비활성화되어 있습니다.");
+        }
+        int target = newsQueueProcessor.startDeadLetterReplay(limit);
+        if (target < 0) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("이미 dead letter 재처리가 진행 중입니다.");
         }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body("dead letter 재처리를 시작했습니다: " + target + "개");
     }
 
     /**
@@ -68,6 +166,8 @@ public class QueueController {
             status.getCapacity(),
             status.getRemainingCapacity(),
             status.getUtilizationRate(),
+            status.getRejectedCount(),
+            status.getEvictedCount(),
             System.currentTimeMillis()
         );
         
@@ -82,14 +182,18 @@ public class QueueController {
         private final int capacity;
         private final int remainingCapacity;
         private final double utilizationRate;
+        private final long rejectedCount;
+        private final long evictedCount;
         private final long timestamp;
 
         public QueueStatistics(int currentSize, int capacity, int remainingCapacity, 
-                             double utilizationRate, long timestamp) {
+                             double utilizationRate, long rejectedCount, long evictedCount, long timestamp) {
             this.currentSize = currentSize;
             this.capacity = capacity;
             this.remainingCapacity = remainingCapacity;
             this.utilizationRate = utilizationRate;
+            this.rejectedCount = rejectedCount;
+            this.evictedCount = evictedCount;
             this.timestamp = timestamp;
         }
 
@@ -98,6 +202,8 @@ public class QueueController {
         public int getCapacity() { return capacity; }
         public int getRemainingCapacity() { return remainingCapacity; }
         public double getUtilizationRate() { return utilizationRate; }
+        public long getRejectedCount() { return rejectedCount; }
+        public long getEvictedCount() { return evictedCount; }
         public long getTimestamp() { return timestamp; }
 
         @Override
@@ -107,6 +213,8 @@ public class QueueController {
                     ", capacity=" + capacity +
                     ", remainingCapacity=" + remainingCapacity +
                     ", utilizationRate=" + utilizationRate +
+                    ", rejectedCount=" + rejectedCount +
+                    ", evictedCount=" + evictedCount +
                     ", timestamp=" + timestamp +
                     '}';
         }
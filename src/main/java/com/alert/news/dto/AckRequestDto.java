@@ -0,0 +1,38 @@
+package com.alert.news.dto;
+
+import java.util.List;
+
+/**
+ * 수신 확인 요청 DTO
+ * 
+ * ack 연결이 받은 뉴스의 sequence를 /app/ack로 보내는 요청 정보입니다.
+ * 여러 건을 한 번에 확인할 수 있으며, 묶음 프레임을 받는 연결은 프레임 하나의 sequence를 모아 보내면 됩니다.
+ */
+public class AckRequestDto {
+
+    private List<Long> sequences;
+
+    // 기본 생성자
+    public AckRequestDto() {}
+
+    // 생성자
+    public AckRequestDto(List<Long> sequences) {
+        this.sequences = sequences;
+    }
+
+    // Getter & Setter
+    public List<Long> getSequences() {
+        return sequences;
+    }
+
+    public void setSequences(List<Long> sequences) {
+        this.sequences = sequences;
+    }
+
+    @Override
+    public String toString() {
+        return "AckRequestDto{" +
+                "sequences=" + sequences +
+                '}';
+    }
+}
@@ -15,6 +15,21 @@ public class AuthRequestDto {
     @NotBlank(message = "인증 토큰은 필수입니다")
     private String token;
 
+    // 뉴스 프레임 구성 방식: single (기본값, 한 건씩) | batch (묶어서 JSON 배열로)
+    private String framing;
+
+    // 뉴스 payload 인코딩: json (기본값) | cbor (바이너리 프레임)
+    private String encoding;
+
+    // 뉴스 payload 구성: full (기본값, 본문 포함) | headline (id, title, publishedAt만)
+    private String profile;
+
+    // 재연결 시 마지막으로 받은 뉴스의 sequence (보내면 그 이후 브로드캐스트를 다시 받음)
+    private Long lastSequence;
+
+    // 수신 확인 사용 여부 (true면 뉴스마다 /app/ack로 sequence를 보내야 하며, 확인하지 않은 뉴스는 다시 받음)
+    private Boolean ack;
+
     // 기본 생성자
     public AuthRequestDto() {}
 
@@ -41,11 +56,56 @@ public class AuthRequestDto {
         this.token = token;
     }
 
+    public String getFraming() {
+        return framing;
+    }
+
+    public void setFraming(String framing) {
+        this.framing = framing;
+    }
+
+    public String getEncoding() {
+        return encoding;
+    }
+
+    public void setEncoding(String encoding) {
+        this.encoding = encoding;
+    }
+
+    public String getProfile() {
+        return profile;
+    }
+
+    public void setProfile(String profile) {
+        this.profile = profile;
+    }
+
+    public Long getLastSequence() {
+        return lastSequence;
+    }
+
+    public void setLastSequence(Long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+
+    public Boolean getAck() {
+        return ack;
+    }
+
+    public void setAck(Boolean ack) {
+        this.ack = ack;
+    }
+
     @Override
     public String toString() {
         return "AuthRequestDto{" +
                 "customerId='" + customerId + '\'' +
                 ", token='" + token + '\'' +
+                ", framing='" + framing + '\'' +
+                ", encoding='" + encoding + '\'' +
+                ", profile='" + profile + '\'' +
+                ", lastSequence=" + lastSequence +
+                ", ack=" + ack +
                 '}';
     }
 }
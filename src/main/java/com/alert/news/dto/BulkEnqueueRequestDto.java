@@ -0,0 +1,55 @@
+package com.alert.news.dto;
+
+import com.alert.news.queue.NewsPriority;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 뉴스 ID 일괄 큐 추가 요청 DTO
+ * 
+ * 생산자가 여러 뉴스 ID를 한 번의 요청으로 큐에 넣을 때 사용합니다.
+ */
+public class BulkEnqueueRequestDto {
+
+    @NotEmpty(message = "뉴스 ID 목록은 필수입니다")
+    @Size(max = 1000, message = "한 번에 최대 1000개까지 추가할 수 있습니다")
+    private List<@NotBlank(message = "뉴스 ID는 비어 있을 수 없습니다") String> newsIds;
+
+    private NewsPriority priority = NewsPriority.NORMAL;
+
+    // 기본 생성자
+    public BulkEnqueueRequestDto() {}
+
+    // 생성자
+    public BulkEnqueueRequestDto(List<String> newsIds, NewsPriority priority) {
+        this.newsIds = newsIds;
+        this.priority = priority;
+    }
+
+    // Getter & Setter
+    public List<String> getNewsIds() {
+        return newsIds;
+    }
+
+    public void setNewsIds(List<String> newsIds) {
+        this.newsIds = newsIds;
+    }
+
+    public NewsPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(NewsPriority priority) {
+        this.priority = priority;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkEnqueueRequestDto{" +
+                "newsIds=" + newsIds +
+                ", priority=" + priority +
+                '}';
+    }
+}
@@ -0,0 +1,101 @@
+package com.alert.news.dto;
+
+import com.alert.news.queue.EnqueueResult;
+import java.util.List;
+
+/**
+ * 뉴스 ID 일괄 큐 추가 응답 DTO
+ * 
+ * 요청한 순서대로 ID별 추가 결과를 담습니다.
+ * 과부하로 거부된 ID가 있으면 retryAfterSeconds 뒤에 해당 ID만 다시 보내면 됩니다.
+ */
+public class BulkEnqueueResponseDto {
+
+    private int acceptedCount;
+    private int rejectedCount;
+    private Long retryAfterSeconds;
+    private List<ItemResult> results;
+
+    // 기본 생성자
+    public BulkEnqueueResponseDto() {}
+
+    // 생성자
+    public BulkEnqueueResponseDto(int acceptedCount, int rejectedCount, Long retryAfterSeconds,
+                                  List<ItemResult> results) {
+        this.acceptedCount = acceptedCount;
+        this.rejectedCount = rejectedCount;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.results = results;
+    }
+
+    // Getter & Setter
+    public int getAcceptedCount() {
+        return acceptedCount;
+    }
+
+    public void setAcceptedCount(int acceptedCount) {
+        this.acceptedCount = acceptedCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public void setRejectedCount(int rejectedCount) {
+        this.rejectedCount = rejectedCount;
+    }
+
+    public Long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(Long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public List<ItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<ItemResult> results) {
+        this.results = results;
+    }
+
+    /**
+     * 뉴스 ID별 추가 결과
+     */
+    public static class ItemResult {
+        private String newsId;
+        private EnqueueResult result;
+
+        // 기본 생성자
+        public ItemResult() {}
+
+        // 생성자
+        public ItemResult(String newsId, EnqueueResult result) {
+            this.newsId = newsId;
+            this.result = result;
+        }
+
+        // Getter & Setter
+        public String getNewsId() {
+            return newsId;
+        }
+
+        public void setNewsId(String newsId) {
+            this.newsId = newsId;
+        }
+
+        public EnqueueResult getResult() {
+            return result;
+        }
+
+        public void setResult(EnqueueResult result) {
+            this.result = result;
+        }
+
+        public boolean isAccepted() {
+            return result != null && result.isAccepted();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.alert.news.dto;
+
+import java.util.List;
+
+/**
+ * 키워드 구독 요청 DTO
+ * 
+ * 고객사가 WebSocket으로 받을 뉴스를 키워드로 거르기 위해 전송하는 요청 정보입니다.
+ * 빈 목록을 보내면 구독을 해제하고 모든 뉴스를 받습니다.
+ */
+public class KeywordSubscriptionRequestDto {
+
+    private List<String> keywords;
+
+    // 기본 생성자
+    public KeywordSubscriptionRequestDto() {}
+
+    // 생성자
+    public KeywordSubscriptionRequestDto(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    // Getter & Setter
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public void setKeywords(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    @Override
+    public String toString() {
+        return "KeywordSubscriptionRequestDto{" +
+                "keywords=" + keywords +
+                '}';
+    }
+}
@@ -0,0 +1,64 @@
+package com.alert.news.dto;
+
+import java.util.List;
+
+/**
+ * 키워드 구독 응답 DTO
+ * 
+ * 키워드 구독 결과와 정규화된(소문자, 중복 제거) 구독 키워드를 전송하는 응답 정보입니다.
+ */
+public class KeywordSubscriptionResponseDto {
+
+    private boolean success;
+    private String message;
+    private List<String> keywords;
+
+    // 기본 생성자
+    public KeywordSubscriptionResponseDto() {}
+
+    // 성공 응답 생성자
+    public KeywordSubscriptionResponseDto(boolean success, String message, List<String> keywords) {
+        this.success = success;
+        this.message = message;
+        this.keywords = keywords;
+    }
+
+    // 실패 응답 생성자
+    public KeywordSubscriptionResponseDto(boolean success, String message) {
+        this(success, message, List.of());
+    }
+
+    // Getter & Setter
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public void setKeywords(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    @Override
+    public String toString() {
+        return "KeywordSubscriptionResponseDto{" +
+                "success=" + success +
+                ", message='" + message + '\'' +
+                ", keywords=" + keywords +
+                '}';
+    }
+}
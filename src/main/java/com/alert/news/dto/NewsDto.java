@@ -1,6 +1,7 @@
 package com.alert.news.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
@@ -29,6 +30,10 @@ public class NewsDto {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime createdAt;
 
+    // 브로드캐스트 순번 (재연결 시 인증 요청의 lastSequence로 사용, 브로드캐스트가 아니면 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long sequence;
+
     // 기본 생성자
     public NewsDto() {}
 
@@ -81,6 +86,14 @@ public class NewsDto {
         this.createdAt = createdAt;
     }
 
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
     @Override
     public String toString() {
         return "NewsDto{" +
@@ -89,6 +102,7 @@ public class NewsDto {
                 ", content='" + content + '\'' +
                 ", publishedAt=" + publishedAt +
                 ", createdAt=" + createdAt +
+                ", sequence=" + sequence +
                 '}';
     }
 }
@@ -0,0 +1,78 @@
+package com.alert.news.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 제목 데이터 전송 객체 (DTO)
+ * 
+ * headline 구성을 고른 연결에 WebSocket으로 전송하는 DTO입니다.
+ * 본문은 포함하지 않으며 /api/v1/news/{id}/content로 따로 조회합니다.
+ */
+public class NewsHeadlineDto {
+
+    private String id;
+
+    private String title;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime publishedAt;
+
+    // 브로드캐스트 순번 (재연결 시 인증 요청의 lastSequence로 사용, 브로드캐스트가 아니면 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long sequence;
+
+    // 기본 생성자
+    public NewsHeadlineDto() {}
+
+    // 생성자
+    public NewsHeadlineDto(String id, String title, LocalDateTime publishedAt) {
+        this.id = id;
+        this.title = title;
+        this.publishedAt = publishedAt;
+    }
+
+    // Getter & Setter
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public void setPublishedAt(LocalDateTime publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    @Override
+    public String toString() {
+        return "NewsHeadlineDto{" +
+                "id='" + id + '\'' +
+                ", title='" + title + '\'' +
+                ", publishedAt=" + publishedAt +
+                ", sequence=" + sequence +
+                '}';
+    }
+}
@@ -0,0 +1,156 @@
+package com.alert.news.model;
+
+import com.alert.news.queue.NewsPriority;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 이벤트 아웃박스 엔티티
+ * 
+ * 뉴스가 추가되는 트랜잭션 안에서 트리거로 함께 기록되는 전송 대상 이벤트입니다.
+ * 각 노드는 처리 대기 중인 이벤트를 나눠서 점유(claim)한 뒤 전송하고 완료로 표시합니다.
+ * 점유한 노드가 죽으면 점유 제한 시간이 지난 뒤 다른 노드가 다시 점유합니다 (at-least-once).
+ */
+@Entity
+@Table(name = "news_outbox")
+public class NewsOutbox {
+
+    /**
+     * 아웃박스 이벤트 처리 상태
+     */
+    public enum Status {
+        PENDING,
+        PROCESSING,
+        DONE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "news_id", nullable = false, length = 100)
+    private String newsId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", nullable = false, length = 10)
+    private NewsPriority priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "claimed_by", length = 200)
+    private String claimedBy;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    // 기본 생성자
+    public NewsOutbox() {
+        this.priority = NewsPriority.NORMAL;
+        this.status = Status.PENDING;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // 생성자
+    public NewsOutbox(String newsId, NewsPriority priority) {
+        this();
+        this.newsId = newsId;
+        this.priority = priority;
+    }
+
+    // Getter & Setter
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getNewsId() {
+        return newsId;
+    }
+
+    public void setNewsId(String newsId) {
+        this.newsId = newsId;
+    }
+
+    public NewsPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(NewsPriority priority) {
+        this.priority = priority;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public void setClaimedBy(String claimedBy) {
+        this.claimedBy = claimedBy;
+    }
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public void setClaimedAt(LocalDateTime claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+
+    public void setProcessedAt(LocalDateTime processedAt) {
+        this.processedAt = processedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "NewsOutbox{" +
+                "id=" + id +
+                ", newsId='" + newsId + '\'' +
+                ", priority=" + priority +
+                ", status=" + status +
+                ", attempts=" + attempts +
+                ", claimedBy='" + claimedBy + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,22 @@
+package com.alert.news.queue;
+
+/**
+ * 큐가 가득 찼을 때의 입장 제어 정책 (queue.admission.policy 설정값)
+ */
+public enum AdmissionPolicy {
+
+    /**
+     * 즉시 거부 (REST 응답은 429와 Retry-After)
+     */
+    REJECT,
+
+    /**
+     * 빈 자리가 생길 때까지 queue.admission.block-timeout(ms) 동안 대기 후 거부
+     */
+    BLOCK,
+
+    /**
+     * 같은 레인에서 가장 오래된 항목을 버리고 추가
+     */
+    EVICT_OLDEST
+}
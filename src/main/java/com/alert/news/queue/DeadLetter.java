@@ -0,0 +1,50 @@
+package com.alert.news.queue;
+
+import java.util.List;
+
+/**
+ * 처리하지 못한 뉴스 ID 기록 (dead letter)
+ *
+ * 실패 사유와 오류 메시지, 전송에 실패한 고객사 ID를 함께 담습니다.
+ */
+public final class DeadLetter {
+
+    private final long id;
+    private final String newsId;
+    private final NewsPriority priority;
+    private final DeadLetterReason reason;
+    private final String errorMessage;
+    private final List<String> failedCustomerIds;
+    private final long failedAt;
+
+    public DeadLetter(long id, String newsId, NewsPriority priority, DeadLetterReason reason,
+                      String errorMessage, List<String> failedCustomerIds, long failedAt) {
+        this.id = id;
+        this.newsId = newsId;
+        this.priority = priority;
+        this.reason = reason;
+        this.errorMessage = errorMessage;
+        this.failedCustomerIds = failedCustomerIds;
+        this.failedAt = failedAt;
+    }
+
+    // Getter
+    public long getId() { return id; }
+    public String getNewsId() { return newsId; }
+    public NewsPriority getPriority() { return priority; }
+    public DeadLetterReason getReason() { return reason; }
+    public String getErrorMessage() { return errorMessage; }
+    public List<String> getFailedCustomerIds() { return failedCustomerIds; }
+    public long getFailedAt() { return failedAt; }
+
+    @Override
+    public String toString() {
+        return "DeadLetter{" +
+                "id=" + id +
+                ", newsId='" + newsId + '\'' +
+                ", priority=" + priority +
+                ", reason=" + reason +
+                ", failedCustomerIds=" + failedCustomerIds +
+                '}';
+    }
+}
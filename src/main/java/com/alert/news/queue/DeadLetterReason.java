@@ -0,0 +1,22 @@
+package com.alert.news.queue;
+
+/**
+ * 뉴스 전송 실패 사유
+ */
+public enum DeadLetterReason {
+
+    /**
+     * 재시도 후에도 뉴스를 찾을 수 없음
+     */
+    NOT_FOUND,
+
+    /**
+     * 뉴스 조회 중 오류 발생 (DB 장애 등)
+     */
+    LOOKUP_FAILED,
+
+    /**
+     * 일부 또는 전체 고객사에게 전송하지 못함
+     */
+    DELIVERY_FAILED
+}
@@ -0,0 +1,260 @@
+package com.alert.news.queue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * 처리하지 못한 뉴스 ID 보관소 (dead letter)
+ *
+ * 실패한 항목을 실패 사유, 전송에 실패한 고객사와 함께 최대 maxEntries개까지 보관하고,
+ * 한도를 넘으면 가장 오래된 항목부터 버립니다.
+ * DB 장애로 실패한 항목도 남겨야 하므로 DB가 아닌 로컬 파일에 한 줄씩 덧붙여 기록하며,
+ * 시작 시 파일을 읽어 복원합니다.
+ *
+ * 재처리로 꺼낸 항목과 한도 초과로 버린 항목은 파일에 남아 있다가, 파일 줄 수가 보관 항목 수의
+ * 2배를 넘거나 항목을 꺼낼 때 파일을 다시 써서 정리합니다.
+ *
+ * 줄 형식: id, 실패 시각(ms), 뉴스 ID, 우선순위, 실패 사유, 고객사 ID(쉼표 구분), 오류 메시지 (탭 구분)
+ */
+class DeadLetterStore implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadLetterStore.class);
+
+    private static final String FILE_NAME = "dead-letters.tsv";
+    private static final int FIELD_COUNT = 7;
+
+    private final Path file;
+    private final int maxEntries;
+
+    // id 순서 (= 실패 순서)로 보관
+    private final LinkedHashMap<Long, DeadLetter> entries = new LinkedHashMap<>();
+    private BufferedWriter writer;
+    private long lastId;
+    private int fileLines;
+    private long recordedCount;
+    private long droppedCount;
+
+    private DeadLetterStore(Path file, int maxEntries) {
+        this.file = file;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 디렉터리의 보관 파일을 읽어 복원하고 기록 준비
+     */
+    static DeadLetterStore open(Path directory, int maxEntries) throws IOException {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("최대 보관 개수는 양수여야 합니다");
+        }
+        Files.createDirectories(directory);
+        DeadLetterStore store = new DeadLetterStore(directory.resolve(FILE_NAME), maxEntries);
+        store.load();
+        return store;
+    }
+
+    /**
+     * 실패 항목 기록
+     *
+     * 메모리에 먼저 보관한 뒤 파일에 덧붙이므로 파일 기록이 실패해도 재처리는 가능합니다.
+     */
+    synchronized DeadLetter add(String newsId, NewsPriority priority, DeadLetterReason reason,
+                                String errorMessage, List<String> failedCustomerIds) throws IOException {
+        DeadLetter deadLetter = new DeadLetter(++lastId, newsId, priority, reason, errorMessage,
+                List.copyOf(failedCustomerIds), System.currentTimeMillis());
+        put(deadLetter);
+        recordedCount++;
+
+        if (writer == null) {
+            throw new IOException("dead letter 보관소가 닫혔습니다");
+        }
+        if (fileLines >= maxEntries * 2) {
+            rewrite();
+        } else {
+            writer.write(format(deadLetter));
+            writer.newLine();
+            writer.flush();
+            fileLines++;
+        }
+        return deadLetter;
+    }
+
+    /**
+     * 가장 오래된 항목부터 최대 limit개 조회 (보관소에서 제거하지 않음)
+     */
+    synchronized List<DeadLetter> peek(int limit) {
+        List<DeadLetter> result = new ArrayList<>(Math.min(limit, entries.size()));
+        Iterator<DeadLetter> iterator = entries.values().iterator();
+        while (iterator.hasNext() && result.size() < limit) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    /**
+     * 재처리한 항목 제거
+     *
+     * @return 제거한 항목 수
+     */
+    synchronized int remove(Collection<Long> ids) throws IOException {
+        int removed = 0;
+        for (Long id : ids) {
+            if (entries.remove(id) != null) {
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            rewrite();
+        }
+        return removed;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * 지금까지 기록한 항목 수
+     */
+    synchronized long getRecordedCount() {
+        return recordedCount;
+    }
+
+    /**
+     * 한도를 넘어 버린 항목 수
+     */
+    synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    private void put(DeadLetter deadLetter) {
+        entries.put(deadLetter.getId(), deadLetter);
+        Iterator<DeadLetter> iterator = entries.values().iterator();
+        while (entries.size() > maxEntries) {
+            DeadLetter dropped = iterator.next();
+            iterator.remove();
+            droppedCount++;
+            logger.warn("dead letter 보관 한도를 넘어 가장 오래된 항목을 버렸습니다: {}", dropped);
+        }
+    }
+
+    private void load() throws IOException {
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                try {
+                    DeadLetter deadLetter = parse(line);
+                    lastId = Math.max(lastId, deadLetter.getId());
+                    put(deadLetter);
+                } catch (RuntimeException e) {
+                    // 기록 도중 중단된 마지막 줄 등
+                    logger.warn("dead letter 파일의 손상된 줄을 건너뜁니다: {}", line);
+                }
+            }
+            logger.info("dead letter 보관소 복원 완료: {}개 ({})", entries.size(), file);
+        }
+        rewrite();
+    }
+
+    /**
+     * 보관 중인 항목만으로 파일을 다시 씀 (임시 파일에 쓴 뒤 교체)
+     */
+    private void rewrite() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+        Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (DeadLetter deadLetter : entries.values()) {
+                out.write(format(deadLetter));
+                out.newLine();
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        fileLines = entries.size();
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static String format(DeadLetter deadLetter) {
+        return deadLetter.getId()
+                + "\t" + deadLetter.getFailedAt()
+                + "\t" + escape(deadLetter.getNewsId())
+                + "\t" + deadLetter.getPriority().name()
+                + "\t" + deadLetter.getReason().name()
+                + "\t" + escape(String.join(",", deadLetter.getFailedCustomerIds()))
+                + "\t" + escape(deadLetter.getErrorMessage() != null ? deadLetter.getErrorMessage() : "");
+    }
+
+    private static DeadLetter parse(String line) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length != FIELD_COUNT) {
+            throw new IllegalArgumentException("필드 수가 맞지 않습니다: " + fields.length);
+        }
+        String customers = unescape(fields[5]);
+        String errorMessage = unescape(fields[6]);
+        return new DeadLetter(
+            Long.parseLong(fields[0]),
+            unescape(fields[2]),
+            NewsPriority.valueOf(fields[3]),
+            DeadLetterReason.valueOf(fields[4]),
+            errorMessage.isEmpty() ? null : errorMessage,
+            customers.isEmpty() ? List.of() : Arrays.asList(customers.split(",")),
+            Long.parseLong(fields[1])
+        );
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                builder.append(switch (next) {
+                    case 't' -> '\t';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    default -> next;
+                });
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,169 @@
+package com.alert.news.queue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * WAL 기반 영속 큐 엔진
+ *
+ * 다른 큐 엔진을 감싸서, 항목을 큐에 넣기 전에 {@link WriteAheadLog}에 먼저 기록합니다.
+ * 로그 기록과 큐 추가를 하나의 락 안에서 수행하므로 로그 순서와 큐 순서가 같습니다.
+ *
+ * 항목마다 로그 위치를 기억해 두고, 소비자가 {@link #commit(Collection)}으로 처리한 항목을 알려주면
+ * 아직 처리되지 않은 가장 오래된 항목 앞까지만 커밋합니다. 다른 스레드가 꺼내 처리 중인 항목이나
+ * 순서를 건너뛰어 버린 항목(EVICT_OLDEST)이 있어도 처리 중인 레코드를 지나쳐 커밋하지 않습니다.
+ */
+public class DurableQueueEngine<E> implements QueueEngine<E>, Closeable {
+
+    private final QueueEngine<E> delegate;
+    private final WriteAheadLog log;
+    private final Function<E, String> encoder;
+    private final Function<String, E> decoder;
+    private final Object appendLock = new Object();
+
+    // 커밋되지 않은 항목의 로그 위치 (pending 잠금 안에서만 사용)
+    private final Map<E, Long> pending = new IdentityHashMap<>();
+    private final NavigableSet<Long> pendingPositions = new TreeSet<>();
+
+    public DurableQueueEngine(QueueEngine<E> delegate, WriteAheadLog log,
+                              Function<E, String> encoder, Function<String, E> decoder) {
+        this.delegate = delegate;
+        this.log = log;
+        this.encoder = encoder;
+        this.decoder = decoder;
+    }
+
+    @Override
+    public boolean offer(E element) {
+        synchronized (appendLock) {
+            long position;
+            // 기록과 위치 등록을 한 번에 해야 커밋이 그 사이에 쓰기 위치까지 넘어가지 않음
+            synchronized (pending) {
+                position = log.append(encoder.apply(element));
+                track(element, position);
+            }
+            if (delegate.offer(element)) {
+                return true;
+            }
+            // 큐가 가득 찬 경우 로그 기록도 취소
+            synchronized (pending) {
+                untrack(element);
+                log.rollback(position);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 커밋되지 않은 레코드를 큐에 다시 채움
+     *
+     * 재처리가 끝날 때까지 새 항목 추가는 대기합니다.
+     * 큐 용량보다 많으면 소비자가 비워줄 때까지 기다리므로 워커가 시작된 뒤 호출해야 합니다.
+     *
+     * @return 다시 채운 항목 수
+     */
+    public int replay() throws InterruptedException {
+        synchronized (appendLock) {
+            List<WriteAheadLog.Record> records = log.readUncommitted();
+            for (WriteAheadLog.Record record : records) {
+                E element = decoder.apply(record.getValue());
+                // 큐에 넣기 전에 등록해야 바로 꺼내 커밋하는 워커가 위치를 찾을 수 있음
+                synchronized (pending) {
+                    track(element, record.getPosition());
+                }
+                while (!delegate.offer(element)) {
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                    TimeUnit.MILLISECONDS.sleep(1);
+                }
+            }
+            return records.size();
+        }
+    }
+
+    /**
+     * 로그를 디스크에 동기화
+     */
+    public void flush() {
+        log.flush();
+    }
+
+    /**
+     * 처리가 끝난 항목을 알리고, 아직 처리되지 않은 가장 오래된 항목 앞까지 커밋
+     */
+    @Override
+    public void commit(Collection<? extends E> elements) {
+        synchronized (pending) {
+            for (E element : elements) {
+                untrack(element);
+            }
+            Long oldest = pendingPositions.isEmpty() ? null : pendingPositions.first();
+            log.commit(oldest != null ? oldest : log.position());
+        }
+    }
+
+    /**
+     * 커밋되지 않은 항목 수 (큐에 남은 항목 + 꺼냈지만 커밋하지 않은 항목)
+     */
+    public int getPendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    private void track(E element, long position) {
+        pending.put(element, position);
+        pendingPositions.add(position);
+    }
+
+    private void untrack(E element) {
+        Long position = pending.remove(element);
+        if (position != null) {
+            pendingPositions.remove(position);
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.poll(timeout, unit);
+    }
+
+    @Override
+    public E peek() {
+        return delegate.peek();
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> target, int maxElements) {
+        return delegate.drainTo(target, maxElements);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public int capacity() {
+        return delegate.capacity();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return delegate.remainingCapacity();
+    }
+
+    @Override
+    public void close() throws IOException {
+        log.close();
+    }
+}
@@ -0,0 +1,43 @@
+package com.alert.news.queue;
+
+/**
+ * 뉴스 ID 큐 추가 결과
+ */
+public enum EnqueueResult {
+
+    /**
+     * 큐에 추가됨
+     */
+    ACCEPTED,
+
+    /**
+     * 최근에 들어온 ID라서 무시됨 (이미 처리 중이거나 처리 완료)
+     */
+    DUPLICATE,
+
+    /**
+     * 큐가 가득 차서 거부됨
+     */
+    REJECTED,
+
+    /**
+     * 대기 시간 안에 빈 자리가 생기지 않아 거부됨
+     */
+    TIMED_OUT,
+
+    /**
+     * 처리 중 오류 발생
+     */
+    FAILED;
+
+    public boolean isAccepted() {
+        return this == ACCEPTED;
+    }
+
+    /**
+     * 잠시 후 다시 시도하면 성공할 수 있는 결과인지 여부 (과부하로 인한 거부)
+     */
+    public boolean isRetryable() {
+        return this == REJECTED || this == TIMED_OUT;
+    }
+}
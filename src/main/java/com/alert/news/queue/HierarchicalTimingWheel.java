@@ -0,0 +1,157 @@
+package com.alert.news.queue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠
+ *
+ * 지연 실행할 항목을 만료 시각에 해당하는 버킷에 넣어 두었다가, 시계가 그 버킷에 도달하면 꺼냅니다.
+ * 가장 아래 단계는 tickMillis 간격의 버킷 wheelSize개로 이루어지고, 범위를 넘는 항목은
+ * 버킷 간격이 wheelSize배씩 넓은 상위 단계에 들어갔다가 시간이 다가오면 아래 단계로 내려옵니다.
+ * 따라서 항목 추가는 단계 수에 비례하는 상수 시간이며, 정렬된 자료구조를 유지하지 않습니다.
+ *
+ * 스레드 안전하지 않으므로 하나의 타이머 스레드에서만 사용해야 합니다.
+ * 뉴스 ID 재시도({@link NewsRetryScheduler})와 미확인 뉴스 재전송에서 사용합니다.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    // 단계 수 상한 (tick 10ms, wheelSize 64 기준 약 1.9일)
+    private static final int MAX_LEVELS = 4;
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<ArrayDeque<Entry<T>>[]> levels = new ArrayList<>();
+
+    // 마지막으로 처리한 tick (시각 / tickMillis)
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tick은 양수, 휠 크기는 2 이상이어야 합니다");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 항목 추가
+     *
+     * @param deadlineMillis 만료 시각 (currentTimeMillis 기준, tick 단위로 올림)
+     */
+    public void add(T item, long deadlineMillis) {
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        insert(new Entry<>(item, Math.max(deadlineTick, currentTick + 1)));
+        size++;
+    }
+
+    /**
+     * 지정한 시각까지 시계를 진행하며 만료된 항목을 넘김
+     */
+    public void advance(long nowMillis, Consumer<T> expired) {
+        long targetTick = nowMillis / tickMillis;
+        if (size == 0) {
+            // 비어 있으면 tick을 하나씩 돌 필요 없이 바로 이동 (오래 대기한 뒤)
+            currentTick = Math.max(currentTick, targetTick);
+            return;
+        }
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // 상위 단계 버킷이 시작되는 시점이면 그 항목을 아래 단계로 내림
+            long span = 1;
+            for (int level = 1; level < levels.size(); level++) {
+                span *= wheelSize;
+                if (currentTick % span != 0) {
+                    break;
+                }
+                flush(level, bucketIndex(currentTick, span), expired);
+            }
+            if (!levels.isEmpty()) {
+                flush(0, bucketIndex(currentTick, 1), expired);
+            }
+        }
+    }
+
+    /**
+     * 보관 중인 항목 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 다음 tick이 시작되는 시각
+     */
+    public long nextTickMillis() {
+        return (currentTick + 1) * tickMillis;
+    }
+
+    /**
+     * 버킷의 항목을 꺼내 만료된 항목은 넘기고 나머지는 다시 배치
+     *
+     * 최상위 단계 범위를 넘는 항목은 같은 버킷으로 돌아올 수 있으므로 버킷을 먼저 비운 뒤 처리합니다.
+     */
+    private void flush(int level, int index, Consumer<T> expired) {
+        ArrayDeque<Entry<T>>[] buckets = levels.get(level);
+        ArrayDeque<Entry<T>> bucket = buckets[index];
+        if (bucket.isEmpty()) {
+            return;
+        }
+        buckets[index] = new ArrayDeque<>();
+        for (Entry<T> entry : bucket) {
+            insertOrExpire(entry, expired);
+        }
+    }
+
+    private void insertOrExpire(Entry<T> entry, Consumer<T> expired) {
+        if (entry.deadlineTick <= currentTick) {
+            size--;
+            expired.accept(entry.item);
+        } else {
+            insert(entry);
+        }
+    }
+
+    private void insert(Entry<T> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        long span = 1;
+        int level = 0;
+        // 만료까지 남은 tick이 현재 단계의 범위 안에 들어오는 가장 낮은 단계를 선택
+        while (delta >= span * wheelSize && level < MAX_LEVELS - 1) {
+            span *= wheelSize;
+            level++;
+        }
+        level(level)[bucketIndex(entry.deadlineTick, span)].add(entry);
+    }
+
+    private int bucketIndex(long tick, long span) {
+        return (int) ((tick / span) % wheelSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArrayDeque<Entry<T>>[] level(int level) {
+        while (levels.size() <= level) {
+            ArrayDeque<Entry<T>>[] buckets = new ArrayDeque[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new ArrayDeque<>();
+            }
+            levels.add(buckets);
+        }
+        return levels.get(level);
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private final long deadlineTick;
+
+        private Entry(T item, long deadlineTick) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.alert.news.queue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQS 동작을 흉내 내는 프로세스 내 메시지 소스
+ *
+ * 네트워크 없이 배치 수신과 삭제(ack) 경로를 개발하고 부하 테스트할 수 있도록
+ * SQS 표준 큐의 주요 동작을 재현합니다.
+ * - 한 번에 최대 maxMessages개(SQS는 10개)까지 수신하며, 메시지가 없으면 long poll로 대기
+ * - 수신한 메시지는 가시성 제한 시간 동안 숨겨지고, 그 안에 삭제되지 않으면 다시 수신 가능
+ * - 수신할 때마다 새 수신 핸들이 발급되며, 이전 핸들로는 삭제할 수 없음
+ *
+ * SQS 표준 큐와 같이 우선순위는 구분하지 않으며 메시지 속성으로만 전달합니다.
+ */
+public class InProcessSqsQueueSource implements NewsQueueSource {
+
+    // 가시성 제한 시간이 지난 메시지를 찾는 주기
+    private static final long VISIBILITY_SCAN_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final int capacity;
+    private final int maxMessages;
+    private final long visibilityTimeoutNanos;
+
+    private final LinkedBlockingQueue<Message> visible = new LinkedBlockingQueue<>();
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong receiptSequence = new AtomicLong();
+    private final AtomicLong nextScanAt = new AtomicLong(System.nanoTime());
+
+    public InProcessSqsQueueSource(int capacity, int maxMessages, long visibilityTimeoutMillis) {
+        if (capacity <= 0 || maxMessages <= 0 || visibilityTimeoutMillis < 0) {
+            throw new IllegalArgumentException("용량과 최대 수신 개수는 양수, 가시성 제한 시간은 0 이상이어야 합니다");
+        }
+        this.capacity = capacity;
+        this.maxMessages = maxMessages;
+        this.visibilityTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(visibilityTimeoutMillis);
+    }
+
+    @Override
+    public boolean send(String newsId, NewsPriority priority) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            return false;
+        }
+        visible.offer(new Message(newsId, priority, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public List<ReceivedNews> receive(int maxMessages, long waitMillis) throws InterruptedException {
+        int limit = Math.max(1, Math.min(maxMessages, this.maxMessages));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+        List<Message> messages = new ArrayList<>(limit);
+
+        while (true) {
+            restoreExpired();
+            if (visible.drainTo(messages, limit) > 0) {
+                break;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return List.of();
+            }
+            // 가시성 제한 시간이 지난 메시지도 받을 수 있도록 대기를 짧게 나눔
+            Message message = visible.poll(Math.min(remaining, VISIBILITY_SCAN_NANOS), TimeUnit.NANOSECONDS);
+            if (message != null) {
+                messages.add(message);
+                visible.drainTo(messages, limit - 1);
+                break;
+            }
+        }
+
+        long visibleAt = System.nanoTime() + visibilityTimeoutNanos;
+        List<ReceivedNews> received = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            String receiptHandle = Long.toString(receiptSequence.incrementAndGet(), Character.MAX_RADIX);
+            message.receiveCount++;
+            inFlight.put(receiptHandle, new InFlight(message, visibleAt));
+            received.add(new ReceivedNews(message.newsId, message.priority, receiptHandle,
+                    message.receiveCount, message.sentAt));
+        }
+        return received;
+    }
+
+    @Override
+    public int deleteBatch(Collection<String> receiptHandles) {
+        int deleted = 0;
+        for (String receiptHandle : receiptHandles) {
+            if (inFlight.remove(receiptHandle) != null) {
+                size.decrementAndGet();
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public boolean changeVisibility(String receiptHandle, long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            InFlight entry = inFlight.remove(receiptHandle);
+            if (entry == null) {
+                return false;
+            }
+            visible.offer(entry.message);
+            return true;
+        }
+        long visibleAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        return inFlight.computeIfPresent(receiptHandle,
+                (handle, entry) -> new InFlight(entry.message, visibleAt)) != null;
+    }
+
+    @Override
+    public int approximateNumberOfMessages() {
+        return visible.size();
+    }
+
+    @Override
+    public int approximateNumberOfMessagesNotVisible() {
+        return inFlight.size();
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 가시성 제한 시간이 지난 메시지를 다시 수신 가능 상태로 되돌림
+     *
+     * 여러 소비자가 동시에 호출해도 한 번에 하나만, 최대 VISIBILITY_SCAN_NANOS마다 검사합니다.
+     */
+    private void restoreExpired() {
+        long now = System.nanoTime();
+        long scanAt = nextScanAt.get();
+        if (now - scanAt < 0 || !nextScanAt.compareAndSet(scanAt, now + VISIBILITY_SCAN_NANOS)) {
+            return;
+        }
+        for (Map.Entry<String, InFlight> entry : inFlight.entrySet()) {
+            InFlight value = entry.getValue();
+            if (now - value.visibleAt >= 0 && inFlight.remove(entry.getKey(), value)) {
+                visible.offer(value.message);
+            }
+        }
+    }
+
+    /**
+     * 큐에 보관되는 메시지 (수신 횟수는 한 번에 한 소비자만 갱신)
+     */
+    private static final class Message {
+        private final String newsId;
+        private final NewsPriority priority;
+        private final long sentAt;
+        private int receiveCount;
+
+        private Message(String newsId, NewsPriority priority, long sentAt) {
+            this.newsId = newsId;
+            this.priority = priority;
+            this.sentAt = sentAt;
+        }
+    }
+
+    /**
+     * 수신되어 숨겨진 메시지와 다시 보이게 될 시각
+     */
+    private static final class InFlight {
+        private final Message message;
+        private final long visibleAt;
+
+        private InFlight(Message message, long visibleAt) {
+            this.message = message;
+            this.visibleAt = visibleAt;
+        }
+    }
+}
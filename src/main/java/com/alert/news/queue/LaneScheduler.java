@@ -0,0 +1,89 @@
+package com.alert.news.queue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 우선순위 레인 선택기
+ *
+ * 샤드 워커가 다음에 꺼낼 레인을 고릅니다. 샤드마다 하나씩 두며 워커 스레드에서만 호출됩니다.
+ * 하위 레인의 맨 앞 항목이 maxWait 이상 기다렸다면 스케줄링 방식과 관계없이 먼저 꺼내서
+ * 상위 레인에 트래픽이 몰려도 하위 레인이 굶지 않도록 합니다.
+ */
+class LaneScheduler {
+
+    private final LaneScheduling scheduling;
+    private final int[] weights;
+    private final int[] credits;
+    private final long maxWaitNanos;
+
+    LaneScheduler(LaneScheduling scheduling, int[] weights, long maxWaitMillis) {
+        int laneCount = NewsPriority.values().length;
+        this.scheduling = scheduling;
+        this.weights = new int[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            // 가중치가 빠진 레인은 1로 간주
+            this.weights[i] = i < weights.length ? Math.max(1, weights[i]) : 1;
+        }
+        this.credits = this.weights.clone();
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    }
+
+    /**
+     * 다음에 꺼낼 레인 번호 반환 (모든 레인이 비어 있으면 -1)
+     */
+    int select(QueueEngine<QueueItem>[] lanes) {
+        int starving = findStarvingLane(lanes);
+        if (starving >= 0) {
+            return starving;
+        }
+
+        if (scheduling == LaneScheduling.STRICT) {
+            for (int i = 0; i < lanes.length; i++) {
+                if (lanes[i].size() > 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        // WEIGHTED: 남은 크레딧이 있는 레인 중 우선순위가 높은 레인을 고르고, 모두 소진되면 다시 채움
+        for (int pass = 0; pass < 2; pass++) {
+            boolean hasItems = false;
+            for (int i = 0; i < lanes.length; i++) {
+                if (lanes[i].size() > 0) {
+                    hasItems = true;
+                    if (credits[i] > 0) {
+                        credits[i]--;
+                        return i;
+                    }
+                }
+            }
+            if (!hasItems) {
+                return -1;
+            }
+            System.arraycopy(weights, 0, credits, 0, weights.length);
+        }
+        return -1;
+    }
+
+    /**
+     * 최대 대기 시간을 넘긴 하위 레인 중 가장 오래 기다린 레인 반환 (없으면 -1)
+     */
+    private int findStarvingLane(QueueEngine<QueueItem>[] lanes) {
+        if (maxWaitNanos <= 0) {
+            return -1;
+        }
+
+        long now = System.nanoTime();
+        int starving = -1;
+        long longestWait = maxWaitNanos;
+        for (int i = 1; i < lanes.length; i++) {
+            QueueItem head = lanes[i].peek();
+            if (head != null && now - head.getEnqueuedAt() > longestWait) {
+                longestWait = now - head.getEnqueuedAt();
+                starving = i;
+            }
+        }
+        return starving;
+    }
+}
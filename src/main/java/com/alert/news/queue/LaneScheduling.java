@@ -0,0 +1,17 @@
+package com.alert.news.queue;
+
+/**
+ * 우선순위 레인 스케줄링 방식 (queue.priority.scheduling 설정값)
+ */
+public enum LaneScheduling {
+
+    /**
+     * 항상 가장 높은 우선순위의 레인부터 처리
+     */
+    STRICT,
+
+    /**
+     * 레인별 가중치 비율대로 번갈아 처리
+     */
+    WEIGHTED
+}
@@ -0,0 +1,57 @@
+package com.alert.news.queue;
+
+import java.util.Collection;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LinkedBlockingQueue 기반 큐 엔진
+ *
+ * 기본 엔진입니다. 항목마다 연결 노드를 할당하지만 대기 중인 소비자를
+ * 즉시 깨워주므로 트래픽이 적을 때 CPU를 거의 쓰지 않습니다.
+ */
+public class LinkedQueueEngine<E> implements QueueEngine<E> {
+
+    private final int capacity;
+    private final LinkedBlockingQueue<E> queue;
+
+    public LinkedQueueEngine(int capacity) {
+        this.capacity = capacity;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public boolean offer(E element) {
+        return queue.offer(element);
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return queue.poll(timeout, unit);
+    }
+
+    @Override
+    public E peek() {
+        return queue.peek();
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> target, int maxElements) {
+        return queue.drainTo(target, maxElements);
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+}
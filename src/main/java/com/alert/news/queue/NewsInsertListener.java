@@ -0,0 +1,253 @@
+package com.alert.news.queue;
+
+import com.alert.news.service.NewsService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Postgres LISTEN/NOTIFY 기반 뉴스 수집기
+ *
+ * translated_news 추가 트리거(V2 마이그레이션)가 보내는 알림을 전용 연결로 받아
+ * 별도의 생산자 호출 없이 뉴스 ID를 바로 큐에 넣습니다.
+ * NOTIFY는 트랜잭션 커밋 시점에 전달되므로 행이 커밋되기 전에 ID가 도착하는 경쟁이 없습니다.
+ * 트리거는 news_insert_notify_settings.notify_enabled를 보고 알림 여부를 결정하며(V6 마이그레이션),
+ * 시작할 때 queue.ingest.listen.enabled 값으로 맞춥니다.
+ *
+ * 연결이 끊기면 다시 연결한 뒤 LISTEN을 먼저 등록하고, 마지막으로 연결이 살아 있던 시각부터
+ * created_at 기준으로 놓친 뉴스를 다시 조회합니다. 겹쳐서 조회된 ID는 큐의 중복 제거로 걸러집니다.
+ * created_at과 같은 시계를 쓰도록 따라잡기 시각은 이 서버가 아니라 DB의 현재 시각(LOCALTIMESTAMP)으로 정합니다.
+ *
+ * 풀의 연결을 계속 점유하지 않도록 spring.datasource 설정으로 별도 연결을 직접 엽니다.
+ */
+@Component
+public class NewsInsertListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsInsertListener.class);
+
+    static final String CHANNEL = "translated_news_inserted";
+
+    // 따라잡기 조회 결과를 큐에 넣는 단위
+    private static final int CATCH_UP_CHUNK = 1000;
+
+    @Value("${queue.ingest.listen.enabled:false}")
+    private boolean enabled;
+
+    @Value("${queue.ingest.listen.health-check-interval:10000}")
+    private int healthCheckInterval;
+
+    @Value("${queue.ingest.listen.reconnect-delay:1000}")
+    private long reconnectDelay;
+
+    @Value("${queue.ingest.listen.max-reconnect-delay:30000}")
+    private long maxReconnectDelay;
+
+    @Value("${queue.ingest.listen.catch-up-overlap:60000}")
+    private long catchUpOverlap;
+
+    @Value("${queue.ingest.listen.startup-catch-up:0}")
+    private long startupCatchUp;
+
+    @Value("${spring.datasource.url:}")
+    private String url;
+
+    @Value("${spring.datasource.username:}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    private final NewsQueueProcessor newsQueueProcessor;
+    private final NewsService newsService;
+
+    private Thread listenerThread;
+    private volatile Connection connection;
+
+    @Autowired
+    public NewsInsertListener(NewsQueueProcessor newsQueueProcessor, NewsService newsService) {
+        this.newsQueueProcessor = newsQueueProcessor;
+        this.newsService = newsService;
+    }
+
+    /**
+     * 수집기 시작 (queue.ingest.listen.enabled가 true일 때만)
+     */
+    @PostConstruct
+    public void start() {
+        updateNotify();
+        if (!enabled) {
+            return;
+        }
+        // JDBC 소켓 읽기는 가상 스레드를 고정시키므로 플랫폼 스레드 사용
+        listenerThread = Thread.ofPlatform().daemon(true).name("news-insert-listener").start(this::run);
+        logger.info("뉴스 추가 알림 수집기가 시작되었습니다. 채널: {}", CHANNEL);
+    }
+
+    /**
+     * 수집기 중지
+     */
+    @PreDestroy
+    public void stop() {
+        if (listenerThread == null) {
+            return;
+        }
+        listenerThread.interrupt();
+        closeQuietly(connection);
+        logger.info("뉴스 추가 알림 수집기가 중지되었습니다.");
+    }
+
+    private void run() {
+        long delay = reconnectDelay;
+        long healthCheckNanos = TimeUnit.MILLISECONDS.toNanos(healthCheckInterval);
+        // 다음 연결 시 따라잡기 조회를 시작할 DB 시각 (마지막으로 연결이 살아 있던 시각 - catch-up-overlap)
+        LocalDateTime catchUpFrom = null;
+        boolean startup = startupCatchUp > 0;
+        long startedAt = System.nanoTime();
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try (Connection conn = DriverManager.getConnection(url, username, password)) {
+                connection = conn;
+                PGConnection pgConnection = conn.unwrap(PGConnection.class);
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                logger.info("뉴스 추가 알림 수신 대기 시작: {}", CHANNEL);
+
+                // LISTEN 등록 후에 조회해야 그 사이에 추가된 뉴스를 놓치지 않음
+                LocalDateTime listenedAt = databaseTime(conn);
+                if (startup) {
+                    // 첫 연결이 늦어져도 시작 시점 기준 startup-catch-up 기간을 모두 조회
+                    catchUpFrom = listenedAt.minus(Duration.ofMillis(startupCatchUp))
+                            .minus(Duration.ofNanos(System.nanoTime() - startedAt));
+                }
+                if (catchUpFrom != null) {
+                    catchUp(catchUpFrom);
+                }
+                startup = false;
+                catchUpFrom = listenedAt.minus(Duration.ofMillis(catchUpOverlap));
+                long checkedAt = System.nanoTime();
+                delay = reconnectDelay;
+
+                while (!Thread.currentThread().isInterrupted()) {
+                    PGNotification[] notifications = pgConnection.getNotifications(healthCheckInterval);
+                    boolean quiet = notifications == null || notifications.length == 0;
+                    if (!quiet) {
+                        List<String> newsIds = new ArrayList<>(notifications.length);
+                        for (PGNotification notification : notifications) {
+                            newsIds.add(notification.getParameter());
+                        }
+                        enqueue(newsIds);
+                    }
+                    // 알림이 없으면 조용히 끊긴 연결을 찾아내기 위한 확인을 겸하고,
+                    // 알림이 계속 오면 health-check-interval마다 한 번만 DB 시각을 조회해 따라잡기 시작 시각 갱신
+                    if (quiet || System.nanoTime() - checkedAt >= healthCheckNanos) {
+                        catchUpFrom = databaseTime(conn).minus(Duration.ofMillis(catchUpOverlap));
+                        checkedAt = System.nanoTime();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                logger.warn("뉴스 추가 알림 연결 오류, {}ms 후 다시 연결합니다", delay, e);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                delay = Math.min(delay * 2, maxReconnectDelay);
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    /**
+     * created_at 기본값(CURRENT_TIMESTAMP)과 같은 기준의 DB 현재 시각
+     */
+    private LocalDateTime databaseTime(Connection conn) throws SQLException {
+        try (Statement statement = conn.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT LOCALTIMESTAMP")) {
+            resultSet.next();
+            return resultSet.getObject(1, LocalDateTime.class);
+        }
+    }
+
+    /**
+     * 트리거의 뉴스 추가 알림 여부를 이 노드의 설정에 맞춤
+     */
+    private void updateNotify() {
+        try {
+            newsService.setInsertNotifyEnabled(enabled);
+        } catch (Exception e) {
+            logger.warn("뉴스 추가 알림 설정을 변경하지 못했습니다: {}", enabled, e);
+        }
+    }
+
+    /**
+     * 연결이 끊겨 있던 동안 추가된 뉴스를 created_at 기준으로 다시 조회해 큐에 넣음
+     */
+    private void catchUp(LocalDateTime since) throws InterruptedException {
+        List<String> newsIds = newsService.getNewsIdsCreatedSince(since);
+        logger.info("뉴스 추가 알림 따라잡기 조회: {} 이후 {}개", since, newsIds.size());
+        for (int from = 0; from < newsIds.size(); from += CATCH_UP_CHUNK) {
+            enqueue(newsIds.subList(from, Math.min(newsIds.size(), from + CATCH_UP_CHUNK)));
+        }
+    }
+
+    /**
+     * 뉴스 ID를 큐에 넣고, 큐가 가득 차서 거부된 ID는 Retry-After 간격으로 다시 시도
+     *
+     * 재시도하는 동안 알림은 연결에 쌓이므로 큐가 비워질 때까지 자연스럽게 수집이 늦춰집니다.
+     */
+    private void enqueue(List<String> newsIds) throws InterruptedException {
+        List<String> pending = newsIds;
+        while (!pending.isEmpty()) {
+            List<EnqueueResult> results = newsQueueProcessor.enqueueNewsIds(pending, NewsPriority.NORMAL);
+            List<String> retry = new ArrayList<>();
+            for (int i = 0; i < results.size(); i++) {
+                if (results.get(i).isRetryable()) {
+                    retry.add(pending.get(i));
+                }
+            }
+            if (retry.isEmpty()) {
+                return;
+            }
+
+            logger.warn("큐가 가득 차서 뉴스 ID {}개를 {}초 후 다시 추가합니다", retry.size(),
+                       newsQueueProcessor.getRetryAfterSeconds());
+            TimeUnit.SECONDS.sleep(Math.max(1, newsQueueProcessor.getRetryAfterSeconds()));
+            pending = retry;
+        }
+    }
+
+    private void closeQuietly(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            logger.debug("뉴스 추가 알림 연결 종료 중 오류", e);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.alert.news.queue;
+
+import com.alert.news.model.NewsOutbox;
+import com.alert.news.service.NewsOutboxService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 뉴스 이벤트 아웃박스 소비자
+ *
+ * 노드마다 실행되며, news_outbox에서 처리 대기 중인 이벤트를 FOR UPDATE SKIP LOCKED로 나눠서 점유한 뒤
+ * 전송하고 완료로 표시합니다. 외부 브로커 없이 여러 노드로 소비를 늘릴 수 있고,
+ * 전송 도중 노드가 죽으면 점유 제한 시간 뒤 다른 노드가 다시 전송합니다 (at-least-once).
+ *
+ * 점유한 이벤트는 내부 큐를 거치지 않고 바로 {@link NewsQueueProcessor#processBatch(List)}로 전송하므로
+ * 전송이 끝나기 전에 완료로 표시되는 일이 없습니다. 최근에 처리된 ID는 다른 경로와 같은 중복 기록으로 걸러냅니다.
+ *
+ * news_outbox 기록은 트리거가 news_outbox_settings.capture_enabled를 보고 결정하며, 시작할 때
+ * queue.outbox.enabled 값으로 맞춥니다 (모든 노드가 같은 값을 사용해야 함). 오래된 이벤트 정리는
+ * 소비 여부와 관계없이 항상 실행해서, 아웃박스를 끈 뒤 남은 이벤트도 보관 기간이 지나면 지웁니다.
+ * 전송 대상은 이 노드에 연결된 고객사이며, 다른 노드에 연결된 고객사에게는 cluster.enabled일 때
+ * {@link com.alert.news.cluster.NewsClusterRelay}가 전달합니다.
+ */
+@Component
+public class NewsOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsOutboxRelay.class);
+
+    @Value("${queue.outbox.enabled:false}")
+    private boolean enabled;
+
+    @Value("${queue.outbox.node-id:}")
+    private String nodeId;
+
+    @Value("${queue.outbox.workers:2}")
+    private int workerCount;
+
+    @Value("${queue.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${queue.outbox.poll-interval:200}")
+    private long pollInterval;
+
+    @Value("${queue.outbox.claim-timeout:60000}")
+    private long claimTimeout;
+
+    @Value("${queue.outbox.retention:86400000}")
+    private long retention;
+
+    @Value("${queue.outbox.cleanup-interval:60000}")
+    private long cleanupInterval;
+
+    private final NewsOutboxService newsOutboxService;
+    private final NewsQueueProcessor newsQueueProcessor;
+
+    private final List<Thread> workerThreads = new ArrayList<>();
+    private ScheduledExecutorService cleaner;
+
+    @Autowired
+    public NewsOutboxRelay(NewsOutboxService newsOutboxService, NewsQueueProcessor newsQueueProcessor) {
+        this.newsOutboxService = newsOutboxService;
+        this.newsQueueProcessor = newsQueueProcessor;
+    }
+
+    /**
+     * 아웃박스 소비 시작 (queue.outbox.enabled가 true일 때만)
+     */
+    @PostConstruct
+    public void start() {
+        updateCapture();
+
+        cleaner = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon(true).name("news-outbox-cleaner").factory());
+        cleaner.scheduleWithFixedDelay(this::purgeProcessed, cleanupInterval, cleanupInterval, TimeUnit.MILLISECONDS);
+
+        if (!enabled) {
+            return;
+        }
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = defaultNodeId();
+        }
+
+        for (int i = 0; i < Math.max(1, workerCount); i++) {
+            workerThreads.add(Thread.ofVirtual().name("news-outbox-worker-" + i).start(this::runWorker));
+        }
+
+        logger.info("뉴스 아웃박스 소비가 시작되었습니다. 노드: {}, 워커 수: {}, 배치 크기: {}, 점유 제한 시간: {}ms",
+                   nodeId, workerThreads.size(), batchSize, claimTimeout);
+    }
+
+    /**
+     * 아웃박스 소비 중지
+     *
+     * 전송 중이던 이벤트는 완료로 표시되지 않으므로 점유 제한 시간 뒤 다시 전송됩니다.
+     */
+    @PreDestroy
+    public void stop() {
+        if (cleaner != null) {
+            cleaner.shutdownNow();
+        }
+        if (!enabled) {
+            return;
+        }
+        workerThreads.forEach(Thread::interrupt);
+        workerThreads.clear();
+        logger.info("뉴스 아웃박스 소비가 중지되었습니다. 노드: {}", nodeId);
+    }
+
+    private void runWorker() {
+        List<Long> ids = new ArrayList<>(batchSize);
+        List<String> newsIds = new ArrayList<>(batchSize);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<NewsOutbox> events = newsOutboxService.claimBatch(nodeId, batchSize, claimTimeout);
+                if (events.isEmpty()) {
+                    TimeUnit.MILLISECONDS.sleep(pollInterval);
+                    continue;
+                }
+
+                ids.clear();
+                newsIds.clear();
+                for (NewsOutbox event : events) {
+                    ids.add(event.getId());
+                    newsIds.add(event.getNewsId());
+                }
+
+                int succeeded = newsQueueProcessor.processBatch(newsIds);
+                newsOutboxService.markDone(ids);
+                logger.debug("아웃박스 이벤트 전송 완료: {}개 중 {}개 성공, 노드 {}", events.size(), succeeded, nodeId);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                logger.error("아웃박스 이벤트 처리 중 오류 발생. 노드: {}", nodeId, e);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(pollInterval);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * 트리거의 아웃박스 기록 여부를 이 노드의 설정에 맞춤
+     */
+    private void updateCapture() {
+        try {
+            newsOutboxService.setCaptureEnabled(enabled);
+        } catch (Exception e) {
+            logger.warn("아웃박스 기록 설정을 변경하지 못했습니다: {}", enabled, e);
+        }
+    }
+
+    private void purgeProcessed() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(retention));
+            newsOutboxService.purgeProcessedBefore(before);
+            if (!enabled) {
+                // 소비하지 않는 동안 남은 이벤트는 완료되지 않으므로 생성 시각 기준으로 정리
+                newsOutboxService.purgeCreatedBefore(before);
+            }
+        } catch (Exception e) {
+            logger.error("아웃박스 이벤트 정리 중 오류 발생", e);
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + ProcessHandle.current().pid();
+    }
+}
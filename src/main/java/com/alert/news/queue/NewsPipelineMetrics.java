@@ -0,0 +1,110 @@
+package com.alert.news.queue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 뉴스 전송 파이프라인 단계별 지연 시간 측정
+ *
+ * 큐 대기, 뉴스 조회, JSON 직렬화, 고객사별 전송, 큐 추가부터 전송 완료까지(end-to-end)의 시간을
+ * Micrometer Timer로 기록하고 /actuator/prometheus로 노출합니다.
+ * Timer는 HdrHistogram과 같은 방식의 버킷 히스토그램을 유지하므로 p50/p99/p99.9를 바로 내보내며,
+ * 여러 인스턴스를 합산할 수 있도록 히스토그램 버킷(_bucket)도 함께 내보냅니다.
+ *
+ * 모든 시간은 System.nanoTime 기준이라 시계 보정의 영향을 받지 않습니다.
+ */
+@Component
+public class NewsPipelineMetrics {
+
+    static final String QUEUE_WAIT = "news.pipeline.queue.wait";
+    static final String FETCH = "news.pipeline.fetch";
+    static final String ENCODE = "news.pipeline.encode";
+    static final String SEND = "news.pipeline.send";
+    static final String END_TO_END = "news.pipeline.end.to.end";
+
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+
+    @Value("${queue.metrics.max-expected:10000}")
+    private long maxExpectedMillis;
+
+    @Value("${queue.metrics.expiry:60000}")
+    private long expiryMillis;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<NewsPriority, Timer> queueWaitTimers = new EnumMap<>(NewsPriority.class);
+    private final Map<NewsPriority, Timer> endToEndTimers = new EnumMap<>(NewsPriority.class);
+    private Timer fetchTimer;
+    private Timer encodeTimer;
+    private Timer sendTimer;
+
+    @Autowired
+    public NewsPipelineMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 설정값 주입이 끝난 뒤 Timer 등록
+     */
+    @PostConstruct
+    public void init() {
+        Duration maxExpected = Duration.ofMillis(maxExpectedMillis);
+        Duration expiry = Duration.ofMillis(expiryMillis);
+        for (NewsPriority priority : NewsPriority.values()) {
+            queueWaitTimers.put(priority, timer(QUEUE_WAIT, "큐에 들어온 뒤 워커가 꺼낼 때까지 대기 시간",
+                    maxExpected, expiry, "priority", priority.name()));
+            endToEndTimers.put(priority, timer(END_TO_END, "큐에 들어온 뒤 모든 고객사에게 전송을 마칠 때까지 시간",
+                    maxExpected, expiry, "priority", priority.name()));
+        }
+        this.fetchTimer = timer(FETCH, "뉴스 배치 조회 시간", maxExpected, expiry);
+        this.encodeTimer = timer(ENCODE, "뉴스 JSON 직렬화 시간", maxExpected, expiry);
+        this.sendTimer = timer(SEND, "고객사 한 곳에 대한 전송 시간", maxExpected, expiry);
+    }
+
+    /**
+     * 큐 대기 시간 기록 (꺼낸 시점에 호출)
+     */
+    public void recordQueueWait(QueueItem item, long dequeuedAt) {
+        queueWaitTimers.get(item.getPriority()).record(dequeuedAt - item.getEnqueuedAt(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * end-to-end 시간 기록 (전송을 마친 시점에 호출)
+     */
+    public void recordEndToEnd(QueueItem item, long deliveredAt) {
+        endToEndTimers.get(item.getPriority()).record(deliveredAt - item.getEnqueuedAt(), TimeUnit.NANOSECONDS);
+    }
+
+    public void recordFetch(long nanos) {
+        fetchTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordEncode(long nanos) {
+        encodeTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSend(long nanos) {
+        sendTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String name, String description, Duration maxExpected, Duration expiry, String... tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .maximumExpectedValue(maxExpected)
+                .distributionStatisticExpiry(expiry)
+                .register(meterRegistry);
+    }
+}
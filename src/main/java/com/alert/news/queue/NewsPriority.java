@@ -0,0 +1,24 @@
+package com.alert.news.queue;
+
+/**
+ * 뉴스 처리 우선순위
+ *
+ * 우선순위마다 별도의 레인(큐)이 있으며, 선언 순서가 곧 레인 번호이자 우선순위입니다.
+ */
+public enum NewsPriority {
+
+    /**
+     * 속보 등 즉시 전송이 필요한 뉴스
+     */
+    HIGH,
+
+    /**
+     * 일반 뉴스 (기본값)
+     */
+    NORMAL,
+
+    /**
+     * 수정/재번역 등 지연되어도 무방한 뉴스
+     */
+    LOW
+}
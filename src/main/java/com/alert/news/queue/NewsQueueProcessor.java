@@ -1,119 +1,887 @@
 package com.alert.news.queue;
 
+import com.alert.news.cluster.NewsClusterRelay;
 import com.alert.news.model.News;
 import com.alert.news.service.NewsService;
 import com.alert.news.service.WebSocketService;
+import com.alert.news.service.WebSocketService.DeliveryResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
 
 /**
  * 뉴스 ID 메시지 큐 프로세서
- * 
- * 내부 큐(LinkedBlockingQueue)를 통해 뉴스 ID를 받아서
+ *
+ * 내부 큐를 통해 뉴스 ID를 받아서
  * 해당 뉴스를 조회하고 WebSocket으로 실시간 전송하는 역할을 담당합니다.
- * 
- * 현재는 내부 큐를 사용하지만, 향후 AWS SQS 등으로 확장 가능하도록 설계되었습니다.
+ *
+ * 큐는 뉴스 ID 해시값 기준으로 여러 샤드로 나뉘며, 샤드마다 전담 워커가 하나씩 붙습니다.
+ * 같은 뉴스 ID는 항상 같은 샤드로 들어가므로 샤드 내 처리 순서는 유지되고,
+ * 느린 DB 조회나 전송이 다른 샤드의 처리를 막지 않습니다.
+ *
+ * 워커는 최대 batch-size개 또는 batch-linger(ms) 동안 모인 ID를 한 번의 쿼리로 조회한 뒤
+ * 꺼낸 순서대로 전송하므로, 트래픽이 몰릴 때 DB 왕복 횟수가 크게 줄어듭니다.
+ *
+ * 샤드 저장소는 queue.engine 설정으로 LinkedBlockingQueue 또는 락 프리 링 버퍼 중에서 고릅니다.
+ * 샤드 안에는 우선순위(HIGH/NORMAL/LOW)별 레인이 있어 속보가 일반 뉴스 뒤에서 기다리지 않으며,
+ * 레인은 strict 또는 weighted 방식으로 스케줄링하고 오래 기다린 하위 레인 항목은 먼저 처리합니다.
+ * 같은 뉴스 ID가 queue.dedup.window(ms) 안에 다시 들어오면 큐에 넣지 않고 버립니다.
+ * 레인이 가득 차면 queue.admission.policy에 따라 거부하거나, 잠시 기다리거나, 가장 오래된 항목을 버리며
+ * 추가 결과를 {@link EnqueueResult}로 돌려주어 생산자가 과부하를 알 수 있게 합니다.
+ * queue.wal.enabled가 true이면 샤드마다 메모리 맵 WAL을 두어, 재시작 시 처리되지 않은 ID를 다시 처리합니다.
+ *
+ * queue.source.type으로 수신 경로를 {@link NewsQueueSource} 구현(SQS 호환 프로세스 내 큐 등)으로 바꿀 수 있으며,
+ * 이 경우 워커는 메시지를 배치로 받아 처리한 뒤 수신 핸들로 일괄 삭제합니다.
+ * 외부 소스를 사용할 때는 샤드, 우선순위 레인, WAL을 사용하지 않습니다.
+ *
+ * 조회 시점에 아직 보이지 않는 뉴스 ID(생산자의 커밋 전 등)는 버리지 않고 {@link NewsRetryScheduler}에
+ * 넘겨 지수 백오프로 최대 queue.retry.max-attempts번 다시 조회합니다. 재시도는 워커와 별도로 처리됩니다.
+ * 재시도 후에도 찾지 못했거나 조회/전송에 실패한 ID는 {@link DeadLetterStore}에 실패 사유와 함께 남기며,
+ * 장애가 복구된 뒤 한 번의 재처리 요청으로 속도를 제한해 큐에 다시 넣을 수 있습니다.
+ *
+ * 큐 대기, 조회, 전송 완료까지의 단계별 지연 시간은 {@link NewsPipelineMetrics}로 기록합니다.
+ * 여러 노드로 실행하면 처리한 뉴스를 {@link NewsClusterRelay}로 다른 노드에 연결된 고객사에게도 전달합니다.
  */
 @Component
 public class NewsQueueProcessor {
 
     private static final Logger logger = LoggerFactory.getLogger(NewsQueueProcessor.class);
 
+    // 중복 제거 기간을 나누는 버킷 수
+    private static final int DEDUP_BUCKETS = 6;
+
+    // BLOCK 정책에서 빈 자리를 다시 확인하는 최대 간격
+    private static final long ADMISSION_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
     @Value("${queue.capacity:1000}")
     private int queueCapacity;
 
     @Value("${queue.poll-timeout:1000}")
     private long pollTimeout;
 
-    private final BlockingQueue<String> newsQueue;
+    @Value("${queue.batch-size:100}")
+    private int batchSize;
+
+    @Value("${queue.batch-linger:5}")
+    private long batchLinger;
+
+    @Value("${queue.engine:linked}")
+    private QueueEngineType engineType;
+
+    @Value("${queue.wait-strategy:park}")
+    private WaitStrategy waitStrategy;
+
+    @Value("${queue.priority.scheduling:weighted}")
+    private LaneScheduling laneScheduling;
+
+    @Value("${queue.priority.weights:8,3,1}")
+    private int[] laneWeights;
+
+    @Value("${queue.priority.max-wait:5000}")
+    private long laneMaxWait;
+
+    @Value("${queue.workers:4}")
+    private int workerCount;
+
+    @Value("${queue.virtual-threads:true}")
+    private boolean useVirtualThreads;
+
+    @Value("${queue.wal.enabled:false}")
+    private boolean walEnabled;
+
+    @Value("${queue.wal.directory:./data/queue-wal}")
+    private String walDirectory;
+
+    @Value("${queue.wal.segment-size:16777216}")
+    private int walSegmentSize;
+
+    @Value("${queue.wal.fsync-interval:100}")
+    private long walFsyncInterval;
+
+    @Value("${queue.source.type:internal}")
+    private QueueSourceType sourceType;
+
+    @Value("${queue.source.max-messages:10}")
+    private int sourceMaxMessages;
+
+    @Value("${queue.source.visibility-timeout:30000}")
+    private long sourceVisibilityTimeout;
+
+    @Value("${queue.admission.policy:reject}")
+    private AdmissionPolicy admissionPolicy;
+
+    @Value("${queue.admission.block-timeout:500}")
+    private long admissionBlockTimeout;
+
+    @Value("${queue.admission.retry-after:1}")
+    private long admissionRetryAfter;
+
+    @Value("${queue.retry.enabled:true}")
+    private boolean retryEnabled;
+
+    @Value("${queue.retry.initial-delay:100}")
+    private long retryInitialDelay;
+
+    @Value("${queue.retry.max-delay:10000}")
+    private long retryMaxDelay;
+
+    @Value("${queue.retry.max-attempts:5}")
+    private int retryMaxAttempts;
+
+    @Value("${queue.retry.tick:10}")
+    private long retryTick;
+
+    @Value("${queue.retry.wheel-size:64}")
+    private int retryWheelSize;
+
+    @Value("${queue.dead-letter.enabled:true}")
+    private boolean deadLetterEnabled;
+
+    @Value("${queue.dead-letter.directory:./data/dead-letters}")
+    private String deadLetterDirectory;
+
+    @Value("${queue.dead-letter.max-entries:10000}")
+    private int deadLetterMaxEntries;
+
+    @Value("${queue.dead-letter.replay-batch-size:100}")
+    private int deadLetterReplayBatchSize;
+
+    @Value("${queue.dead-letter.replay-interval:1000}")
+    private long deadLetterReplayInterval;
+
+    @Value("${queue.dedup.enabled:true}")
+    private boolean dedupEnabled;
+
+    @Value("${queue.dedup.window:60000}")
+    private long dedupWindow;
+
+    @Value("${queue.dedup.max-entries:100000}")
+    private int dedupMaxEntries;
+
     private final NewsService newsService;
     private final WebSocketService webSocketService;
+    private final NewsClusterRelay clusterRelay;
+    private final NewsPipelineMetrics pipelineMetrics;
+
+    private QueueShard[] shards = new QueueShard[0];
+    private NewsQueueSource queueSource;
+    private final List<Thread> workerThreads = new ArrayList<>();
+    private final List<DurableQueueEngine<QueueItem>> durableQueues = new ArrayList<>();
+    private ScheduledExecutorService walFlusher;
+    private RecentIdFilter recentIdFilter;
+    private NewsRetryScheduler retryScheduler;
+    private DeadLetterStore deadLetterStore;
+    private volatile Thread deadLetterReplayThread;
+    private final AtomicBoolean deadLetterReplaying = new AtomicBoolean();
+    private final LongAdder deadLetterReplayedCount = new LongAdder();
+    private final LongAdder duplicateDroppedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder sourceProcessedCount = new LongAdder();
+    private final LongAdder sourceFailedCount = new LongAdder();
+    private final LongAdder retryGivenUpCount = new LongAdder();
 
     @Autowired
-    public NewsQueueProcessor(NewsService newsService, WebSocketService webSocketService) {
+    public NewsQueueProcessor(NewsService newsService, WebSocketService webSocketService,
+                              NewsClusterRelay clusterRelay, NewsPipelineMetrics pipelineMetrics) {
         this.newsService = newsService;
         this.webSocketService = webSocketService;
-        this.newsQueue = new LinkedBlockingQueue<>(queueCapacity);
-        
-        // 큐 프로세서 시작
-        startQueueProcessor();
+        this.clusterRelay = clusterRelay;
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    /**
+     * 큐 프로세서 시작
+     *
+     * 설정값 주입이 끝난 뒤 샤드와 워커를 생성합니다.
+     */
+    @PostConstruct
+    public void start() throws IOException, InterruptedException {
+        int shardCount = Math.max(1, workerCount);
+        int shardCapacity = Math.max(1, (queueCapacity + shardCount - 1) / shardCount);
+
+        if (dedupEnabled) {
+            recentIdFilter = new RecentIdFilter(dedupWindow, DEDUP_BUCKETS, dedupMaxEntries);
+        }
+        if (retryEnabled) {
+            retryScheduler = new NewsRetryScheduler(retryTick, retryWheelSize,
+                    retryInitialDelay, retryMaxDelay, retryMaxAttempts, this::processRetries);
+        }
+        if (deadLetterEnabled) {
+            deadLetterStore = DeadLetterStore.open(Path.of(deadLetterDirectory), deadLetterMaxEntries);
+        }
+
+        Thread.Builder threadBuilder = useVirtualThreads
+                ? Thread.ofVirtual().name("news-queue-worker-", 0)
+                : Thread.ofPlatform().daemon(true).name("news-queue-worker-", 0);
+
+        if (sourceType != QueueSourceType.INTERNAL) {
+            startSourceWorkers(shardCount, threadBuilder);
+            return;
+        }
+
+        NewsPriority[] priorities = NewsPriority.values();
+        shards = new QueueShard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            @SuppressWarnings("unchecked")
+            QueueEngine<QueueItem>[] lanes = new QueueEngine[priorities.length];
+            for (NewsPriority priority : priorities) {
+                lanes[priority.ordinal()] = createLaneQueue(i, priority, shardCapacity);
+            }
+            shards[i] = new QueueShard(i, lanes,
+                    new LaneScheduler(laneScheduling, laneWeights, laneMaxWait), waitStrategy);
+        }
+
+        for (QueueShard shard : shards) {
+            workerThreads.add(threadBuilder.start(() -> runWorker(shard)));
+        }
+
+        if (walEnabled) {
+            replayWriteAheadLogs();
+        }
+
+        logger.info("뉴스 큐 프로세서가 시작되었습니다. 레인별 큐 용량: {}, 워커 수: {}, 엔진: {}, 레인 스케줄링: {}, 입장 정책: {}, WAL: {}, 가상 스레드: {}",
+                   queueCapacity, shardCount, engineType, laneScheduling, admissionPolicy, walEnabled, useVirtualThreads);
+    }
+
+    /**
+     * 외부 메시지 소스를 만들고 수신 워커 시작
+     */
+    private void startSourceWorkers(int pollerCount, Thread.Builder threadBuilder) {
+        int capacity = queueCapacity * NewsPriority.values().length;
+        queueSource = switch (sourceType) {
+            case IN_PROCESS_SQS -> new InProcessSqsQueueSource(capacity, sourceMaxMessages, sourceVisibilityTimeout);
+            case INTERNAL -> throw new IllegalStateException("내부 큐는 메시지 소스가 아닙니다");
+        };
+        if (walEnabled) {
+            logger.warn("외부 메시지 소스를 사용하므로 WAL 설정은 무시됩니다: {}", sourceType);
+        }
+
+        for (int i = 0; i < pollerCount; i++) {
+            workerThreads.add(threadBuilder.start(this::runSourceWorker));
+        }
+
+        logger.info("뉴스 큐 프로세서가 시작되었습니다. 메시지 소스: {}, 용량: {}, 워커 수: {}, 최대 수신 개수: {}, 가시성 제한 시간: {}ms, 입장 정책: {}",
+                   sourceType, capacity, pollerCount, sourceMaxMessages, sourceVisibilityTimeout, admissionPolicy);
+    }
+
+    /**
+     * 샤드의 우선순위 레인 큐 엔진 생성 (WAL 사용 시 영속 엔진으로 감쌈)
+     *
+     * WAL은 레인마다 따로 두며, NORMAL 레인은 기존 샤드 디렉터리(shard-N)를 그대로 사용합니다.
+     */
+    private QueueEngine<QueueItem> createLaneQueue(int shardIndex, NewsPriority priority, int laneCapacity)
+            throws IOException {
+        QueueEngine<QueueItem> engine = engineType.create(laneCapacity, waitStrategy);
+        if (!walEnabled) {
+            return engine;
+        }
+
+        String directoryName = priority == NewsPriority.NORMAL
+                ? "shard-" + shardIndex
+                : "shard-" + shardIndex + "-" + priority.name().toLowerCase();
+        WriteAheadLog log = WriteAheadLog.open(
+                Path.of(walDirectory, directoryName), walSegmentSize, walFsyncInterval <= 0);
+        DurableQueueEngine<QueueItem> durableQueue = new DurableQueueEngine<>(
+                engine, log, QueueItem::getNewsId, newsId -> new QueueItem(newsId, priority));
+        durableQueues.add(durableQueue);
+        return durableQueue;
+    }
+
+    /**
+     * 커밋되지 않은 WAL 레코드를 재처리하고 주기적 동기화 시작
+     */
+    private void replayWriteAheadLogs() throws InterruptedException {
+        int replayed = 0;
+        for (DurableQueueEngine<QueueItem> durableQueue : durableQueues) {
+            replayed += durableQueue.replay();
+        }
+        for (QueueShard shard : shards) {
+            shard.signal();
+        }
+        logger.info("WAL 재처리 대상 뉴스 ID를 큐에 다시 넣었습니다: {}개", replayed);
+
+        if (walFsyncInterval > 0) {
+            walFlusher = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().daemon(true).name("news-queue-wal-flusher").factory());
+            walFlusher.scheduleWithFixedDelay(this::flushWriteAheadLogs,
+                    walFsyncInterval, walFsyncInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flushWriteAheadLogs() {
+        for (DurableQueueEngine<QueueItem> durableQueue : durableQueues) {
+            try {
+                durableQueue.flush();
+            } catch (Exception e) {
+                logger.error("WAL 동기화 중 오류 발생", e);
+            }
+        }
+    }
+
+    /**
+     * 큐 프로세서 중지
+     */
+    @PreDestroy
+    public void stop() {
+        workerThreads.forEach(Thread::interrupt);
+        workerThreads.clear();
+
+        if (walFlusher != null) {
+            walFlusher.shutdownNow();
+        }
+        if (retryScheduler != null) {
+            retryScheduler.close();
+        }
+        Thread replayThread = deadLetterReplayThread;
+        if (replayThread != null) {
+            replayThread.interrupt();
+        }
+        if (queueSource != null) {
+            queueSource.close();
+        }
+        for (DurableQueueEngine<QueueItem> durableQueue : durableQueues) {
+            try {
+                durableQueue.close();
+            } catch (IOException e) {
+                logger.error("WAL 닫기 중 오류 발생", e);
+            }
+        }
+        if (deadLetterStore != null) {
+            try {
+                deadLetterStore.close();
+            } catch (IOException e) {
+                logger.error("dead letter 보관소 닫기 중 오류 발생", e);
+            }
+        }
+        logger.info("뉴스 큐 프로세서가 중지되었습니다.");
     }
 
     /**
-     * 뉴스 ID를 큐에 추가
+     * 뉴스 ID를 큐에 추가 (일반 우선순위)
      */
-    public void enqueueNewsId(String newsId) {
+    public EnqueueResult enqueueNewsId(String newsId) {
+        return enqueueNewsId(newsId, NewsPriority.NORMAL);
+    }
+
+    /**
+     * 뉴스 ID를 지정한 우선순위 레인에 추가 (빈 ID는 추가하지 않고 FAILED)
+     */
+    public EnqueueResult enqueueNewsId(String newsId, NewsPriority priority) {
+        return enqueue(newsId, priority, admissionDeadline());
+    }
+
+    /**
+     * 여러 뉴스 ID를 지정한 우선순위 레인에 추가
+     *
+     * BLOCK 정책의 대기 시간은 ID마다가 아니라 요청 전체에 한 번 적용됩니다.
+     *
+     * @return 입력 순서와 같은 순서의 ID별 추가 결과
+     */
+    public List<EnqueueResult> enqueueNewsIds(List<String> newsIds, NewsPriority priority) {
+        long deadline = admissionDeadline();
+        List<EnqueueResult> results = new ArrayList<>(newsIds.size());
+        for (String newsId : newsIds) {
+            results.add(enqueue(newsId, priority, deadline));
+        }
+        return results;
+    }
+
+    /**
+     * 과부하로 거부했을 때 다시 시도하기까지 권장하는 시간 (초)
+     */
+    public long getRetryAfterSeconds() {
+        return admissionRetryAfter;
+    }
+
+    private long admissionDeadline() {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(admissionBlockTimeout);
+    }
+
+    private EnqueueResult enqueue(String newsId, NewsPriority priority, long deadlineNanos) {
+        if (newsId == null || newsId.isBlank()) {
+            logger.warn("빈 뉴스 ID는 큐에 추가할 수 없습니다");
+            return EnqueueResult.FAILED;
+        }
+        if (recentIdFilter != null && !recentIdFilter.markIfAbsent(newsId)) {
+            duplicateDroppedCount.increment();
+            logger.info("최근에 처리된 뉴스 ID라서 무시합니다: {}", newsId);
+            return EnqueueResult.DUPLICATE;
+        }
+
+        EnqueueResult result = EnqueueResult.FAILED;
         try {
-            if (newsQueue.offer(newsId)) {
-                logger.info("뉴스 ID가 큐에 추가되었습니다: {}", newsId);
+            if (queueSource != null) {
+                result = awaitAdmission(() -> queueSource.send(newsId, priority), deadlineNanos);
+            } else {
+                result = admit(shardFor(newsId), new QueueItem(newsId, priority), deadlineNanos);
+            }
+            if (result.isAccepted()) {
+                logger.info("뉴스 ID가 큐에 추가되었습니다: {} (우선순위 {})", newsId, priority);
             } else {
-                logger.warn("큐가 가득 차서 뉴스 ID를 추가할 수 없습니다: {}", newsId);
+                rejectedCount.increment();
+                logger.warn("큐가 가득 차서 뉴스 ID를 추가할 수 없습니다: {} (우선순위 {}, 결과 {})",
+                           newsId, priority, result);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("뉴스 ID 큐 추가 대기 중 중단되었습니다: {}", newsId);
         } catch (Exception e) {
             logger.error("뉴스 ID 큐 추가 중 오류 발생: {}", newsId, e);
+        } finally {
+            // 큐에 들어가지 못한 ID는 재시도할 수 있도록 중복 기록에서 제거
+            if (recentIdFilter != null && !result.isAccepted()) {
+                recentIdFilter.forget(newsId);
+            }
         }
+        return result;
     }
 
     /**
-     * 큐 프로세서 시작
+     * 입장 정책에 따라 샤드에 항목 추가
      */
-    private void startQueueProcessor() {
-        Thread processorThread = new Thread(() -> {
-            logger.info("뉴스 큐 프로세서가 시작되었습니다. 큐 용량: {}", queueCapacity);
-            
-            while (!Thread.currentThread().isInterrupted()) {
-                try {
-                    // 큐에서 뉴스 ID를 가져옴 (타임아웃 설정)
-                    String newsId = newsQueue.poll(pollTimeout, TimeUnit.MILLISECONDS);
-                    
-                    if (newsId != null) {
-                        processNewsId(newsId);
+    private EnqueueResult admit(QueueShard shard, QueueItem item, long deadlineNanos) throws InterruptedException {
+        if (shard.offer(item)) {
+            return EnqueueResult.ACCEPTED;
+        }
+
+        switch (admissionPolicy) {
+            case BLOCK -> {
+                return awaitAdmission(() -> shard.offer(item), deadlineNanos);
+            }
+            case EVICT_OLDEST -> {
+                QueueItem evicted = shard.evictOldest(item.getPriority());
+                if (evicted != null) {
+                    if (recentIdFilter != null) {
+                        recentIdFilter.forget(evicted.getNewsId());
                     }
-                } catch (InterruptedException e) {
-                    logger.info("뉴스 큐 프로세서가 중단되었습니다.");
-                    Thread.currentThread().interrupt();
-                    break;
-                } catch (Exception e) {
-                    logger.error("뉴스 큐 처리 중 오류 발생", e);
+                    logger.warn("큐가 가득 차서 가장 오래된 뉴스 ID를 버렸습니다: {} (샤드 {}, 우선순위 {})",
+                               evicted.getNewsId(), shard.getIndex(), evicted.getPriority());
+                }
+                return shard.offer(item) ? EnqueueResult.ACCEPTED : EnqueueResult.REJECTED;
+            }
+            default -> {
+                return EnqueueResult.REJECTED;
+            }
+        }
+    }
+
+    /**
+     * 항목 추가를 시도하고, BLOCK 정책이면 빈 자리가 생기거나 deadline이 지날 때까지 재시도
+     *
+     * 외부 메시지 소스는 오래된 메시지를 버릴 수 없으므로 EVICT_OLDEST 정책에서도 바로 거부합니다.
+     */
+    private EnqueueResult awaitAdmission(BooleanSupplier offer, long deadlineNanos) throws InterruptedException {
+        if (offer.getAsBoolean()) {
+            return EnqueueResult.ACCEPTED;
+        }
+        if (admissionPolicy != AdmissionPolicy.BLOCK) {
+            return EnqueueResult.REJECTED;
+        }
+
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(Math.min(remaining, ADMISSION_RETRY_NANOS));
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (offer.getAsBoolean()) {
+                return EnqueueResult.ACCEPTED;
+            }
+        }
+        return EnqueueResult.TIMED_OUT;
+    }
+
+    /**
+     * 뉴스 ID에 해당하는 샤드 선택
+     */
+    private QueueShard shardFor(String newsId) {
+        return shards[Math.floorMod(newsId.hashCode(), shards.length)];
+    }
+
+    /**
+     * 샤드 워커 루프
+     */
+    private void runWorker(QueueShard shard) {
+        logger.info("뉴스 큐 워커가 시작되었습니다. 샤드: {}, 샤드 용량: {}", shard.getIndex(), shard.getCapacity());
+
+        int maxBatchSize = Math.max(1, batchSize);
+        List<QueueItem> batch = new ArrayList<>(maxBatchSize);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                // 샤드에서 뉴스 ID를 배치로 가져옴 (타임아웃 설정)
+                batch.clear();
+                if (shard.drain(batch, maxBatchSize, batchLinger, pollTimeout) > 0) {
+                    recordQueueWait(batch);
+                    try {
+                        shard.recordProcessed(batch.size(), processItems(batch, null));
+                    } finally {
+                        // 처리 결과와 관계없이 꺼낸 항목은 커밋 (실패 건이 WAL에 남아 반복 재처리되지 않도록)
+                        shard.commit(batch);
+                    }
+                }
+            } catch (InterruptedException e) {
+                logger.info("뉴스 큐 워커가 중단되었습니다. 샤드: {}", shard.getIndex());
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                logger.error("뉴스 큐 처리 중 오류 발생. 샤드: {}", shard.getIndex(), e);
+            }
+        }
+    }
+
+    /**
+     * 메시지 소스 수신 워커 루프
+     *
+     * 받은 메시지는 처리 결과와 관계없이 일괄 삭제합니다 (내부 큐의 커밋과 같은 기준).
+     * 처리 도중 워커가 죽으면 삭제되지 않은 메시지는 가시성 제한 시간 뒤 다른 워커가 다시 받습니다.
+     */
+    private void runSourceWorker() {
+        logger.info("뉴스 큐 수신 워커가 시작되었습니다. 메시지 소스: {}", sourceType);
+
+        int maxMessages = Math.max(1, Math.min(batchSize, sourceMaxMessages));
+        List<QueueItem> items = new ArrayList<>(maxMessages);
+        List<String> receiptHandles = new ArrayList<>(maxMessages);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<ReceivedNews> messages = queueSource.receive(maxMessages, pollTimeout);
+                if (messages.isEmpty()) {
+                    continue;
+                }
+
+                items.clear();
+                receiptHandles.clear();
+                for (ReceivedNews message : messages) {
+                    // 보낸 시각을 큐에 들어온 시각으로 사용
+                    items.add(new QueueItem(message.getNewsId(), message.getPriority(), message.getSentAt()));
+                    receiptHandles.add(message.getReceiptHandle());
+                }
+                recordQueueWait(items);
+
+                int succeeded = processItems(items, null);
+                sourceProcessedCount.add(messages.size());
+                sourceFailedCount.add(messages.size() - succeeded);
+                queueSource.deleteBatch(receiptHandles);
+            } catch (InterruptedException e) {
+                logger.info("뉴스 큐 수신 워커가 중단되었습니다. 메시지 소스: {}", sourceType);
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                logger.error("뉴스 큐 수신 처리 중 오류 발생. 메시지 소스: {}", sourceType, e);
+            }
+        }
+    }
+
+    private void recordQueueWait(List<QueueItem> items) {
+        long dequeuedAt = System.nanoTime();
+        for (QueueItem item : items) {
+            pipelineMetrics.recordQueueWait(item, dequeuedAt);
+        }
+    }
+
+    /**
+     * 뉴스 ID 배치 처리 (일반 우선순위)
+     *
+     * 배치의 뉴스를 한 번에 조회한 뒤 큐에서 꺼낸 순서대로 전송합니다.
+     * 큐에 넣을 때와 같이 최근에 처리된 ID는 건너뛰므로, 다른 경로(HTTP, LISTEN)로 이미 들어온 뉴스를
+     * 아웃박스에서 다시 전송하지 않습니다.
+     *
+     * @return 전송까지 정상 완료된 항목 수
+     */
+    protected int processBatch(List<String> newsIds) {
+        List<QueueItem> items = new ArrayList<>(newsIds.size());
+        for (String newsId : newsIds) {
+            if (recentIdFilter != null && !recentIdFilter.markIfAbsent(newsId)) {
+                duplicateDroppedCount.increment();
+                logger.info("최근에 처리된 뉴스 ID라서 무시합니다: {}", newsId);
+                continue;
+            }
+            items.add(new QueueItem(newsId, NewsPriority.NORMAL));
+        }
+        if (items.isEmpty()) {
+            return 0;
+        }
+
+        boolean processed = false;
+        try {
+            int succeeded = processItems(items, null);
+            processed = true;
+            return succeeded;
+        } finally {
+            // 처리 도중 예외로 끝난 ID는 점유 제한 시간 뒤 다시 점유될 때 전송할 수 있도록 중복 기록에서 제거
+            if (recentIdFilter != null && !processed) {
+                for (QueueItem item : items) {
+                    recentIdFilter.forget(item.getNewsId());
                 }
             }
-        });
-        
-        processorThread.setName("news-queue-processor");
-        processorThread.setDaemon(true);
-        processorThread.start();
+        }
+    }
+
+    /**
+     * 재시도 시각이 된 뉴스 ID 배치 처리 (재시도 스케줄러의 가상 스레드에서 호출)
+     */
+    private void processRetries(List<NewsRetryScheduler.RetryTask> tasks) {
+        List<QueueItem> items = new ArrayList<>(tasks.size());
+        int[] attempts = new int[tasks.size()];
+        for (int i = 0; i < tasks.size(); i++) {
+            items.add(tasks.get(i).getItem());
+            attempts[i] = tasks.get(i).getAttempt();
+        }
+        processItems(items, attempts);
     }
 
     /**
-     * 뉴스 ID 처리
+     * 큐 항목 배치 처리
+     *
+     * @param attempts 항목별로 이미 수행한 재시도 횟수 (첫 처리이면 null)
+     * @return 전송까지 정상 완료된 항목 수
      */
-    @Async
-    protected void processNewsId(String newsId) {
+    private int processItems(List<QueueItem> items, int[] attempts) {
+        List<String> newsIds = new ArrayList<>(items.size());
+        for (QueueItem item : items) {
+            newsIds.add(item.getNewsId());
+        }
+
+        Map<String, News> newsById;
         try {
-            logger.debug("뉴스 ID 처리 시작: {}", newsId);
-            
-            // 뉴스 조회
-            News news = newsService.getNewsById(newsId);
+            logger.debug("뉴스 ID 배치 처리 시작: {}개", newsIds.size());
+
+            // 뉴스 일괄 조회
+            long fetchStartedAt = System.nanoTime();
+            newsById = newsService.getNewsByIds(newsIds);
+            pipelineMetrics.recordFetch(System.nanoTime() - fetchStartedAt);
+        } catch (Exception e) {
+            logger.error("뉴스 배치 조회 중 오류 발생: {}", newsIds, e);
+            for (QueueItem item : items) {
+                recordDeadLetter(item, DeadLetterReason.LOOKUP_FAILED, e.toString(), List.of());
+            }
+            return 0;
+        }
+
+        int succeeded = 0;
+        for (int i = 0; i < items.size(); i++) {
+            QueueItem item = items.get(i);
+            String newsId = item.getNewsId();
+            News news = newsById.get(newsId);
             if (news == null) {
-                logger.warn("뉴스를 찾을 수 없습니다: {}", newsId);
-                return;
-            }
-            
-            // WebSocket을 통해 모든 연결된 고객사에게 전송
-            webSocketService.broadcastNewsToAllCustomers(news);
-            
-            logger.info("뉴스 전송 완료: {} - {}", newsId, news.getTitle());
-            
+                scheduleRetry(item, attempts != null ? attempts[i] + 1 : 1);
+                continue;
+            }
+
+            try {
+                // WebSocket을 통해 모든 연결된 고객사에게 전송
+                DeliveryResult result = webSocketService.broadcastNewsToAllCustomers(news);
+                // 다른 노드에 연결된 고객사에게는 노드마다 한 번씩 전달 (이 노드의 전송 결과와 무관)
+                clusterRelay.relay(news);
+                if (!result.isSuccess()) {
+                    recordDeadLetter(item, DeadLetterReason.DELIVERY_FAILED,
+                            result.getErrorMessage(), result.getFailedCustomerIds());
+                    continue;
+                }
+                succeeded++;
+                pipelineMetrics.recordEndToEnd(item, System.nanoTime());
+
+                logger.info("뉴스 전송 완료: {} - {}", newsId, news.getTitle());
+            } catch (Exception e) {
+                logger.error("뉴스 ID 처리 중 오류 발생: {}", newsId, e);
+                recordDeadLetter(item, DeadLetterReason.DELIVERY_FAILED, e.toString(), List.of());
+            }
+        }
+        return succeeded;
+    }
+
+    /**
+     * 아직 조회되지 않는 뉴스 ID의 재시도 예약 (최대 재시도 횟수를 넘으면 포기하고 dead letter로 기록)
+     */
+    private void scheduleRetry(QueueItem item, int attempt) {
+        String newsId = item.getNewsId();
+        if (retryScheduler != null && retryScheduler.schedule(item, attempt)) {
+            logger.info("뉴스를 아직 찾을 수 없어 {}ms 후 다시 조회합니다: {} ({}회차)",
+                       retryScheduler.delayFor(attempt), newsId, attempt);
+            return;
+        }
+        retryGivenUpCount.increment();
+        logger.warn("뉴스를 찾을 수 없습니다: {} (재시도 {}회 후 포기)", newsId, attempt - 1);
+        recordDeadLetter(item, DeadLetterReason.NOT_FOUND,
+                "재시도 " + (attempt - 1) + "회 후에도 뉴스를 찾을 수 없습니다", List.of());
+    }
+
+    /**
+     * 처리하지 못한 항목을 dead letter로 기록
+     */
+    private void recordDeadLetter(QueueItem item, DeadLetterReason reason, String errorMessage,
+                                  List<String> failedCustomerIds) {
+        if (deadLetterStore == null) {
+            return;
+        }
+        try {
+            deadLetterStore.add(item.getNewsId(), item.getPriority(), reason, errorMessage, failedCustomerIds);
+            logger.warn("처리하지 못한 뉴스 ID를 dead letter로 기록했습니다: {} ({}, 실패 고객사 {}명)",
+                       item.getNewsId(), reason, failedCustomerIds.size());
+        } catch (Exception e) {
+            logger.error("dead letter 기록 중 오류 발생: {}", item.getNewsId(), e);
+        }
+    }
+
+    /**
+     * dead letter 보관소 사용 여부
+     */
+    public boolean isDeadLetterEnabled() {
+        return deadLetterStore != null;
+    }
+
+    /**
+     * 보관 중인 dead letter를 오래된 순서로 최대 limit개 조회
+     */
+    public List<DeadLetter> getDeadLetters(int limit) {
+        return deadLetterStore != null ? deadLetterStore.peek(Math.max(0, limit)) : List.of();
+    }
+
+    /**
+     * dead letter 재처리 시작
+     *
+     * 별도 스레드에서 replay-batch-size개씩 replay-interval(ms) 간격으로 큐에 다시 넣고,
+     * 큐에 들어간 항목은 보관소에서 제거합니다. 큐가 가득 차면 Retry-After만큼 기다렸다가 이어서 넣습니다.
+     * 다시 실패한 항목은 새 dead letter로 기록됩니다.
+     *
+     * 전송에 실패한 고객사가 기록된 항목은 큐를 거치지 않고 그 고객사에게만 다시 보냅니다
+     * (이미 받은 고객사에게 중복 전송하지 않도록). 고객사 기록이 없는 항목만 큐에 넣어 전체에 브로드캐스트합니다.
+     *
+     * @param limit 재처리할 최대 항목 수 (0 이하이면 현재 보관 중인 전체)
+     * @return 재처리 대상 항목 수 (보관소를 사용하지 않거나 이미 재처리 중이면 -1)
+     */
+    public int startDeadLetterReplay(int limit) {
+        if (deadLetterStore == null || !deadLetterReplaying.compareAndSet(false, true)) {
+            return -1;
+        }
+        int size = deadLetterStore.size();
+        int target = limit > 0 ? Math.min(limit, size) : size;
+        deadLetterReplayThread = Thread.ofVirtual().name("news-dead-letter-replay")
+                .start(() -> runDeadLetterReplay(target));
+        logger.info("dead letter 재처리를 시작합니다: {}개 (배치 {}개, 간격 {}ms)",
+                   target, deadLetterReplayBatchSize, deadLetterReplayInterval);
+        return target;
+    }
+
+    private void runDeadLetterReplay(int target) {
+        int replayed = 0;
+        try {
+            int batchLimit = Math.max(1, deadLetterReplayBatchSize);
+            while (replayed < target && !Thread.currentThread().isInterrupted()) {
+                List<DeadLetter> batch = deadLetterStore.peek(Math.min(batchLimit, target - replayed));
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                long deadline = admissionDeadline();
+                List<Long> done = new ArrayList<>(batch.size());
+                List<DeadLetter> targeted = new ArrayList<>();
+                EnqueueResult stoppedAt = null;
+                for (DeadLetter deadLetter : batch) {
+                    if (!deadLetter.getFailedCustomerIds().isEmpty()) {
+                        targeted.add(deadLetter);
+                        continue;
+                    }
+                    // 처음 추가될 때 남은 중복 기록 때문에 버려지지 않도록 먼저 제거
+                    if (recentIdFilter != null) {
+                        recentIdFilter.forget(deadLetter.getNewsId());
+                    }
+                    EnqueueResult result = enqueue(deadLetter.getNewsId(), deadLetter.getPriority(), deadline);
+                    if (result.isAccepted() || result == EnqueueResult.DUPLICATE) {
+                        done.add(deadLetter.getId());
+                    } else {
+                        stoppedAt = result;
+                        break;
+                    }
+                }
+                // 다시 실패한 고객사는 새 dead letter로 먼저 기록한 뒤 원래 항목 제거
+                redeliverToFailedCustomers(targeted);
+                for (DeadLetter deadLetter : targeted) {
+                    done.add(deadLetter.getId());
+                }
+                deadLetterStore.remove(done);
+                replayed += done.size();
+                deadLetterReplayedCount.add(done.size());
+
+                if (stoppedAt == EnqueueResult.FAILED) {
+                    logger.error("dead letter 재처리 중 큐 추가에 실패해 중단합니다. 재처리: {}개", replayed);
+                    break;
+                }
+                if (replayed < target) {
+                    // 큐가 가득 찼으면 Retry-After만큼, 아니면 설정한 간격만큼 쉬어 처리 속도를 제한
+                    long waitMillis = stoppedAt != null
+                            ? TimeUnit.SECONDS.toMillis(Math.max(1, admissionRetryAfter))
+                            : deadLetterReplayInterval;
+                    TimeUnit.MILLISECONDS.sleep(waitMillis);
+                }
+            }
+            logger.info("dead letter 재처리 완료: {}개 중 {}개", target, replayed);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.info("dead letter 재처리가 중단되었습니다. 재처리: {}개", replayed);
         } catch (Exception e) {
-            logger.error("뉴스 ID 처리 중 오류 발생: {}", newsId, e);
+            logger.error("dead letter 재처리 중 오류 발생. 재처리: {}개", replayed, e);
+        } finally {
+            deadLetterReplayThread = null;
+            deadLetterReplaying.set(false);
+        }
+    }
+
+    /**
+     * 전송에 실패했던 고객사에게만 뉴스를 다시 보냄
+     *
+     * 이 노드에서 보내지 못한 고객사는 연결된 다른 노드에 전달하고(전달받은 노드의 전송은 최선 노력),
+     * 뉴스를 찾을 수 없으면 같은 고객사 목록으로, 어느 노드로도 보내지 못한 고객사가 있으면
+     * 그 고객사만으로 새 dead letter를 기록합니다.
+     */
+    private void redeliverToFailedCustomers(List<DeadLetter> deadLetters) {
+        if (deadLetters.isEmpty()) {
+            return;
+        }
+        List<String> newsIds = new ArrayList<>(deadLetters.size());
+        for (DeadLetter deadLetter : deadLetters) {
+            newsIds.add(deadLetter.getNewsId());
+        }
+
+        Map<String, News> newsById = newsService.getNewsByIds(newsIds);
+        for (DeadLetter deadLetter : deadLetters) {
+            News news = newsById.get(deadLetter.getNewsId());
+            if (news == null) {
+                recordDeadLetter(new QueueItem(deadLetter.getNewsId(), deadLetter.getPriority()),
+                        DeadLetterReason.NOT_FOUND, "재처리할 뉴스를 찾을 수 없습니다", deadLetter.getFailedCustomerIds());
+                continue;
+            }
+            List<String> stillFailed = new ArrayList<>();
+            for (String customerId : deadLetter.getFailedCustomerIds()) {
+                if (!webSocketService.sendNewsToCustomer(customerId, news)
+                        && clusterRelay.relayToCustomer(customerId, news) == 0) {
+                    stillFailed.add(customerId);
+                }
+            }
+            if (!stillFailed.isEmpty()) {
+                recordDeadLetter(new QueueItem(deadLetter.getNewsId(), deadLetter.getPriority()),
+                        DeadLetterReason.DELIVERY_FAILED, "재처리 중에도 전송하지 못했습니다", stillFailed);
+            }
+            logger.info("dead letter 뉴스를 실패했던 고객사에게 다시 전송했습니다: {} (고객사 {}명 중 실패 {}명)",
+                       deadLetter.getNewsId(), deadLetter.getFailedCustomerIds().size(), stillFailed.size());
         }
     }
 
@@ -121,11 +889,55 @@ public class NewsQueueProcessor {
      * 큐 상태 정보 반환
      */
     public QueueStatus getQueueStatus() {
-        return new QueueStatus(
-            newsQueue.size(),
-            queueCapacity,
-            newsQueue.remainingCapacity()
-        );
+        int currentSize = 0;
+        int capacity = 0;
+        int remainingCapacity = 0;
+        List<ShardStatus> shardStatuses = new ArrayList<>(shards.length);
+        List<LaneStatus> laneStatuses = new ArrayList<>();
+
+        for (QueueShard shard : shards) {
+            currentSize += shard.size();
+            capacity += shard.getCapacity();
+            remainingCapacity += shard.remainingCapacity();
+            shardStatuses.add(shard.snapshot());
+        }
+
+        SourceStatus sourceStatus = null;
+        if (queueSource != null) {
+            int visible = queueSource.approximateNumberOfMessages();
+            int notVisible = queueSource.approximateNumberOfMessagesNotVisible();
+            currentSize = visible + notVisible;
+            capacity = queueSource.capacity();
+            remainingCapacity = Math.max(0, capacity - currentSize);
+            sourceStatus = new SourceStatus(sourceType, visible, notVisible,
+                    sourceProcessedCount.sum(), sourceFailedCount.sum());
+        }
+
+        // 레인 상태는 모든 샤드를 합산
+        for (NewsPriority priority : NewsPriority.values()) {
+            if (shards.length == 0) {
+                break;
+            }
+            LaneStatus laneStatus = shards[0].laneSnapshot(priority);
+            for (int i = 1; i < shards.length; i++) {
+                laneStatus = laneStatus.merge(shards[i].laneSnapshot(priority));
+            }
+            laneStatuses.add(laneStatus);
+        }
+
+        return new QueueStatus(currentSize, capacity, remainingCapacity, workerThreads.size(), shardStatuses,
+                laneStatuses, sourceStatus, duplicateDroppedCount.sum(), rejectedCount.sum(),
+                recentIdFilter != null ? recentIdFilter.size() : 0,
+                retryScheduler != null ? retryScheduler.getScheduledCount() : 0,
+                retryGivenUpCount.sum(),
+                retryScheduler != null ? retryScheduler.getPendingCount() : 0,
+                deadLetterStore != null ? deadLetterStatus() : null);
+    }
+
+    private DeadLetterStatus deadLetterStatus() {
+        return new DeadLetterStatus(deadLetterStore.size(), deadLetterStore.getMaxEntries(),
+                deadLetterStore.getRecordedCount(), deadLetterStore.getDroppedCount(),
+                deadLetterReplayedCount.sum(), deadLetterReplaying.get());
     }
 
     /**
@@ -135,19 +947,206 @@ public class NewsQueueProcessor {
         private final int currentSize;
         private final int capacity;
         private final int remainingCapacity;
+        private final int workerCount;
+        private final List<ShardStatus> shards;
+        private final List<LaneStatus> lanes;
+        private final SourceStatus source;
+        private final long duplicateDroppedCount;
+        private final long rejectedCount;
+        private final int dedupTrackedIds;
+        private final long retryScheduledCount;
+        private final long retryGivenUpCount;
+        private final int retryPending;
+        private final DeadLetterStatus deadLetters;
 
         public QueueStatus(int currentSize, int capacity, int remainingCapacity) {
+            this(currentSize, capacity, remainingCapacity, 0, List.of(), List.of(), null, 0, 0, 0, 0, 0, 0, null);
+        }
+
+        public QueueStatus(int currentSize, int capacity, int remainingCapacity, int workerCount,
+                           List<ShardStatus> shards, List<LaneStatus> lanes, SourceStatus source,
+                           long duplicateDroppedCount, long rejectedCount, int dedupTrackedIds,
+                           long retryScheduledCount, long retryGivenUpCount, int retryPending,
+                           DeadLetterStatus deadLetters) {
             this.currentSize = currentSize;
             this.capacity = capacity;
             this.remainingCapacity = remainingCapacity;
+            this.workerCount = workerCount;
+            this.shards = shards;
+            this.lanes = lanes;
+            this.source = source;
+            this.duplicateDroppedCount = duplicateDroppedCount;
+            this.rejectedCount = rejectedCount;
+            this.dedupTrackedIds = dedupTrackedIds;
+            this.retryScheduledCount = retryScheduledCount;
+            this.retryGivenUpCount = retryGivenUpCount;
+            this.retryPending = retryPending;
+            this.deadLetters = deadLetters;
         }
 
         // Getter
         public int getCurrentSize() { return currentSize; }
         public int getCapacity() { return capacity; }
         public int getRemainingCapacity() { return remainingCapacity; }
-        public double getUtilizationRate() { 
-            return capacity > 0 ? (double) currentSize / capacity * 100 : 0; 
+        public int getWorkerCount() { return workerCount; }
+        public List<ShardStatus> getShards() { return shards; }
+        public List<LaneStatus> getLanes() { return lanes; }
+        public SourceStatus getSource() { return source; }
+        public long getDuplicateDroppedCount() { return duplicateDroppedCount; }
+        public long getRejectedCount() { return rejectedCount; }
+        public long getEvictedCount() {
+            return shards.stream().mapToLong(ShardStatus::getEvictedCount).sum();
+        }
+        public int getDedupTrackedIds() { return dedupTrackedIds; }
+        public long getRetryScheduledCount() { return retryScheduledCount; }
+        public long getRetryGivenUpCount() { return retryGivenUpCount; }
+        public int getRetryPending() { return retryPending; }
+        public DeadLetterStatus getDeadLetters() { return deadLetters; }
+        public double getUtilizationRate() {
+            return capacity > 0 ? (double) currentSize / capacity * 100 : 0;
+        }
+    }
+
+    /**
+     * 샤드별 상태 정보를 담는 내부 클래스
+     */
+    public static class ShardStatus {
+        private final int index;
+        private final int depth;
+        private final int capacity;
+        private final long enqueuedCount;
+        private final long processedCount;
+        private final long failedCount;
+        private final long evictedCount;
+        private final double throughputPerSecond;
+
+        public ShardStatus(int index, int depth, int capacity, long enqueuedCount, long processedCount,
+                           long failedCount, long evictedCount, double throughputPerSecond) {
+            this.index = index;
+            this.depth = depth;
+            this.capacity = capacity;
+            this.enqueuedCount = enqueuedCount;
+            this.processedCount = processedCount;
+            this.failedCount = failedCount;
+            this.evictedCount = evictedCount;
+            this.throughputPerSecond = throughputPerSecond;
+        }
+
+        // Getter
+        public int getIndex() { return index; }
+        public int getDepth() { return depth; }
+        public int getCapacity() { return capacity; }
+        public long getEnqueuedCount() { return enqueuedCount; }
+        public long getProcessedCount() { return processedCount; }
+        public long getFailedCount() { return failedCount; }
+        public long getEvictedCount() { return evictedCount; }
+        public double getThroughputPerSecond() { return throughputPerSecond; }
+    }
+
+    /**
+     * 외부 메시지 소스 상태 정보를 담는 내부 클래스
+     */
+    public static class SourceStatus {
+        private final QueueSourceType type;
+        private final int visibleMessages;
+        private final int inFlightMessages;
+        private final long processedCount;
+        private final long failedCount;
+
+        public SourceStatus(QueueSourceType type, int visibleMessages, int inFlightMessages,
+                            long processedCount, long failedCount) {
+            this.type = type;
+            this.visibleMessages = visibleMessages;
+            this.inFlightMessages = inFlightMessages;
+            this.processedCount = processedCount;
+            this.failedCount = failedCount;
+        }
+
+        // Getter
+        public QueueSourceType getType() { return type; }
+        public int getVisibleMessages() { return visibleMessages; }
+        public int getInFlightMessages() { return inFlightMessages; }
+        public long getProcessedCount() { return processedCount; }
+        public long getFailedCount() { return failedCount; }
+    }
+
+    /**
+     * dead letter 보관소 상태 정보를 담는 내부 클래스
+     */
+    public static class DeadLetterStatus {
+        private final int size;
+        private final int maxEntries;
+        private final long recordedCount;
+        private final long droppedCount;
+        private final long replayedCount;
+        private final boolean replaying;
+
+        public DeadLetterStatus(int size, int maxEntries, long recordedCount, long droppedCount,
+                                long replayedCount, boolean replaying) {
+            this.size = size;
+            this.maxEntries = maxEntries;
+            this.recordedCount = recordedCount;
+            this.droppedCount = droppedCount;
+            this.replayedCount = replayedCount;
+            this.replaying = replaying;
+        }
+
+        // Getter
+        public int getSize() { return size; }
+        public int getMaxEntries() { return maxEntries; }
+        public long getRecordedCount() { return recordedCount; }
+        public long getDroppedCount() { return droppedCount; }
+        public long getReplayedCount() { return replayedCount; }
+        public boolean isReplaying() { return replaying; }
+    }
+
+    /**
+     * 우선순위 레인별 상태 정보를 담는 내부 클래스 (모든 샤드 합산)
+     */
+    public static class LaneStatus {
+        private final NewsPriority priority;
+        private final int depth;
+        private final int capacity;
+        private final long enqueuedCount;
+        private final long dequeuedCount;
+        private final long totalWaitNanos;
+        private final long maxWaitNanos;
+
+        public LaneStatus(NewsPriority priority, int depth, int capacity, long enqueuedCount,
+                          long dequeuedCount, long totalWaitNanos, long maxWaitNanos) {
+            this.priority = priority;
+            this.depth = depth;
+            this.capacity = capacity;
+            this.enqueuedCount = enqueuedCount;
+            this.dequeuedCount = dequeuedCount;
+            this.totalWaitNanos = totalWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+        }
+
+        /**
+         * 다른 샤드의 같은 레인 상태와 합산
+         */
+        LaneStatus merge(LaneStatus other) {
+            return new LaneStatus(
+                priority,
+                depth + other.depth,
+                capacity + other.capacity,
+                enqueuedCount + other.enqueuedCount,
+                dequeuedCount + other.dequeuedCount,
+                totalWaitNanos + other.totalWaitNanos,
+                Math.max(maxWaitNanos, other.maxWaitNanos)
+            );
+        }
+
+        // Getter
+        public NewsPriority getPriority() { return priority; }
+        public int getDepth() { return depth; }
+        public int getCapacity() { return capacity; }
+        public long getEnqueuedCount() { return enqueuedCount; }
+        public long getDequeuedCount() { return dequeuedCount; }
+        public double getAverageWaitMillis() {
+            return dequeuedCount > 0 ? totalWaitNanos / 1_000_000.0 / dequeuedCount : 0;
         }
+        public double getMaxWaitMillis() { return maxWaitNanos / 1_000_000.0; }
     }
 }
@@ -0,0 +1,65 @@
+package com.alert.news.queue;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 뉴스 ID 메시지 소스 인터페이스
+ *
+ * AWS SQS와 같은 외부 메시지 큐를 추상화합니다.
+ * 소비자는 메시지를 배치로 받아(long poll) 처리한 뒤 수신 핸들로 삭제하며,
+ * 가시성 제한 시간 안에 삭제되지 않은 메시지는 다시 수신 가능 상태가 됩니다 (at-least-once).
+ */
+public interface NewsQueueSource extends Closeable {
+
+    /**
+     * 메시지 전송 (용량이 가득 찬 경우 즉시 false 반환)
+     */
+    boolean send(String newsId, NewsPriority priority);
+
+    /**
+     * 메시지를 최대 maxMessages개까지 수신
+     *
+     * 수신 가능한 메시지가 없으면 최대 waitMillis 동안 기다리며, 하나라도 생기면 바로 반환합니다.
+     * 받은 메시지는 가시성 제한 시간 동안 다른 소비자에게 보이지 않습니다.
+     *
+     * @return 수신한 메시지 (대기 시간 동안 없으면 빈 목록)
+     */
+    List<ReceivedNews> receive(int maxMessages, long waitMillis) throws InterruptedException;
+
+    /**
+     * 처리가 끝난 메시지를 수신 핸들로 일괄 삭제
+     *
+     * 가시성 제한 시간이 지나 다른 소비자에게 다시 전달된 메시지의 이전 핸들은 무시됩니다.
+     *
+     * @return 삭제된 메시지 수
+     */
+    int deleteBatch(Collection<String> receiptHandles);
+
+    /**
+     * 수신한 메시지의 가시성 제한 시간 변경 (0이면 즉시 다시 수신 가능)
+     *
+     * @return 핸들이 유효해서 변경되었는지 여부
+     */
+    boolean changeVisibility(String receiptHandle, long timeoutMillis);
+
+    /**
+     * 수신 대기 중인 메시지 수
+     */
+    int approximateNumberOfMessages();
+
+    /**
+     * 수신되었지만 아직 삭제되지 않은 메시지 수
+     */
+    int approximateNumberOfMessagesNotVisible();
+
+    /**
+     * 최대 보관 가능 메시지 수
+     */
+    int capacity();
+
+    @Override
+    default void close() {
+    }
+}
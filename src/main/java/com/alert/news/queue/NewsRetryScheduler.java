@@ -0,0 +1,167 @@
+package com.alert.news.queue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 뉴스 ID 재시도 스케줄러
+ *
+ * 큐에 들어온 시점에 아직 조회되지 않는 뉴스 ID(생산자의 INSERT 커밋 전 등)를
+ * 지수 백오프로 다시 시도합니다. 예약은 잠금 없는 대기열에 넣기만 하고,
+ * 전용 타이머 스레드가 {@link HierarchicalTimingWheel}에 옮겨 만료 시각을 관리하므로 예약 비용은 O(1)입니다.
+ * 만료된 항목은 배치로 묶어 별도 가상 스레드에서 처리하므로 메인 워커와 타이머를 막지 않습니다.
+ */
+class NewsRetryScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsRetryScheduler.class);
+
+    private final long initialDelay;
+    private final long maxDelay;
+    private final int maxAttempts;
+    private final Consumer<List<RetryTask>> handler;
+
+    private final HierarchicalTimingWheel<RetryTask> wheel;
+    private final Queue<Scheduled> inbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder scheduledCount = new LongAdder();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+    private final Thread timerThread;
+
+    /**
+     * @param handler 재시도 시각이 된 항목 배치를 처리 (가상 스레드에서 호출)
+     */
+    NewsRetryScheduler(long tickMillis, int wheelSize, long initialDelay, long maxDelay, int maxAttempts,
+                       Consumer<List<RetryTask>> handler) {
+        this.initialDelay = Math.max(1, initialDelay);
+        this.maxDelay = Math.max(this.initialDelay, maxDelay);
+        this.maxAttempts = maxAttempts;
+        this.handler = handler;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+        this.timerThread = Thread.ofPlatform().daemon(true).name("news-retry-timer").start(this::runTimer);
+    }
+
+    /**
+     * 재시도 예약
+     *
+     * @param item 처음 큐에 들어온 항목 (큐에 들어온 시각을 end-to-end 측정에 그대로 사용)
+     * @param attempt 이번에 예약하는 재시도 회차 (1부터)
+     * @return 예약 여부 (최대 재시도 횟수를 넘으면 false)
+     */
+    boolean schedule(QueueItem item, int attempt) {
+        if (attempt > maxAttempts) {
+            return false;
+        }
+        inbox.offer(new Scheduled(new RetryTask(item, attempt), System.currentTimeMillis() + delayFor(attempt)));
+        pending.incrementAndGet();
+        scheduledCount.increment();
+        LockSupport.unpark(timerThread);
+        return true;
+    }
+
+    /**
+     * 회차별 대기 시간 (initialDelay x 2^(attempt-1), 최대 maxDelay)
+     */
+    long delayFor(int attempt) {
+        int shift = Math.min(Math.max(0, attempt - 1), 30);
+        return Math.min(maxDelay, initialDelay << shift);
+    }
+
+    /**
+     * 재시도 대기 중인 항목 수
+     */
+    int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * 지금까지 예약한 재시도 수
+     */
+    long getScheduledCount() {
+        return scheduledCount.sum();
+    }
+
+    void close() {
+        timerThread.interrupt();
+        dispatcher.shutdownNow();
+    }
+
+    private void runTimer() {
+        List<RetryTask> expired = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            // 오래 대기한 뒤에도 새 예약이 멈춰 있던 시계 기준으로 배치되지 않도록 시계를 먼저 현재 시각으로 진행
+            wheel.advance(System.currentTimeMillis(), expired::add);
+            if (!expired.isEmpty()) {
+                List<RetryTask> batch = new ArrayList<>(expired);
+                expired.clear();
+                pending.addAndGet(-batch.size());
+                dispatch(batch);
+            }
+
+            Scheduled scheduled;
+            while ((scheduled = inbox.poll()) != null) {
+                wheel.add(scheduled.task, scheduled.deadlineMillis);
+            }
+
+            if (wheel.size() == 0 && inbox.isEmpty()) {
+                // 예약된 항목이 없으면 다음 예약까지 대기
+                LockSupport.park(this);
+            } else {
+                long waitMillis = wheel.nextTickMillis() - System.currentTimeMillis();
+                if (waitMillis > 0) {
+                    LockSupport.parkNanos(this, waitMillis * 1_000_000);
+                }
+            }
+        }
+    }
+
+    private void dispatch(List<RetryTask> batch) {
+        try {
+            dispatcher.execute(() -> {
+                try {
+                    handler.accept(batch);
+                } catch (Exception e) {
+                    logger.error("뉴스 ID 재시도 처리 중 오류 발생: {}개", batch.size(), e);
+                }
+            });
+        } catch (Exception e) {
+            logger.warn("재시도 스케줄러가 종료되어 뉴스 ID {}개를 처리하지 못했습니다", batch.size());
+        }
+    }
+
+    /**
+     * 재시도 대상 항목과 재시도 회차
+     */
+    static final class RetryTask {
+        private final QueueItem item;
+        private final int attempt;
+
+        RetryTask(QueueItem item, int attempt) {
+            this.item = item;
+            this.attempt = attempt;
+        }
+
+        QueueItem getItem() { return item; }
+        int getAttempt() { return attempt; }
+    }
+
+    private static final class Scheduled {
+        private final RetryTask task;
+        private final long deadlineMillis;
+
+        private Scheduled(RetryTask task, long deadlineMillis) {
+            this.task = task;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
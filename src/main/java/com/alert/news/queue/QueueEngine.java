@@ -0,0 +1,64 @@
+package com.alert.news.queue;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 큐 엔진 인터페이스
+ *
+ * 샤드가 항목을 보관하는 자료구조를 추상화합니다.
+ * 설정(queue.engine)에 따라 LinkedBlockingQueue 기반 엔진 또는
+ * 미리 할당된 링 버퍼 기반 엔진을 선택할 수 있습니다.
+ */
+public interface QueueEngine<E> {
+
+    /**
+     * 항목 추가 (가득 찬 경우 즉시 false 반환)
+     */
+    boolean offer(E element);
+
+    /**
+     * 항목을 꺼냄 (최대 timeout 동안 대기, 없으면 null)
+     */
+    E poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * 맨 앞 항목을 꺼내지 않고 조회 (비어 있으면 null)
+     *
+     * 단일 소비자 스레드에서 호출하는 것을 전제로 합니다.
+     */
+    E peek();
+
+    /**
+     * 대기 없이 최대 maxElements개의 항목을 꺼내 target에 추가
+     *
+     * @return 꺼낸 항목 수
+     */
+    int drainTo(Collection<? super E> target, int maxElements);
+
+    /**
+     * 꺼낸 항목 중 처리가 끝난 항목을 알림
+     *
+     * 영속 엔진은 이 시점에 아직 처리되지 않은 가장 오래된 항목 앞까지 커밋 위치를 옮기며,
+     * 메모리 엔진은 아무 일도 하지 않습니다. 항목은 큐에 넣은 객체 그대로 넘겨야 합니다.
+     */
+    default void commit(Collection<? extends E> elements) {
+    }
+
+    /**
+     * 현재 보관 중인 항목 수
+     */
+    int size();
+
+    /**
+     * 최대 보관 가능 항목 수
+     */
+    int capacity();
+
+    /**
+     * 남은 용량
+     */
+    default int remainingCapacity() {
+        return Math.max(0, capacity() - size());
+    }
+}
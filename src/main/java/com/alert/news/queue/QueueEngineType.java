@@ -0,0 +1,27 @@
+package com.alert.news.queue;
+
+/**
+ * 큐 엔진 종류 (queue.engine 설정값)
+ */
+public enum QueueEngineType {
+
+    /**
+     * LinkedBlockingQueue 기반 엔진
+     */
+    LINKED,
+
+    /**
+     * 미리 할당된 2의 거듭제곱 크기 링 버퍼 엔진
+     */
+    RING_BUFFER;
+
+    /**
+     * 설정된 종류의 큐 엔진 생성
+     */
+    public <E> QueueEngine<E> create(int capacity, WaitStrategy waitStrategy) {
+        return switch (this) {
+            case LINKED -> new LinkedQueueEngine<>(capacity);
+            case RING_BUFFER -> new RingBufferQueueEngine<>(capacity, waitStrategy);
+        };
+    }
+}
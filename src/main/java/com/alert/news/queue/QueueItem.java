@@ -0,0 +1,37 @@
+package com.alert.news.queue;
+
+/**
+ * 큐에 보관되는 항목
+ *
+ * 뉴스 ID와 함께 우선순위, 큐에 들어온 시각(System.nanoTime 기준)을 담습니다.
+ */
+public final class QueueItem {
+
+    private final String newsId;
+    private final NewsPriority priority;
+    private final long enqueuedAt;
+
+    public QueueItem(String newsId, NewsPriority priority) {
+        this(newsId, priority, System.nanoTime());
+    }
+
+    public QueueItem(String newsId, NewsPriority priority, long enqueuedAt) {
+        this.newsId = newsId;
+        this.priority = priority;
+        this.enqueuedAt = enqueuedAt;
+    }
+
+    // Getter
+    public String getNewsId() { return newsId; }
+    public NewsPriority getPriority() { return priority; }
+    public long getEnqueuedAt() { return enqueuedAt; }
+
+    @Override
+    public String toString() {
+        return "QueueItem{" +
+                "newsId='" + newsId + '\'' +
+                ", priority=" + priority +
+                ", enqueuedAt=" + enqueuedAt +
+                '}';
+    }
+}
@@ -0,0 +1,276 @@
+package com.alert.news.queue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 뉴스 큐 샤드
+ *
+ * 뉴스 ID 해시값으로 분배된 항목을 보관하는 개별 큐입니다.
+ * 샤드마다 하나의 워커가 전담하므로 같은 샤드 안에서는 처리 순서가 보장됩니다.
+ *
+ * 샤드 안에는 우선순위별 레인이 있으며, 워커는 {@link LaneScheduler}가 고른 레인에서 항목을 꺼냅니다.
+ */
+class QueueShard {
+
+    private final int index;
+    private final QueueEngine<QueueItem>[] lanes;
+    private final LaneStats[] laneStats;
+    private final LaneScheduler scheduler;
+    private final WaitStrategy waitStrategy;
+
+    // 항목이 없어 대기 중인 워커 (생산자가 항목 추가 후 깨움)
+    private volatile Thread waiter;
+
+    // 샤드별 처리 통계
+    private final LongAdder enqueuedCount = new LongAdder();
+    private final LongAdder processedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder evictedCount = new LongAdder();
+    private final long startedAt = System.currentTimeMillis();
+
+    QueueShard(int index, QueueEngine<QueueItem>[] lanes, LaneScheduler scheduler, WaitStrategy waitStrategy) {
+        this.index = index;
+        this.lanes = lanes;
+        this.scheduler = scheduler;
+        this.waitStrategy = waitStrategy;
+        this.laneStats = new LaneStats[lanes.length];
+        for (int i = 0; i < lanes.length; i++) {
+            laneStats[i] = new LaneStats();
+        }
+    }
+
+    /**
+     * 샤드에 항목 추가 (우선순위에 해당하는 레인으로)
+     */
+    boolean offer(QueueItem item) {
+        int lane = item.getPriority().ordinal();
+        if (lanes[lane].offer(item)) {
+            enqueuedCount.increment();
+            laneStats[lane].enqueued.increment();
+            signal();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 레인에서 가장 오래된 항목을 꺼내 버림 (EVICT_OLDEST 입장 정책)
+     *
+     * 버린 항목은 바로 커밋합니다. 영속 엔진은 항목 위치 기준으로 커밋하므로
+     * 워커가 처리 중인 항목이 있으면 그 항목 앞까지만 커밋 위치가 이동합니다.
+     *
+     * @return 버린 항목 (레인이 비어 있으면 null)
+     */
+    QueueItem evictOldest(NewsPriority priority) {
+        int lane = priority.ordinal();
+        List<QueueItem> evicted = new ArrayList<>(1);
+        if (lanes[lane].drainTo(evicted, 1) == 0) {
+            return null;
+        }
+        lanes[lane].commit(evicted);
+        evictedCount.increment();
+        return evicted.get(0);
+    }
+
+    /**
+     * 대기 중인 워커를 깨움
+     */
+    void signal() {
+        Thread thread = waiter;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * 샤드에서 항목을 배치로 꺼냄
+     *
+     * 첫 항목은 pollTimeout 동안 기다리고, 첫 항목을 받은 뒤에는
+     * 최대 maxItems개가 모이거나 lingerMillis가 지날 때까지 추가로 모읍니다.
+     * 항목마다 레인을 다시 고르므로 배치 안에서도 우선순위가 지켜집니다.
+     *
+     * @return 꺼낸 항목 수 (pollTimeout 동안 항목이 없으면 0)
+     */
+    int drain(List<QueueItem> batch, int maxItems, long lingerMillis, long pollTimeoutMillis)
+            throws InterruptedException {
+        long pollDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pollTimeoutMillis);
+        while (!takeNext(batch)) {
+            if (!awaitItems(pollDeadline - System.nanoTime())) {
+                return 0;
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        while (batch.size() < maxItems) {
+            // 이미 쌓여 있는 항목은 대기 없이 가져옴
+            if (takeNext(batch)) {
+                continue;
+            }
+            if (!awaitItems(deadline - System.nanoTime())) {
+                break;
+            }
+        }
+        return batch.size();
+    }
+
+    /**
+     * 스케줄러가 고른 레인에서 항목 하나를 꺼냄
+     */
+    private boolean takeNext(List<QueueItem> batch) {
+        int lane = scheduler.select(lanes);
+        if (lane < 0 || lanes[lane].drainTo(batch, 1) == 0) {
+            return false;
+        }
+        QueueItem item = batch.get(batch.size() - 1);
+        laneStats[lane].recordDequeued(System.nanoTime() - item.getEnqueuedAt());
+        return true;
+    }
+
+    /**
+     * 어느 레인에든 항목이 생길 때까지 대기
+     *
+     * @return 제한 시간 안에 항목이 생겼는지 여부
+     */
+    private boolean awaitItems(long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        int attempt = 0;
+        while (!hasItems()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+
+            // 등록 후 다시 확인해야 등록 직전에 추가된 항목의 신호를 놓치지 않음
+            waiter = Thread.currentThread();
+            try {
+                if (!hasItems()) {
+                    waitStrategy.await(attempt++, remaining);
+                }
+            } finally {
+                waiter = null;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasItems() {
+        for (QueueEngine<QueueItem> lane : lanes) {
+            if (lane.size() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 배치 처리 결과 기록
+     */
+    void recordProcessed(int processed, int succeeded) {
+        processedCount.add(processed);
+        failedCount.add(processed - succeeded);
+    }
+
+    /**
+     * 꺼낸 항목의 처리 완료를 레인별 큐 엔진에 알림 (영속 엔진의 커밋 위치 이동)
+     */
+    void commit(List<QueueItem> batch) {
+        for (int i = 0; i < lanes.length; i++) {
+            List<QueueItem> laneItems = new ArrayList<>(batch.size());
+            for (QueueItem item : batch) {
+                if (item.getPriority().ordinal() == i) {
+                    laneItems.add(item);
+                }
+            }
+            if (!laneItems.isEmpty()) {
+                lanes[i].commit(laneItems);
+            }
+        }
+    }
+
+    int getIndex() { return index; }
+
+    int getCapacity() {
+        int capacity = 0;
+        for (QueueEngine<QueueItem> lane : lanes) {
+            capacity += lane.capacity();
+        }
+        return capacity;
+    }
+
+    int size() {
+        int size = 0;
+        for (QueueEngine<QueueItem> lane : lanes) {
+            size += lane.size();
+        }
+        return size;
+    }
+
+    int remainingCapacity() {
+        int remaining = 0;
+        for (QueueEngine<QueueItem> lane : lanes) {
+            remaining += lane.remainingCapacity();
+        }
+        return remaining;
+    }
+
+    /**
+     * 샤드 상태 스냅샷 생성
+     */
+    NewsQueueProcessor.ShardStatus snapshot() {
+        long processed = processedCount.sum();
+        long elapsedMillis = Math.max(1, System.currentTimeMillis() - startedAt);
+        return new NewsQueueProcessor.ShardStatus(
+            index,
+            size(),
+            getCapacity(),
+            enqueuedCount.sum(),
+            processed,
+            failedCount.sum(),
+            evictedCount.sum(),
+            processed * 1000.0 / elapsedMillis
+        );
+    }
+
+    /**
+     * 레인 상태 스냅샷 생성
+     */
+    NewsQueueProcessor.LaneStatus laneSnapshot(NewsPriority priority) {
+        int lane = priority.ordinal();
+        LaneStats stats = laneStats[lane];
+        return new NewsQueueProcessor.LaneStatus(
+            priority,
+            lanes[lane].size(),
+            lanes[lane].capacity(),
+            stats.enqueued.sum(),
+            stats.dequeued.sum(),
+            stats.totalWaitNanos.sum(),
+            stats.maxWaitNanos
+        );
+    }
+
+    /**
+     * 레인별 통계
+     */
+    private static final class LaneStats {
+        private final LongAdder enqueued = new LongAdder();
+        private final LongAdder dequeued = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        // 워커 스레드에서만 갱신
+        private volatile long maxWaitNanos;
+
+        private void recordDequeued(long waitNanos) {
+            dequeued.increment();
+            totalWaitNanos.add(waitNanos);
+            if (waitNanos > maxWaitNanos) {
+                maxWaitNanos = waitNanos;
+            }
+        }
+    }
+}
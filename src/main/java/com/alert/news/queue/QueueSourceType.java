@@ -0,0 +1,17 @@
+package com.alert.news.queue;
+
+/**
+ * 뉴스 ID 수신 경로 (queue.source.type 설정값)
+ */
+public enum QueueSourceType {
+
+    /**
+     * 샤드/우선순위 레인으로 구성된 내부 큐
+     */
+    INTERNAL,
+
+    /**
+     * SQS 동작(long poll 배치 수신, 가시성 제한 시간, 일괄 삭제)을 흉내 내는 프로세스 내 큐
+     */
+    IN_PROCESS_SQS
+}
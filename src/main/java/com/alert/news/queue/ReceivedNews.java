@@ -0,0 +1,41 @@
+package com.alert.news.queue;
+
+/**
+ * 메시지 소스에서 수신한 뉴스 ID 메시지
+ *
+ * 삭제나 가시성 변경에 사용할 수신 핸들과 지금까지의 수신 횟수를 함께 담습니다.
+ */
+public final class ReceivedNews {
+
+    private final String newsId;
+    private final NewsPriority priority;
+    private final String receiptHandle;
+    private final int receiveCount;
+    // 보낸 시각 (System.nanoTime 기준)
+    private final long sentAt;
+
+    public ReceivedNews(String newsId, NewsPriority priority, String receiptHandle, int receiveCount, long sentAt) {
+        this.newsId = newsId;
+        this.priority = priority;
+        this.receiptHandle = receiptHandle;
+        this.receiveCount = receiveCount;
+        this.sentAt = sentAt;
+    }
+
+    // Getter
+    public String getNewsId() { return newsId; }
+    public NewsPriority getPriority() { return priority; }
+    public String getReceiptHandle() { return receiptHandle; }
+    public int getReceiveCount() { return receiveCount; }
+    public long getSentAt() { return sentAt; }
+
+    @Override
+    public String toString() {
+        return "ReceivedNews{" +
+                "newsId='" + newsId + '\'' +
+                ", priority=" + priority +
+                ", receiptHandle='" + receiptHandle + '\'' +
+                ", receiveCount=" + receiveCount +
+                '}';
+    }
+}
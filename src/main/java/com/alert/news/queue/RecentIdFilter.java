@@ -0,0 +1,109 @@
+package com.alert.news.queue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최근 ID 중복 필터
+ *
+ * 시간 구간(버킷)별 해시 셋을 원형으로 돌려 쓰는 방식으로, 최근 window 동안 본 ID를 기억합니다.
+ * 가장 오래된 버킷은 새 구간이 시작될 때 통째로 비워지므로 만료 처리 비용이 항목 수와 무관하고,
+ * 버킷마다 최대 항목 수를 두어 메모리 사용량이 제한됩니다.
+ * 버킷이 가득 차면 중복 검사 없이 통과시킵니다. (유실보다 중복 전송이 낫다는 판단)
+ */
+public class RecentIdFilter {
+
+    private final long bucketMillis;
+    private final int maxEntriesPerBucket;
+    private final Bucket[] buckets;
+    private final LongAdder overflowCount = new LongAdder();
+
+    /**
+     * @param windowMillis 중복으로 판단할 기간
+     * @param bucketCount  기간을 나눌 버킷 수 (많을수록 만료 시점이 정확해짐)
+     * @param maxEntries   전체 최대 기억 항목 수
+     */
+    public RecentIdFilter(long windowMillis, int bucketCount, int maxEntries) {
+        int count = Math.max(1, bucketCount);
+        this.bucketMillis = Math.max(1, windowMillis / count);
+        this.maxEntriesPerBucket = Math.max(1, maxEntries / count);
+        this.buckets = new Bucket[count];
+        for (int i = 0; i < count; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    /**
+     * 처음 보는 ID이면 기록하고 true, 기간 내에 이미 본 ID이면 false 반환
+     */
+    public boolean markIfAbsent(String id) {
+        long epoch = System.currentTimeMillis() / bucketMillis;
+        Bucket current = bucketFor(epoch);
+
+        long oldestEpoch = epoch - buckets.length + 1;
+        for (Bucket bucket : buckets) {
+            if (bucket.epoch >= oldestEpoch && bucket.ids.contains(id)) {
+                return false;
+            }
+        }
+
+        if (current.ids.size() >= maxEntriesPerBucket) {
+            overflowCount.increment();
+            return true;
+        }
+        // 동시에 같은 ID가 들어온 경우 add에 성공한 한 쪽만 통과
+        return current.ids.add(id);
+    }
+
+    /**
+     * 기록된 ID 제거 (큐 추가에 실패해 재시도가 가능해야 하는 경우)
+     */
+    public void forget(String id) {
+        for (Bucket bucket : buckets) {
+            bucket.ids.remove(id);
+        }
+    }
+
+    /**
+     * 현재 기억하고 있는 ID 수
+     */
+    public int size() {
+        long oldestEpoch = System.currentTimeMillis() / bucketMillis - buckets.length + 1;
+        int size = 0;
+        for (Bucket bucket : buckets) {
+            if (bucket.epoch >= oldestEpoch) {
+                size += bucket.ids.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 버킷이 가득 차 중복 검사 없이 통과시킨 횟수
+     */
+    public long getOverflowCount() {
+        return overflowCount.sum();
+    }
+
+    /**
+     * 현재 구간의 버킷 반환 (구간이 바뀌었으면 가장 오래된 버킷을 비워서 재사용)
+     */
+    private Bucket bucketFor(long epoch) {
+        Bucket bucket = buckets[(int) (epoch % buckets.length)];
+        if (bucket.epoch != epoch) {
+            synchronized (bucket) {
+                if (bucket.epoch != epoch) {
+                    bucket.ids.clear();
+                    bucket.epoch = epoch;
+                }
+            }
+        }
+        return bucket;
+    }
+
+    private static final class Bucket {
+        private volatile long epoch = Long.MIN_VALUE;
+        private final Set<String> ids = ConcurrentHashMap.newKeySet();
+    }
+}
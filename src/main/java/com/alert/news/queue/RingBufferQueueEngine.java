@@ -0,0 +1,164 @@
+package com.alert.news.queue;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 링 버퍼 기반 락 프리 큐 엔진
+ *
+ * 2의 거듭제곱 크기로 미리 할당한 배열과 슬롯별 시퀀스 번호를 사용하는
+ * 다중 생산자/다중 소비자 바운디드 큐입니다. (Dmitry Vyukov의 MPMC 큐 방식)
+ * 추가와 꺼내기 모두 CAS 한 번으로 끝나며 항목마다 객체를 할당하지 않습니다.
+ *
+ * 소비자를 깨우는 신호가 없으므로 비어 있을 때의 대기 방식은 {@link WaitStrategy}로 정합니다.
+ */
+public class RingBufferQueueEngine<E> implements QueueEngine<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final Object[] buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private final AtomicLong dequeuePosition = new AtomicLong();
+    private final WaitStrategy waitStrategy;
+
+    /**
+     * @param requestedCapacity 요청 용량 (2의 거듭제곱으로 올림)
+     */
+    public RingBufferQueueEngine(int requestedCapacity, WaitStrategy waitStrategy) {
+        this.capacity = ceilingPowerOfTwo(requestedCapacity);
+        this.mask = capacity - 1;
+        this.buffer = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.waitStrategy = Objects.requireNonNull(waitStrategy, "waitStrategy");
+
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    @Override
+    public boolean offer(E element) {
+        Objects.requireNonNull(element, "element");
+
+        long position = enqueuePosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                // 슬롯이 비어 있음: 위치를 선점한 뒤 기록
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    buffer[index] = element;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = enqueuePosition.get();
+            } else if (difference < 0) {
+                // 한 바퀴 전 항목이 아직 소비되지 않음: 가득 참
+                return false;
+            } else {
+                // 다른 생산자가 먼저 선점함
+                position = enqueuePosition.get();
+            }
+        }
+    }
+
+    /**
+     * 대기 없이 항목을 하나 꺼냄 (비어 있으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    private E pollNow() {
+        long position = dequeuePosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+
+            if (difference == 0) {
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    E element = (E) buffer[index];
+                    buffer[index] = null;
+                    // 다음 바퀴의 생산자가 사용할 수 있도록 시퀀스를 넘겨줌
+                    sequences.set(index, position + capacity);
+                    return element;
+                }
+                position = dequeuePosition.get();
+            } else if (difference < 0) {
+                // 아직 기록되지 않은 슬롯: 비어 있음
+                return null;
+            } else {
+                position = dequeuePosition.get();
+            }
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E element = pollNow();
+        if (element != null) {
+            return element;
+        }
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int attempt = 0;
+        while ((element = pollNow()) == null) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return null;
+            }
+            waitStrategy.idle(attempt++);
+        }
+        return element;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        long position = dequeuePosition.get();
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        return (E) buffer[index];
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> target, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            E element = pollNow();
+            if (element == null) {
+                break;
+            }
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    @Override
+    public int size() {
+        long size = enqueuePosition.get() - dequeuePosition.get();
+        return (int) Math.max(0, Math.min(capacity, size));
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        if (value <= 1) {
+            return 1;
+        }
+        if (value > (1 << 30)) {
+            throw new IllegalArgumentException("링 버퍼 용량이 너무 큽니다: " + value);
+        }
+        return Integer.highestOneBit(value - 1) << 1;
+    }
+}
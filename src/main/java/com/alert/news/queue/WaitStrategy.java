@@ -0,0 +1,82 @@
+package com.alert.news.queue;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 큐 소비자의 대기 전략
+ *
+ * 큐가 비어 있을 때 소비자가 어떻게 기다릴지 선택합니다.
+ * - BUSY_SPIN: 코어 하나를 점유하는 대신 지연이 가장 낮음 (가상 스레드 워커와는 함께 쓰지 않는 것을 권장)
+ * - YIELD: 잠시 스핀한 뒤 다른 스레드에 CPU를 양보
+ * - PARK: 잠시 스핀한 뒤 park (기본값, CPU 사용량이 가장 낮음)
+ */
+public enum WaitStrategy {
+
+    BUSY_SPIN {
+        @Override
+        void idle(int attempt) {
+            Thread.onSpinWait();
+        }
+
+        @Override
+        void await(int attempt, long remainingNanos) {
+            Thread.onSpinWait();
+        }
+    },
+
+    YIELD {
+        @Override
+        void idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+
+        @Override
+        void await(int attempt, long remainingNanos) {
+            idle(attempt);
+        }
+    },
+
+    PARK {
+        @Override
+        void idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+
+        @Override
+        void await(int attempt, long remainingNanos) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, remainingNanos);
+            }
+        }
+    };
+
+    private static final int SPIN_TRIES = 100;
+    private static final long PARK_NANOS = 50_000L;
+
+    /**
+     * 항목이 없을 때 한 번 대기 (생산자가 깨워주지 않는 경우, 짧게 대기 후 다시 확인)
+     *
+     * @param attempt 현재 대기 루프에서의 연속 시도 횟수
+     */
+    abstract void idle(int attempt);
+
+    /**
+     * 항목이 없을 때 한 번 대기 (생산자가 추가 후 unpark로 깨워주는 경우)
+     *
+     * PARK는 남은 시간 동안 park하므로, 생산자가 반드시 대기 중인 소비자를 깨워야 합니다.
+     *
+     * @param attempt        현재 대기 루프에서의 연속 시도 횟수
+     * @param remainingNanos 최대 대기 시간
+     */
+    abstract void await(int attempt, long remainingNanos);
+}
@@ -0,0 +1,335 @@
+package com.alert.news.queue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 맵 기반 세그먼트 로그 (Write-Ahead Log)
+ *
+ * 큐에 들어가는 항목을 고정 크기 세그먼트 파일에 순서대로 기록하고,
+ * 소비자가 처리를 마친 위치(커밋 오프셋)를 별도 파일에 보관합니다.
+ * 재시작 시 커밋 오프셋 이후의 레코드를 다시 읽어 유실 없이 처리할 수 있습니다.
+ *
+ * 레코드 형식: [길이(int)][UTF-8 바이트]
+ * 길이를 가장 마지막에 기록하므로 기록 도중 중단된 레코드는 길이 0으로 읽혀 무시됩니다.
+ *
+ * 기록은 매핑된 메모리에 대한 복사뿐이라 프로세스가 죽어도 OS 페이지 캐시에 남습니다.
+ * OS 장애까지 대비하려면 {@link #flush()}로 디스크에 동기화해야 하며,
+ * syncOnAppend가 true이면 매 기록마다 동기화합니다.
+ */
+public class WriteAheadLog implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteAheadLog.class);
+
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String OFFSET_FILE = "committed.offset";
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean syncOnAppend;
+
+    private final Object writeLock = new Object();
+    private final Object commitLock = new Object();
+
+    // 쓰기 위치
+    private volatile long writeSegment;
+    private MappedByteBuffer writeBuffer;
+    private int writePosition;
+    private volatile boolean dirty;
+
+    // 커밋 위치 (세그먼트 번호 상위 32비트 + 세그먼트 내 위치 하위 32비트로 저장)
+    private long committedSegment;
+    private int committedPosition;
+    private MappedByteBuffer committedBuffer;
+    private final FileChannel offsetChannel;
+    private final MappedByteBuffer offsetBuffer;
+
+    private WriteAheadLog(Path directory, int segmentSize, boolean syncOnAppend) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.syncOnAppend = syncOnAppend;
+
+        this.offsetChannel = FileChannel.open(directory.resolve(OFFSET_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.offsetBuffer = offsetChannel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES);
+
+        long committedOffset = offsetBuffer.getLong(0);
+        this.committedSegment = committedOffset >>> 32;
+        this.committedPosition = (int) committedOffset;
+
+        List<Long> segments = listSegments();
+        if (segments.isEmpty() || segments.get(0) > committedSegment) {
+            // 커밋된 세그먼트가 이미 정리된 경우 남아 있는 첫 세그먼트부터 시작
+            this.committedSegment = segments.isEmpty() ? committedSegment : segments.get(0);
+            this.committedPosition = 0;
+        }
+        long lastSegment = segments.isEmpty() ? committedSegment : segments.get(segments.size() - 1);
+
+        this.writeSegment = Math.max(lastSegment, committedSegment);
+        this.writeBuffer = mapSegment(writeSegment);
+        this.writePosition = scanEnd(writeBuffer, writeSegment == committedSegment ? committedPosition : 0);
+        this.committedBuffer = mapSegment(committedSegment);
+
+        logger.info("WAL 열기 완료: {}, 커밋 위치: {}:{}, 쓰기 위치: {}:{}",
+                   directory, committedSegment, committedPosition, writeSegment, writePosition);
+    }
+
+    /**
+     * 디렉터리의 로그를 열거나 새로 생성
+     */
+    public static WriteAheadLog open(Path directory, int segmentSize, boolean syncOnAppend) throws IOException {
+        Files.createDirectories(directory);
+        return new WriteAheadLog(directory, segmentSize, syncOnAppend);
+    }
+
+    /**
+     * 레코드 추가
+     *
+     * 길이 0은 로그의 끝을 뜻하므로 빈 값은 기록하지 않습니다. (기록하면 이후 레코드가 재처리되지 않고 덮어써짐)
+     *
+     * @return 레코드 위치 (세그먼트 번호 상위 32비트 + 세그먼트 내 시작 위치 하위 32비트, {@link #rollback(long)}에 사용)
+     * @throws IllegalArgumentException 빈 값이거나 세그먼트보다 큰 레코드
+     */
+    public long append(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length == 0) {
+            throw new IllegalArgumentException("빈 레코드는 기록할 수 없습니다");
+        }
+        int recordSize = LENGTH_BYTES + bytes.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("레코드가 세그먼트보다 큽니다: " + recordSize + " bytes");
+        }
+
+        synchronized (writeLock) {
+            if (writePosition + recordSize > segmentSize) {
+                rollSegment();
+            }
+
+            int start = writePosition;
+            writeBuffer.put(start + LENGTH_BYTES, bytes);
+            // 길이를 마지막에 기록해 부분 기록된 레코드가 읽히지 않도록 함
+            writeBuffer.putInt(start, bytes.length);
+            writePosition = start + recordSize;
+
+            if (syncOnAppend) {
+                writeBuffer.force();
+            } else {
+                dirty = true;
+            }
+            return toPosition(writeSegment, start);
+        }
+    }
+
+    /**
+     * 마지막으로 추가한 레코드 취소
+     *
+     * 큐에 넣지 못한 레코드를 되돌릴 때 사용하며, 직전 {@link #append(String)}의 반환값을 넘겨야 합니다.
+     * 길이뿐 아니라 본문까지 0으로 지워서, 뒤에 더 짧은 레코드가 기록되어도 남은 본문이 레코드로 읽히지 않도록 합니다.
+     */
+    public void rollback(long position) {
+        synchronized (writeLock) {
+            int start = (int) position;
+            if (position >>> 32 != writeSegment || start > writePosition) {
+                throw new IllegalArgumentException("마지막으로 추가한 레코드가 아닙니다: " + position);
+            }
+            // 길이를 먼저 지워 본문을 지우는 도중 중단되어도 레코드로 읽히지 않도록 함
+            writeBuffer.putInt(start, 0);
+            writeBuffer.put(start + LENGTH_BYTES, new byte[Math.max(0, writePosition - start - LENGTH_BYTES)]);
+            writePosition = start;
+        }
+    }
+
+    /**
+     * 현재 쓰기 위치 (다음 레코드가 기록될 위치)
+     */
+    public long position() {
+        synchronized (writeLock) {
+            return toPosition(writeSegment, writePosition);
+        }
+    }
+
+    /**
+     * 커밋 위치를 position으로 이동 (그 앞의 레코드는 모두 처리 완료)
+     *
+     * 처리 중인 항목이 남아 있으면 가장 오래된 처리 중 레코드의 위치를 넘겨야 하며,
+     * 현재 커밋 위치보다 앞선 위치는 무시합니다.
+     */
+    public void commit(long position) {
+        long segment = position >>> 32;
+        int offset = (int) position;
+        synchronized (commitLock) {
+            if (position <= toPosition(committedSegment, committedPosition)) {
+                return;
+            }
+            while (committedSegment < segment) {
+                advanceCommittedSegment();
+            }
+            committedPosition = offset;
+
+            offsetBuffer.putLong(0, toPosition(committedSegment, committedPosition));
+            dirty = true;
+        }
+    }
+
+    /**
+     * 커밋 위치 이후의 모든 레코드 조회 (재시작 시 재처리용)
+     */
+    public List<Record> readUncommitted() {
+        synchronized (commitLock) {
+            synchronized (writeLock) {
+                List<Record> records = new ArrayList<>();
+                long segment = committedSegment;
+                int position = committedPosition;
+                MappedByteBuffer buffer = committedBuffer;
+
+                while (true) {
+                    int end = segment == writeSegment ? writePosition : segmentSize;
+                    int length = position < end ? recordLengthAt(buffer, position) : 0;
+                    if (length <= 0) {
+                        if (segment >= writeSegment) {
+                            break;
+                        }
+                        segment++;
+                        position = 0;
+                        buffer = segment == writeSegment ? writeBuffer : mapSegment(segment);
+                        continue;
+                    }
+
+                    byte[] bytes = new byte[length];
+                    buffer.get(position + LENGTH_BYTES, bytes);
+                    records.add(new Record(toPosition(segment, position), new String(bytes, StandardCharsets.UTF_8)));
+                    position += LENGTH_BYTES + length;
+                }
+                return records;
+            }
+        }
+    }
+
+    /**
+     * 기록된 내용과 커밋 위치를 디스크에 동기화
+     */
+    public void flush() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        synchronized (writeLock) {
+            writeBuffer.force();
+        }
+        synchronized (commitLock) {
+            offsetBuffer.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        offsetChannel.close();
+    }
+
+    /**
+     * 새 세그먼트로 전환 (writeLock 보유 상태에서 호출)
+     */
+    private void rollSegment() {
+        writeBuffer.force();
+        long nextSegment = writeSegment + 1;
+        writeBuffer = mapSegment(nextSegment);
+        writePosition = 0;
+        writeSegment = nextSegment;
+        logger.debug("WAL 세그먼트 전환: {}, 세그먼트: {}", directory, nextSegment);
+    }
+
+    /**
+     * 다음 세그먼트로 커밋 위치 이동 후 다 쓴 세그먼트 삭제 (commitLock 보유 상태에서 호출)
+     */
+    private void advanceCommittedSegment() {
+        long finishedSegment = committedSegment;
+        committedSegment++;
+        committedPosition = 0;
+        committedBuffer = mapSegment(committedSegment);
+
+        try {
+            Files.deleteIfExists(segmentPath(finishedSegment));
+        } catch (IOException e) {
+            logger.warn("처리 완료된 WAL 세그먼트 삭제 실패: {}", segmentPath(finishedSegment), e);
+        }
+    }
+
+    private static long toPosition(long segment, int offset) {
+        return (segment << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    private int recordLengthAt(MappedByteBuffer buffer, int position) {
+        if (position + LENGTH_BYTES > segmentSize) {
+            return 0;
+        }
+        int length = buffer.getInt(position);
+        if (length < 0 || position + LENGTH_BYTES + length > segmentSize) {
+            return 0;
+        }
+        return length;
+    }
+
+    private int scanEnd(MappedByteBuffer buffer, int from) {
+        int position = from;
+        int length;
+        while ((length = recordLengthAt(buffer, position)) > 0) {
+            position += LENGTH_BYTES + length;
+        }
+        return position;
+    }
+
+    private MappedByteBuffer mapSegment(long segment) {
+        try (FileChannel channel = FileChannel.open(segmentPath(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 세그먼트를 열 수 없습니다: " + segmentPath(segment), e);
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%020d%s", segment, SEGMENT_SUFFIX));
+    }
+
+    private List<Long> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * 로그에서 읽은 레코드
+     */
+    public static final class Record {
+        private final long position;
+        private final String value;
+
+        Record(long position, String value) {
+            this.position = position;
+            this.value = value;
+        }
+
+        // Getter
+        public long getPosition() { return position; }
+        public String getValue() { return value; }
+    }
+}
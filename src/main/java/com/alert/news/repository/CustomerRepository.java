@@ -2,6 +2,7 @@ package com.alert.news.repository;
 
 import com.alert.news.model.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -74,4 +75,23 @@ public interface CustomerRepository extends JpaRepository<Customer, String> {
      * 연결 ID 존재 여부 확인
      */
     boolean existsByConnectionId(String connectionId);
+
+    /**
+     * 고객사의 전달 커서 조회
+     */
+    @Query(value = "SELECT acked_sequence FROM customer_delivery_cursors WHERE customer_id = :customerId",
+           nativeQuery = true)
+    Optional<Long> findDeliveryCursor(@Param("customerId") String customerId);
+
+    /**
+     * 고객사의 전달 커서 기록 (저장된 값보다 작으면 유지)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO customer_delivery_cursors (customer_id, acked_sequence, updated_at) " +
+                   "VALUES (:customerId, :sequence, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (customer_id) DO UPDATE SET " +
+                   "acked_sequence = GREATEST(customer_delivery_cursors.acked_sequence, EXCLUDED.acked_sequence), " +
+                   "updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int upsertDeliveryCursor(@Param("customerId") String customerId, @Param("sequence") long sequence);
 }
@@ -0,0 +1,71 @@
+package com.alert.news.repository;
+
+import com.alert.news.model.NewsOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 뉴스 이벤트 아웃박스 데이터 접근을 위한 Repository 인터페이스
+ * 
+ * 여러 노드가 같은 행을 동시에 점유하지 않도록 FOR UPDATE SKIP LOCKED 쿼리를 제공합니다.
+ */
+@Repository
+public interface NewsOutboxRepository extends JpaRepository<NewsOutbox, Long> {
+
+    /**
+     * 점유 가능한 이벤트를 잠금과 함께 조회 (다른 트랜잭션이 잠근 행은 건너뜀)
+     *
+     * 처리 대기 중인 이벤트와, 점유 후 staleBefore 이전까지 완료되지 않은 이벤트가 대상입니다.
+     */
+    @Query(value = "SELECT * FROM news_outbox " +
+                   "WHERE status = 'PENDING' OR (status = 'PROCESSING' AND claimed_at < :staleBefore) " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<NewsOutbox> findClaimableForUpdate(@Param("staleBefore") LocalDateTime staleBefore,
+                                            @Param("limit") int limit);
+
+    /**
+     * 이벤트 상태 변경 (처리 완료 시각 포함)
+     */
+    @Modifying
+    @Query("UPDATE NewsOutbox o SET o.status = :status, o.processedAt = :processedAt WHERE o.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") NewsOutbox.Status status,
+                     @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * 특정 상태이면서 특정 시각 이전에 처리된 이벤트 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM NewsOutbox o WHERE o.status = :status AND o.processedAt < :before")
+    int deleteByStatusProcessedBefore(@Param("status") NewsOutbox.Status status,
+                                      @Param("before") LocalDateTime before);
+
+    /**
+     * 특정 시각 이전에 생성된 이벤트를 상태와 관계없이 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM NewsOutbox o WHERE o.createdAt < :before")
+    int deleteByCreatedAtBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * 뉴스 추가 트리거의 아웃박스 기록 여부 변경 (news_outbox_settings 단일 행)
+     */
+    @Modifying
+    @Query(value = "UPDATE news_outbox_settings SET capture_enabled = :enabled, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = 1",
+           nativeQuery = true)
+    int updateCaptureEnabled(@Param("enabled") boolean enabled);
+
+    /**
+     * 상태별 이벤트 수
+     */
+    long countByStatus(NewsOutbox.Status status);
+}
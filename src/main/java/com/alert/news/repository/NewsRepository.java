@@ -4,6 +4,7 @@ import com.alert.news.model.News;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -60,6 +61,27 @@ public interface NewsRepository extends JpaRepository<News, String> {
     @Query("SELECT n FROM News n ORDER BY n.publishedAt DESC")
     List<News> findTopNByOrderByPublishedAtDesc(Pageable pageable);
 
+    /**
+     * 특정 시각 이후 생성된 뉴스 ID를 생성 순으로 조회
+     */
+    @Query("SELECT n.id FROM News n WHERE n.createdAt >= :since ORDER BY n.createdAt ASC")
+    List<String> findIdsCreatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 특정 시각 이후 생성된 뉴스를 생성 순으로 조회 (재연결 고객사 보충 전송용)
+     */
+    @Query("SELECT n FROM News n WHERE n.createdAt >= :since ORDER BY n.createdAt ASC")
+    List<News> findCreatedSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * 뉴스 추가 트리거의 알림 여부 변경 (news_insert_notify_settings 단일 행)
+     */
+    @Modifying
+    @Query(value = "UPDATE news_insert_notify_settings SET notify_enabled = :enabled, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = 1",
+           nativeQuery = true)
+    int updateInsertNotifyEnabled(@Param("enabled") boolean enabled);
+
     /**
      * 뉴스 존재 여부 확인
      */
@@ -0,0 +1,342 @@
+package com.alert.news.service;
+
+import com.alert.news.model.Customer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 연결된 고객사 레지스트리
+ *
+ * 이 인스턴스에 WebSocket으로 연결된 고객사의 연결 ID, 활성 상태, 토큰 만료일시를 메모리에 보관하는
+ * 유일한 기준 저장소입니다. 브로드캐스트는 DB를 조회하지 않고 이 레지스트리를 순회합니다.
+ *
+ * 고객사 한 곳은 websocket.max-connections-per-customer개까지 연결할 수 있으며, 한도를 넘는 연결이 들어오면
+ * 가장 오래된 연결을 대체합니다(대체된 세션은 {@link ConnectionReplacedEvent}를 받은 컴포넌트가 정리하고 닫음). 여러 연결에 뉴스를 나누는 방식은 websocket.connection-distribution으로 정합니다.
+ *
+ * 변경(연결, 해제, 활성화/비활성화, 토큰 갱신)은 드물기 때문에 잠금 안에서 새 스냅샷을 만들어 교체하고,
+ * 조회는 volatile 스냅샷을 읽기만 하므로 브로드캐스트 도중 잠금이나 복사가 없습니다.
+ * 바뀌지 않은 고객사의 연결 묶음은 새 스냅샷에서도 같은 객체를 쓰므로 순환 분배 위치가 유지됩니다.
+ */
+@Component
+public class ConnectedCustomerRegistry {
+
+    @Value("${websocket.max-connections-per-customer:1}")
+    private int maxConnectionsPerCustomer = 1;
+
+    @Value("${websocket.connection-distribution:all}")
+    private ConnectionDistribution distribution = ConnectionDistribution.ALL;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public ConnectedCustomerRegistry() {
+    }
+
+    ConnectedCustomerRegistry(int maxConnectionsPerCustomer, ConnectionDistribution distribution) {
+        this.maxConnectionsPerCustomer = maxConnectionsPerCustomer;
+        this.distribution = distribution;
+    }
+
+    /**
+     * 고객사 연결 등록 (기본 전달 옵션)
+     *
+     * @return 연결 수 한도를 넘어 대체된 가장 오래된 연결 (없으면 null)
+     */
+    public ConnectedCustomer connect(Customer customer, String connectionId) {
+        return connect(customer, connectionId, DeliveryOptions.DEFAULT);
+    }
+
+    /**
+     * 고객사 연결 등록 (같은 연결 ID로 다시 인증하면 그 연결의 정보만 교체)
+     *
+     * @return 연결 수 한도를 넘어 대체된 가장 오래된 연결 (없으면 null)
+     */
+    public synchronized ConnectedCustomer connect(Customer customer, String connectionId, DeliveryOptions deliveryOptions) {
+        Map<String, CustomerConnections> customers = new HashMap<>(snapshot.byCustomerId);
+        // 같은 세션이 다른 고객사로 인증되어 있었으면 그 고객사에서 제거
+        ConnectedCustomer existing = snapshot.byConnectionId.get(connectionId);
+        if (existing != null && !existing.getCustomerId().equals(customer.getId())) {
+            removeConnection(customers, existing);
+        }
+
+        List<ConnectedCustomer> connections = new ArrayList<>();
+        CustomerConnections current = customers.get(customer.getId());
+        if (current != null) {
+            for (ConnectedCustomer connection : current.getConnections()) {
+                if (!connection.getConnectionId().equals(connectionId)) {
+                    connections.add(connection);
+                }
+            }
+        }
+        connections.add(new ConnectedCustomer(
+                customer.getId(), connectionId, customer.isActive(), customer.getTokenExpiresAt(), deliveryOptions));
+        ConnectedCustomer replaced = null;
+        if (connections.size() > Math.max(1, maxConnectionsPerCustomer)) {
+            replaced = connections.remove(0);
+        }
+        customers.put(customer.getId(), new CustomerConnections(customer.getId(), connections, distribution));
+        snapshot = new Snapshot(customers);
+        return replaced;
+    }
+
+    /**
+     * 연결 해제
+     *
+     * @return 해제된 연결 (등록되지 않은 연결 ID이면 null)
+     */
+    public synchronized ConnectedCustomer disconnect(String connectionId) {
+        ConnectedCustomer connected = snapshot.byConnectionId.get(connectionId);
+        if (connected == null) {
+            return null;
+        }
+        Map<String, CustomerConnections> customers = new HashMap<>(snapshot.byCustomerId);
+        removeConnection(customers, connected);
+        snapshot = new Snapshot(customers);
+        return connected;
+    }
+
+    /**
+     * 고객사 정보 변경 반영 (활성화/비활성화, 토큰 갱신, 모든 연결에 적용)
+     *
+     * 연결되어 있지 않은 고객사는 무시합니다.
+     */
+    public synchronized void update(Customer customer) {
+        CustomerConnections current = snapshot.byCustomerId.get(customer.getId());
+        if (current == null) {
+            return;
+        }
+        List<ConnectedCustomer> connections = new ArrayList<>(current.size());
+        for (ConnectedCustomer connected : current.getConnections()) {
+            connections.add(new ConnectedCustomer(
+                    customer.getId(), connected.getConnectionId(), customer.isActive(), customer.getTokenExpiresAt(),
+                    connected.getDeliveryOptions()));
+        }
+        Map<String, CustomerConnections> customers = new HashMap<>(snapshot.byCustomerId);
+        customers.put(customer.getId(), new CustomerConnections(customer.getId(), connections, distribution));
+        snapshot = new Snapshot(customers);
+    }
+
+    /**
+     * 연결된 모든 연결 (고객사 한 곳이 여러 개일 수 있음, 변경되지 않는 스냅샷)
+     */
+    public List<ConnectedCustomer> getConnectedCustomers() {
+        return snapshot.connections;
+    }
+
+    /**
+     * 뉴스를 받을 연결 (연결되어 있고 활성 상태인 고객사의 모든 연결, 변경되지 않는 스냅샷)
+     */
+    public List<ConnectedCustomer> getDeliverableCustomers() {
+        return snapshot.deliverable;
+    }
+
+    /**
+     * 뉴스를 받을 고객사별 연결 묶음 (활성 상태인 고객사, 변경되지 않는 스냅샷)
+     */
+    public List<CustomerConnections> getDeliverableCustomerConnections() {
+        return snapshot.deliverableCustomers;
+    }
+
+    /**
+     * 고객사의 가장 최근 연결 (연결되어 있지 않으면 null)
+     */
+    public ConnectedCustomer getByCustomerId(String customerId) {
+        CustomerConnections connections = snapshot.byCustomerId.get(customerId);
+        return connections != null ? connections.getLatest() : null;
+    }
+
+    /**
+     * 고객사의 연결 묶음 (연결되어 있지 않으면 null)
+     */
+    public CustomerConnections getConnections(String customerId) {
+        return snapshot.byCustomerId.get(customerId);
+    }
+
+    /**
+     * 고객사가 뉴스마다 연결 하나만 골라 받는지 여부
+     */
+    public boolean isSharded(String customerId) {
+        CustomerConnections connections = snapshot.byCustomerId.get(customerId);
+        return connections != null && connections.isSharded();
+    }
+
+    public ConnectedCustomer getByConnectionId(String connectionId) {
+        return snapshot.byConnectionId.get(connectionId);
+    }
+
+    /**
+     * 전체 연결 수
+     */
+    public int size() {
+        return snapshot.connections.size();
+    }
+
+    /**
+     * 연결된 고객사 수
+     */
+    public int getCustomerCount() {
+        return snapshot.byCustomerId.size();
+    }
+
+    /**
+     * 기본이 아닌 전달 옵션(묶음 프레임, 바이너리 인코딩, 제목만)을 고른 연결과
+     * 여러 연결에 뉴스를 나눠 받는 고객사의 연결 수 (topic 모드에서 공유 토픽으로 받을 수 없는 연결)
+     */
+    public int getCustomDeliveryCount() {
+        return snapshot.customDeliveryCount;
+    }
+
+    public ConnectionDistribution getDistribution() {
+        return distribution;
+    }
+
+    private void removeConnection(Map<String, CustomerConnections> customers, ConnectedCustomer connected) {
+        CustomerConnections current = customers.get(connected.getCustomerId());
+        List<ConnectedCustomer> remaining = new ArrayList<>(current.size());
+        for (ConnectedCustomer connection : current.getConnections()) {
+            if (!connection.getConnectionId().equals(connected.getConnectionId())) {
+                remaining.add(connection);
+            }
+        }
+        if (remaining.isEmpty()) {
+            customers.remove(connected.getCustomerId());
+        } else {
+            customers.put(connected.getCustomerId(), new CustomerConnections(connected.getCustomerId(), remaining, distribution));
+        }
+    }
+
+    /**
+     * 연결된 고객사 정보 (변경 불가)
+     */
+    public static final class ConnectedCustomer {
+        private final String customerId;
+        private final String connectionId;
+        private final boolean active;
+        private final LocalDateTime tokenExpiresAt;
+        private final DeliveryOptions deliveryOptions;
+
+        public ConnectedCustomer(String customerId, String connectionId, boolean active, LocalDateTime tokenExpiresAt,
+                                 DeliveryOptions deliveryOptions) {
+            this.customerId = customerId;
+            this.connectionId = connectionId;
+            this.active = active;
+            this.tokenExpiresAt = tokenExpiresAt;
+            this.deliveryOptions = deliveryOptions;
+        }
+
+        // Getter
+        public String getCustomerId() { return customerId; }
+        public String getConnectionId() { return connectionId; }
+        public boolean isActive() { return active; }
+        public LocalDateTime getTokenExpiresAt() { return tokenExpiresAt; }
+        public DeliveryOptions getDeliveryOptions() { return deliveryOptions; }
+
+        @Override
+        public String toString() {
+            return "ConnectedCustomer{" +
+                    "customerId='" + customerId + '\'' +
+                    ", connectionId='" + connectionId + '\'' +
+                    ", active=" + active +
+                    ", tokenExpiresAt=" + tokenExpiresAt +
+                    ", deliveryOptions=" + deliveryOptions +
+                    '}';
+        }
+    }
+
+    /**
+     * 고객사 한 곳의 연결 묶음 (연결 순서대로, 변경 불가)
+     */
+    public static final class CustomerConnections {
+        private final String customerId;
+        private final List<ConnectedCustomer> connections;
+        private final ConnectionDistribution distribution;
+        private final AtomicInteger nextIndex = new AtomicInteger();
+
+        private CustomerConnections(String customerId, List<ConnectedCustomer> connections, ConnectionDistribution distribution) {
+            this.customerId = customerId;
+            this.connections = List.copyOf(connections);
+            this.distribution = distribution;
+        }
+
+        /**
+         * 뉴스마다 연결 하나만 골라 보내는지 여부 (분배 방식이 all이 아니고 연결이 둘 이상)
+         */
+        public boolean isSharded() {
+            return distribution != ConnectionDistribution.ALL && connections.size() > 1;
+        }
+
+        /**
+         * 순환 분배로 이번 뉴스를 받을 연결
+         */
+        public ConnectedCustomer nextRoundRobin() {
+            return connections.get(Math.floorMod(nextIndex.getAndIncrement(), connections.size()));
+        }
+
+        public ConnectedCustomer getLatest() {
+            return connections.get(connections.size() - 1);
+        }
+
+        public boolean isActive() {
+            return connections.get(0).isActive();
+        }
+
+        public int size() {
+            return connections.size();
+        }
+
+        // Getter
+        public String getCustomerId() { return customerId; }
+        public List<ConnectedCustomer> getConnections() { return connections; }
+        public ConnectionDistribution getDistribution() { return distribution; }
+    }
+
+    /**
+     * 한 시점의 레지스트리 상태 (생성 후 변경하지 않음)
+     */
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(Map.of());
+
+        private final Map<String, CustomerConnections> byCustomerId;
+        private final Map<String, ConnectedCustomer> byConnectionId;
+        private final List<ConnectedCustomer> connections;
+        private final List<ConnectedCustomer> deliverable;
+        private final List<CustomerConnections> deliverableCustomers;
+        private final int customDeliveryCount;
+
+        private Snapshot(Map<String, CustomerConnections> byCustomerId) {
+            Map<String, ConnectedCustomer> byConnectionId = new HashMap<>(byCustomerId.size() * 2);
+            List<ConnectedCustomer> connections = new ArrayList<>(byCustomerId.size());
+            List<ConnectedCustomer> deliverable = new ArrayList<>(byCustomerId.size());
+            List<CustomerConnections> deliverableCustomers = new ArrayList<>(byCustomerId.size());
+            int customDeliveryCount = 0;
+            for (CustomerConnections customer : byCustomerId.values()) {
+                if (customer.isActive()) {
+                    deliverableCustomers.add(customer);
+                }
+                for (ConnectedCustomer connection : customer.getConnections()) {
+                    byConnectionId.put(connection.getConnectionId(), connection);
+                    connections.add(connection);
+                    if (connection.isActive()) {
+                        deliverable.add(connection);
+                    }
+                    if (!connection.getDeliveryOptions().isDefault() || customer.isSharded()) {
+                        customDeliveryCount++;
+                    }
+                }
+            }
+            this.customDeliveryCount = customDeliveryCount;
+            this.byCustomerId = Collections.unmodifiableMap(byCustomerId);
+            this.byConnectionId = Collections.unmodifiableMap(byConnectionId);
+            this.connections = List.copyOf(connections);
+            this.deliverable = List.copyOf(deliverable);
+            this.deliverableCustomers = List.copyOf(deliverableCustomers);
+        }
+    }
+}
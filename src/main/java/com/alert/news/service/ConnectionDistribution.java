@@ -0,0 +1,22 @@
+package com.alert.news.service;
+
+/**
+ * 한 고객사의 여러 연결에 뉴스를 나누는 방식 (websocket.connection-distribution 설정값)
+ */
+public enum ConnectionDistribution {
+
+    /**
+     * 모든 연결에 같은 뉴스 전송 (기본값, 연결마다 전체 스트림)
+     */
+    ALL,
+
+    /**
+     * 뉴스마다 연결을 돌아가며 하나만 선택 (고객사 소비 프로세스들이 스트림을 나눠 처리)
+     */
+    ROUND_ROBIN,
+
+    /**
+     * 뉴스마다 송신 버퍼에 쌓인 메시지가 가장 적은 연결 하나만 선택 (느린 소비 프로세스를 피해 분배)
+     */
+    LEAST_LOADED
+}
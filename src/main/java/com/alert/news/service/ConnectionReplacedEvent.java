@@ -0,0 +1,27 @@
+package com.alert.news.service;
+
+/**
+ * 고객사별 최대 연결 수를 넘어 가장 오래된 연결이 대체됨
+ *
+ * 대체된 연결은 이미 {@link ConnectedCustomerRegistry}에서 빠졌으므로, 세션이 닫힌 뒤의 SessionDisconnectEvent 처리로는
+ * 고객사를 찾지 못해 정리되지 않습니다. 연결별 자원을 가진 컴포넌트가 이 이벤트를 받아 각자 정리하고 세션을 닫습니다.
+ */
+public class ConnectionReplacedEvent {
+
+    private final String customerId;
+    // 대체된(닫을) 연결
+    private final String connectionId;
+    // 새로 등록된 연결
+    private final String replacedBy;
+
+    public ConnectionReplacedEvent(String customerId, String connectionId, String replacedBy) {
+        this.customerId = customerId;
+        this.connectionId = connectionId;
+        this.replacedBy = replacedBy;
+    }
+
+    // Getter
+    public String getCustomerId() { return customerId; }
+    public String getConnectionId() { return connectionId; }
+    public String getReplacedBy() { return replacedBy; }
+}
@@ -3,15 +3,21 @@ package com.alert.news.service;
 import com.alert.news.dto.CustomerDto;
 import com.alert.news.model.Customer;
 import com.alert.news.repository.CustomerRepository;
+import com.alert.news.service.ConnectedCustomerRegistry.ConnectedCustomer;
+import com.alert.news.service.ConnectedCustomerRegistry.CustomerConnections;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,6 +26,10 @@ import java.util.UUID;
  * 
  * 고객사 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
  * 고객사 인증, 토큰 관리, 연결 상태 관리 등의 기능을 제공합니다.
+ *
+ * 연결, 해제, 고객사 정보 변경은 트랜잭션이 커밋된 뒤 {@link ConnectedCustomerRegistry}에 반영해
+ * 브로드캐스트가 DB 조회 없이 메모리의 연결 정보만 사용할 수 있게 합니다.
+ * 고객사가 여러 연결을 쓰면 DB의 연결 ID는 가장 최근 연결을 가리키고, 전체 연결 목록은 레지스트리에만 있습니다.
  */
 @Service
 @Transactional
@@ -31,10 +41,19 @@ public class CustomerService {
     private int tokenExpiryHours;
 
     private final CustomerRepository customerRepository;
+    private final ConnectedCustomerRegistry connectedCustomerRegistry;
+    private final SessionOutboundQueues outboundQueues;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public CustomerService(CustomerRepository customerRepository) {
+    public CustomerService(CustomerRepository customerRepository,
+                           ConnectedCustomerRegistry connectedCustomerRegistry,
+                           SessionOutboundQueues outboundQueues,
+                           ApplicationEventPublisher eventPublisher) {
         this.customerRepository = customerRepository;
+        this.connectedCustomerRegistry = connectedCustomerRegistry;
+        this.outboundQueues = outboundQueues;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -116,8 +135,10 @@ public class CustomerService {
 
     /**
      * 고객사 연결
+     *
+     * @param deliveryOptions 이 연결의 뉴스 전달 옵션 (프레임 구성, 인코딩)
      */
-    public boolean connectCustomer(String customerId, String connectionId) {
+    public boolean connectCustomer(String customerId, String connectionId, DeliveryOptions deliveryOptions) {
         try {
             Customer customer = getCustomerById(customerId);
             if (customer == null) {
@@ -135,16 +156,31 @@ public class CustomerService {
                 return false;
             }
 
-            // 이미 연결된 경우 기존 연결 해제
-            if (customer.isConnected()) {
-                logger.info("기존 연결을 해제하고 새로운 연결을 설정합니다. 고객사 ID: {}, 기존 연결: {}", 
+            // 이미 연결된 경우 추가 연결로 등록 (연결 수 한도를 넘으면 레지스트리가 가장 오래된 연결을 대체)
+            if (customer.isConnected() && !connectionId.equals(customer.getConnectionId())) {
+                logger.info("추가 연결을 설정합니다. 고객사 ID: {}, 최근 연결: {}", 
                            customerId, customer.getConnectionId());
             }
 
             customer.connect(connectionId);
-            customerRepository.save(customer);
+            Customer savedCustomer = customerRepository.save(customer);
+            afterCommit(() -> {
+                // 브로드캐스트가 레지스트리에서 연결을 보기 전에 송신 버퍼를 만듦
+                if (!outboundQueues.open(customerId, connectionId, deliveryOptions)) {
+                    logger.warn("세션이 이미 종료되어 연결을 등록하지 않습니다. 고객사 ID: {}, 연결 ID: {}", customerId, connectionId);
+                    return;
+                }
+                ConnectedCustomer replaced = connectedCustomerRegistry.connect(savedCustomer, connectionId, deliveryOptions);
+                if (replaced != null) {
+                    logger.info("고객사별 최대 연결 수를 넘어 가장 오래된 연결을 종료합니다. 고객사 ID: {}, 종료할 연결: {}",
+                               customerId, replaced.getConnectionId());
+                    // 대체된 연결은 레지스트리에서 빠져 세션 종료 처리로 정리되지 않으므로 연결 자원 정리와 세션 종료를 알림
+                    eventPublisher.publishEvent(
+                            new ConnectionReplacedEvent(customerId, replaced.getConnectionId(), connectionId));
+                }
+            });
             
-            logger.info("고객사 연결 성공: 고객사 ID: {}, 연결 ID: {}", customerId, connectionId);
+            logger.info("고객사 연결 성공: 고객사 ID: {}, 연결 ID: {}, 전달 옵션: {}", customerId, connectionId, deliveryOptions);
             return true;
         } catch (Exception e) {
             logger.error("고객사 연결 중 오류 발생: 고객사 ID: {}, 연결 ID: {}", customerId, connectionId, e);
@@ -154,14 +190,27 @@ public class CustomerService {
 
     /**
      * 고객사 연결 해제
+     *
+     * 같은 고객사의 다른 연결이 남아 있으면 고객사는 연결 상태로 두고, DB의 연결 ID만 남은 연결 중 가장 최근 것으로 바꿉니다.
      */
     public boolean disconnectCustomer(String connectionId) {
         try {
-            Optional<Customer> customer = customerRepository.findByConnectionId(connectionId);
+            // DB에는 가장 최근 연결 ID만 있으므로 레지스트리에서 먼저 고객사를 찾음
+            ConnectedCustomer connected = connectedCustomerRegistry.getByConnectionId(connectionId);
+            Optional<Customer> customer = connected != null
+                    ? customerRepository.findById(connected.getCustomerId())
+                    : customerRepository.findByConnectionId(connectionId);
             if (customer.isPresent()) {
                 Customer cust = customer.get();
-                cust.disconnect();
-                customerRepository.save(cust);
+                String remaining = getRemainingConnectionId(cust.getId(), connectionId);
+                if (remaining == null) {
+                    cust.disconnect();
+                    customerRepository.save(cust);
+                } else if (connectionId.equals(cust.getConnectionId())) {
+                    cust.connect(remaining);
+                    customerRepository.save(cust);
+                }
+                afterCommit(() -> connectedCustomerRegistry.disconnect(connectionId));
                 
                 logger.info("고객사 연결 해제 성공: 고객사 ID: {}, 연결 ID: {}", cust.getId(), connectionId);
                 return true;
@@ -175,6 +224,39 @@ public class CustomerService {
         }
     }
 
+    /**
+     * 해제할 연결을 뺀 고객사의 가장 최근 연결 ID (남은 연결이 없으면 null)
+     */
+    private String getRemainingConnectionId(String customerId, String connectionId) {
+        CustomerConnections connections = connectedCustomerRegistry.getConnections(customerId);
+        if (connections == null) {
+            return null;
+        }
+        List<ConnectedCustomer> all = connections.getConnections();
+        for (int i = all.size() - 1; i >= 0; i--) {
+            if (!all.get(i).getConnectionId().equals(connectionId)) {
+                return all.get(i).getConnectionId();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 고객사의 전달 커서 조회 (수신 확인한 적이 없으면 0)
+     */
+    @Transactional(readOnly = true)
+    public long getDeliveryCursor(String customerId) {
+        return customerRepository.findDeliveryCursor(customerId).orElse(0L);
+    }
+
+    /**
+     * 여러 고객사의 전달 커서를 한 트랜잭션으로 기록
+     */
+    public void saveDeliveryCursors(Map<String, Long> cursors) {
+        cursors.forEach(customerRepository::upsertDeliveryCursor);
+        logger.debug("전달 커서 기록: {}개 고객사", cursors.size());
+    }
+
     /**
      * 활성 고객사 목록 조회
      */
@@ -211,6 +293,8 @@ public class CustomerService {
     public Customer saveCustomer(Customer customer) {
         try {
             Customer savedCustomer = customerRepository.save(customer);
+            // 활성화/비활성화, 토큰 갱신을 연결 정보에 반영
+            afterCommit(() -> connectedCustomerRegistry.update(savedCustomer));
             logger.info("고객사 저장 완료: {} - {}", savedCustomer.getId(), savedCustomer.getName());
             return savedCustomer;
         } catch (Exception e) {
@@ -286,6 +370,24 @@ public class CustomerService {
         return dto;
     }
 
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 실행 (트랜잭션이 없으면 바로 실행)
+     *
+     * 롤백된 변경이 연결 레지스트리에 반영되지 않도록 합니다.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     /**
      * 고객사 ID 생성
      */
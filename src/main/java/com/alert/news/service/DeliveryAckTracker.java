@@ -0,0 +1,427 @@
+package com.alert.news.service;
+
+import com.alert.news.queue.HierarchicalTimingWheel;
+import com.alert.news.service.ConnectedCustomerRegistry.ConnectedCustomer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고객사 수신 확인(ack)과 전달 커서 관리
+ *
+ * 인증 요청에 ack: true를 보낸 연결은 브로드캐스트 뉴스를 받을 때마다 /app/ack로 sequence를 보내야 하며,
+ * websocket.ack.timeout(ms) 안에 확인되지 않은 뉴스는 websocket.ack.max-redeliveries번까지 같은 payload로 다시 보냅니다.
+ * 재전송 시각은 {@link HierarchicalTimingWheel}로 관리하므로 예약과 취소는 O(1)이며, ack는 해당 뉴스를 미확인 목록에서 지우기만 합니다.
+ *
+ * 고객사별 커서는 "그 이하의 추적한 뉴스를 모두 확인한 sequence"로, 메모리에서만 갱신하고
+ * websocket.ack.checkpoint-interval(ms)마다 바뀐 고객사만 모아 DB에 한 번에 기록합니다. ack마다 DB에 쓰지 않습니다.
+ * 커서는 재연결 시 lastSequence를 보내지 않은 ack 연결의 재전송 시작점으로 사용합니다.
+ *
+ * 고객사가 여러 연결을 쓰면 미확인 뉴스는 연결별로 추적하고, 커서는 모든 연결의 가장 오래된 미확인 뉴스 직전까지만 전진합니다.
+ * 미확인 한도나 재전송 횟수를 넘겨 추적을 포기한 뉴스, 연결 종료로 추적을 멈춘 뉴스도 확인된 것이 아니므로
+ * 커서는 그중 가장 오래된 뉴스 직전에서 멈추고, 다음 인증(커서 또는 lastSequence부터 재전송) 때 다시 전진할 수 있습니다.
+ */
+@Component
+public class DeliveryAckTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeliveryAckTracker.class);
+
+    @Value("${websocket.ack.timeout:5000}")
+    private long ackTimeoutMillis = 5000;
+
+    @Value("${websocket.ack.max-redeliveries:3}")
+    private int maxRedeliveries = 3;
+
+    @Value("${websocket.ack.max-pending:1000}")
+    private int maxPending = 1000;
+
+    @Value("${websocket.ack.checkpoint-interval:1000}")
+    private long checkpointInterval = 1000;
+
+    @Value("${websocket.ack.tick:10}")
+    private long tickMillis = 10;
+
+    @Value("${websocket.ack.wheel-size:64}")
+    private int wheelSize = 64;
+
+    private final ConnectedCustomerRegistry connectedCustomerRegistry;
+    private final SessionOutboundQueues outboundQueues;
+    private final CustomerService customerService;
+
+    private final Map<String, CustomerCursor> cursors = new ConcurrentHashMap<>();
+    private final Set<String> dirtyCustomerIds = ConcurrentHashMap.newKeySet();
+
+    // 타이머 스레드에서만 사용 (설정값이 주입된 뒤 start()에서 생성)
+    private HierarchicalTimingWheel<Redelivery> wheel;
+    private final Queue<Redelivery> inbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+    private Thread timerThread;
+    private ScheduledExecutorService checkpointer;
+
+    private final Counter ackCounter;
+    private final Counter redeliveredCounter;
+    private final Counter expiredCounter;
+
+    @Autowired
+    public DeliveryAckTracker(ConnectedCustomerRegistry connectedCustomerRegistry,
+                              SessionOutboundQueues outboundQueues,
+                              CustomerService customerService,
+                              MeterRegistry meterRegistry) {
+        this.connectedCustomerRegistry = connectedCustomerRegistry;
+        this.outboundQueues = outboundQueues;
+        this.customerService = customerService;
+        this.ackCounter = Counter.builder("news.ack.received")
+                .description("확인된 뉴스 수")
+                .register(meterRegistry);
+        this.redeliveredCounter = Counter.builder("news.ack.redelivered")
+                .description("확인 시간 초과로 다시 보낸 뉴스 수")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("news.ack.expired")
+                .description("재전송 횟수를 넘기거나 미확인 한도를 넘어 추적을 포기한 뉴스 수")
+                .register(meterRegistry);
+        Gauge.builder("news.ack.pending", pendingCount, AtomicInteger::get)
+                .description("확인을 기다리는 뉴스 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        wheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+        timerThread = Thread.ofPlatform().daemon(true).name("news-ack-timer").start(this::runTimer);
+        checkpointer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon(true).name("news-ack-checkpoint").factory());
+        checkpointer.scheduleWithFixedDelay(this::checkpoint, checkpointInterval, checkpointInterval, TimeUnit.MILLISECONDS);
+        logger.info("수신 확인 추적 시작: 확인 시간 {}ms, 최대 재전송 {}회, 커서 기록 주기 {}ms, tick {}ms, 버킷 {}개",
+                   ackTimeoutMillis, maxRedeliveries, checkpointInterval, tickMillis, wheelSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        timerThread.interrupt();
+        dispatcher.shutdownNow();
+        checkpointer.shutdownNow();
+        // 종료 전에 남은 커서 기록
+        checkpoint();
+    }
+
+    /**
+     * 연결의 수신 확인 시작 (인증 성공 후 호출)
+     *
+     * @return 고객사의 저장된 커서 (확인한 적이 없으면 0)
+     */
+    public long open(String customerId, String connectionId) {
+        CustomerCursor cursor = cursors.get(customerId);
+        if (cursor == null) {
+            // DB 조회는 맵 갱신 밖에서
+            long saved = customerService.getDeliveryCursor(customerId);
+            cursor = cursors.computeIfAbsent(customerId, id -> new CustomerCursor(saved));
+        }
+        // 이 연결은 반환한 커서(또는 클라이언트의 lastSequence)부터 다시 받으므로 추적을 포기한 뉴스의 제한 해제
+        cursor.givenUpSequence.set(Long.MAX_VALUE);
+        // 같은 연결로 다시 인증하면 이전 미확인 뉴스는 버림
+        PendingDeliveries previous = cursor.connections.put(connectionId, new PendingDeliveries());
+        if (previous != null) {
+            pendingCount.addAndGet(-previous.clear());
+        }
+        return cursor.ackedSequence.get();
+    }
+
+    /**
+     * 연결 종료 시 그 연결의 미확인 뉴스 추적 중단 (재연결 시 커서 기준으로 재전송)
+     */
+    public void close(String customerId, String connectionId) {
+        CustomerCursor cursor = cursors.get(customerId);
+        if (cursor == null) {
+            return;
+        }
+        PendingDeliveries removed = cursor.connections.remove(connectionId);
+        if (removed != null) {
+            Map.Entry<Long, byte[]> oldestPending = removed.pending.firstEntry();
+            if (oldestPending != null) {
+                giveUp(cursor, oldestPending.getKey());
+            }
+            pendingCount.addAndGet(-removed.clear());
+        }
+    }
+
+    /**
+     * 최대 연결 수를 넘어 대체된 연결의 미확인 뉴스 추적 중단 (레지스트리에서 빠져 세션 종료 처리로는 닫히지 않음)
+     */
+    @EventListener
+    public void onConnectionReplaced(ConnectionReplacedEvent event) {
+        close(event.getCustomerId(), event.getConnectionId());
+    }
+
+    /**
+     * 수신 확인 연결에 보낸 뉴스 추적 (송신 버퍼에 넣은 뒤 호출, 수신 확인을 쓰지 않는 연결이면 무시)
+     */
+    public void track(ConnectedCustomer customer, long sequence, byte[] payload) {
+        CustomerCursor cursor = cursors.get(customer.getCustomerId());
+        PendingDeliveries deliveries = cursor != null ? cursor.connections.get(customer.getConnectionId()) : null;
+        if (deliveries == null) {
+            return;
+        }
+        if (deliveries.pending.putIfAbsent(sequence, payload) != null) {
+            return;
+        }
+        pendingCount.incrementAndGet();
+        // 미확인 목록이 한도를 넘으면 가장 오래된 뉴스 추적 포기 (ConcurrentSkipListMap.size()는 O(n)이라 따로 셈)
+        if (deliveries.size.incrementAndGet() > maxPending) {
+            Map.Entry<Long, byte[]> oldest = deliveries.pending.pollFirstEntry();
+            if (oldest != null) {
+                deliveries.size.decrementAndGet();
+                pendingCount.decrementAndGet();
+                expiredCounter.increment();
+                giveUp(cursor, oldest.getKey());
+            }
+        }
+        inbox.offer(new Redelivery(customer.getCustomerId(), customer.getConnectionId(), sequence, 1,
+                System.currentTimeMillis() + ackTimeoutMillis));
+        LockSupport.unpark(timerThread);
+    }
+
+    /**
+     * 수신 확인 처리 (추적 중인 sequence만 반영)
+     *
+     * @return 확인 처리한 뉴스 수
+     */
+    public int ack(String customerId, String connectionId, Collection<Long> sequences) {
+        CustomerCursor cursor = cursors.get(customerId);
+        PendingDeliveries deliveries = cursor != null ? cursor.connections.get(connectionId) : null;
+        if (deliveries == null || sequences == null) {
+            return 0;
+        }
+        int acked = 0;
+        for (Long sequence : sequences) {
+            if (sequence != null && deliveries.pending.remove(sequence) != null) {
+                deliveries.size.decrementAndGet();
+                cursor.maxAckedSequence.accumulateAndGet(sequence, Math::max);
+                acked++;
+            }
+        }
+        if (acked == 0) {
+            return 0;
+        }
+        pendingCount.addAndGet(-acked);
+        ackCounter.increment(acked);
+
+        // 모든 연결에서 아직 확인되지 않은 가장 오래된 뉴스(추적을 포기한 뉴스 포함) 직전까지만 커서 전진
+        long candidate = Math.min(cursor.maxAckedSequence.get(), cursor.givenUpSequence.get() - 1);
+        for (PendingDeliveries connection : cursor.connections.values()) {
+            Map.Entry<Long, byte[]> oldestPending = connection.pending.firstEntry();
+            if (oldestPending != null) {
+                candidate = Math.min(candidate, oldestPending.getKey() - 1);
+            }
+        }
+        if (cursor.ackedSequence.accumulateAndGet(candidate, Math::max) == candidate) {
+            dirtyCustomerIds.add(customerId);
+        }
+        return acked;
+    }
+
+    /**
+     * 고객사의 현재 커서 (메모리 기준, 추적한 적이 없으면 -1)
+     */
+    public long getCursor(String customerId) {
+        CustomerCursor cursor = cursors.get(customerId);
+        return cursor != null ? cursor.ackedSequence.get() : -1;
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * 바뀐 커서를 모아 DB에 기록
+     */
+    void checkpoint() {
+        if (dirtyCustomerIds.isEmpty()) {
+            return;
+        }
+        Map<String, Long> changed = new HashMap<>();
+        for (String customerId : dirtyCustomerIds) {
+            dirtyCustomerIds.remove(customerId);
+            CustomerCursor cursor = cursors.get(customerId);
+            if (cursor != null) {
+                changed.put(customerId, cursor.ackedSequence.get());
+            }
+        }
+        try {
+            customerService.saveDeliveryCursors(changed);
+            logger.debug("전달 커서 기록 완료: {}개 고객사", changed.size());
+        } catch (Exception e) {
+            // 다음 주기에 다시 기록
+            dirtyCustomerIds.addAll(changed.keySet());
+            logger.error("전달 커서 기록 중 오류 발생: {}개 고객사", changed.size(), e);
+        }
+    }
+
+    private void runTimer() {
+        List<Redelivery> expired = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            // 새 예약을 넣기 전에 시계를 현재 시각으로 진행
+            wheel.advance(System.currentTimeMillis(), expired::add);
+            if (!expired.isEmpty()) {
+                List<Redelivery> batch = new ArrayList<>(expired);
+                expired.clear();
+                dispatch(batch);
+            }
+
+            Redelivery scheduled;
+            while ((scheduled = inbox.poll()) != null) {
+                wheel.add(scheduled, scheduled.deadlineMillis);
+            }
+
+            if (wheel.size() == 0 && inbox.isEmpty()) {
+                LockSupport.park(this);
+            } else {
+                long waitMillis = wheel.nextTickMillis() - System.currentTimeMillis();
+                if (waitMillis > 0) {
+                    LockSupport.parkNanos(this, waitMillis * 1_000_000);
+                }
+            }
+        }
+    }
+
+    private void dispatch(List<Redelivery> batch) {
+        try {
+            dispatcher.execute(() -> {
+                for (Redelivery redelivery : batch) {
+                    try {
+                        redeliver(redelivery);
+                    } catch (Exception e) {
+                        logger.error("미확인 뉴스 재전송 중 오류 발생: 고객사 ID: {}, 순번: {}",
+                                    redelivery.customerId, redelivery.sequence, e);
+                    }
+                }
+            });
+        } catch (Exception e) {
+            logger.warn("수신 확인 추적이 종료되어 미확인 뉴스 {}건을 재전송하지 못했습니다", batch.size());
+        }
+    }
+
+    /**
+     * 확인 시간이 지난 뉴스 재전송 (이미 확인됐거나 연결이 끊겼으면 무시)
+     */
+    private void redeliver(Redelivery redelivery) {
+        CustomerCursor cursor = cursors.get(redelivery.customerId);
+        PendingDeliveries deliveries = cursor != null ? cursor.connections.get(redelivery.connectionId) : null;
+        if (deliveries == null) {
+            return;
+        }
+        byte[] payload = deliveries.pending.get(redelivery.sequence);
+        if (payload == null) {
+            return;
+        }
+        if (redelivery.attempt > maxRedeliveries) {
+            if (deliveries.pending.remove(redelivery.sequence) != null) {
+                deliveries.size.decrementAndGet();
+                pendingCount.decrementAndGet();
+                expiredCounter.increment();
+                giveUp(cursor, redelivery.sequence);
+                logger.warn("재전송 횟수를 넘겨 뉴스 추적을 포기합니다: 고객사 ID: {}, 순번: {}",
+                           redelivery.customerId, redelivery.sequence);
+            }
+            return;
+        }
+        ConnectedCustomer customer = connectedCustomerRegistry.getByConnectionId(redelivery.connectionId);
+        if (customer == null) {
+            return;
+        }
+        if (outboundQueues.enqueue(customer, payload)) {
+            redeliveredCounter.increment();
+        }
+        inbox.offer(new Redelivery(redelivery.customerId, redelivery.connectionId, redelivery.sequence,
+                redelivery.attempt + 1, System.currentTimeMillis() + ackTimeoutMillis));
+        LockSupport.unpark(timerThread);
+    }
+
+    /**
+     * 확인되지 않은 채 추적을 멈춘 뉴스 기록 (커서가 그 뉴스를 넘지 않도록)
+     */
+    private void giveUp(CustomerCursor cursor, long sequence) {
+        cursor.givenUpSequence.accumulateAndGet(sequence, Math::min);
+    }
+
+    /**
+     * 고객사 한 곳의 커서와 연결별 미확인 뉴스
+     */
+    private static final class CustomerCursor {
+        // 그 이하의 추적한 뉴스를 모두 확인한 sequence
+        private final AtomicLong ackedSequence;
+        private final AtomicLong maxAckedSequence;
+        // 확인되지 않은 채 추적을 멈춘 가장 오래된 sequence (없으면 Long.MAX_VALUE)
+        private final AtomicLong givenUpSequence = new AtomicLong(Long.MAX_VALUE);
+        // 연결 ID → 그 연결의 미확인 뉴스 (수신 확인을 쓰는 연결만)
+        private final Map<String, PendingDeliveries> connections = new ConcurrentHashMap<>();
+
+        private CustomerCursor(long ackedSequence) {
+            this.ackedSequence = new AtomicLong(ackedSequence);
+            this.maxAckedSequence = new AtomicLong(ackedSequence);
+        }
+    }
+
+    /**
+     * 연결 한 개의 미확인 뉴스
+     */
+    private static final class PendingDeliveries {
+        // sequence → 보낸 payload
+        private final ConcurrentSkipListMap<Long, byte[]> pending = new ConcurrentSkipListMap<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        private int clear() {
+            int cleared = 0;
+            while (pending.pollFirstEntry() != null) {
+                size.decrementAndGet();
+                cleared++;
+            }
+            return cleared;
+        }
+    }
+
+    /**
+     * 재전송 예약 (attempt번째 재전송)
+     */
+    private static final class Redelivery {
+        private final String customerId;
+        private final String connectionId;
+        private final long sequence;
+        private final int attempt;
+        private final long deadlineMillis;
+
+        private Redelivery(String customerId, String connectionId, long sequence, int attempt, long deadlineMillis) {
+            this.customerId = customerId;
+            this.connectionId = connectionId;
+            this.sequence = sequence;
+            this.attempt = attempt;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.alert.news.service;
+
+/**
+ * 연결별 뉴스 프레임 구성 방식 (인증 요청의 framing 값, 연결마다 선택)
+ */
+public enum DeliveryFraming {
+
+    /**
+     * 뉴스 한 건마다 JSON 객체 프레임 하나 (기본값)
+     */
+    SINGLE,
+
+    /**
+     * websocket.batch.linger(ms) 동안 또는 websocket.batch.max-items개까지 모아 JSON 배열 프레임 하나로 전송
+     */
+    BATCH;
+
+    /**
+     * 인증 요청 값으로 프레임 방식 결정 (비어 있으면 SINGLE, 대소문자 구분 없음)
+     *
+     * @throws IllegalArgumentException 알 수 없는 값인 경우
+     */
+    public static DeliveryFraming from(String value) {
+        if (value == null || value.isBlank()) {
+            return SINGLE;
+        }
+        for (DeliveryFraming framing : values()) {
+            if (framing.name().equalsIgnoreCase(value.strip())) {
+                return framing;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 프레임 방식입니다: " + value);
+    }
+}
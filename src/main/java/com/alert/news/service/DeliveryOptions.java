@@ -0,0 +1,52 @@
+package com.alert.news.service;
+
+/**
+ * 연결별 뉴스 전달 옵션 (인증 시 선택, 변경 불가)
+ */
+public final class DeliveryOptions {
+
+    public static final DeliveryOptions DEFAULT =
+            new DeliveryOptions(DeliveryFraming.SINGLE, PayloadEncoding.JSON, PayloadProfile.FULL);
+
+    private final DeliveryFraming framing;
+    private final PayloadEncoding encoding;
+    private final PayloadProfile profile;
+
+    public DeliveryOptions(DeliveryFraming framing, PayloadEncoding encoding, PayloadProfile profile) {
+        this.framing = framing;
+        this.encoding = encoding;
+        this.profile = profile;
+    }
+
+    /**
+     * 인증 요청 값으로 옵션 결정 (비어 있는 값은 기본값)
+     *
+     * @throws IllegalArgumentException 알 수 없는 값인 경우
+     */
+    public static DeliveryOptions of(String framing, String encoding, String profile) {
+        DeliveryOptions options = new DeliveryOptions(DeliveryFraming.from(framing), PayloadEncoding.from(encoding),
+                PayloadProfile.from(profile));
+        return options.isDefault() ? DEFAULT : options;
+    }
+
+    /**
+     * 기본 옵션 여부 (본문 포함 뉴스를 한 건씩 JSON으로, topic 모드에서 공유 토픽으로 받을 수 있는 연결)
+     */
+    public boolean isDefault() {
+        return framing == DeliveryFraming.SINGLE && encoding == PayloadEncoding.JSON && profile == PayloadProfile.FULL;
+    }
+
+    // Getter
+    public DeliveryFraming getFraming() { return framing; }
+    public PayloadEncoding getEncoding() { return encoding; }
+    public PayloadProfile getProfile() { return profile; }
+
+    @Override
+    public String toString() {
+        return "DeliveryOptions{" +
+                "framing=" + framing +
+                ", encoding=" + encoding +
+                ", profile=" + profile +
+                '}';
+    }
+}
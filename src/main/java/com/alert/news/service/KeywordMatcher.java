@@ -0,0 +1,184 @@
+package com.alert.news.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 키워드를 한 번에 찾는 Aho–Corasick 오토마톤 (생성 후 변경 불가)
+ *
+ * 키워드 수와 관계없이 본문을 한 번만 훑어 포함된 모든 키워드를 찾습니다.
+ * 키워드는 소문자로 정규화해 등록하고, 본문은 글자마다 소문자로 바꿔 비교하므로 영문 대소문자를 구분하지 않습니다.
+ *
+ * 노드의 전이는 정렬된 글자 배열과 대상 노드 배열로 보관하고 이진 탐색으로 따라갑니다.
+ * 각 노드의 출력에는 실패 링크를 따라 도달하는 키워드까지 미리 합쳐 두어, 검색 중에는 실패 링크의 출력을 따로 확인하지 않습니다.
+ */
+final class KeywordMatcher {
+
+    static final KeywordMatcher EMPTY = build(List.of());
+
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final String[] keywords;
+    private final Map<String, Integer> keywordIndexes;
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    private final int[][] outputs;
+
+    private KeywordMatcher(String[] keywords, Map<String, Integer> keywordIndexes,
+                           char[][] edgeChars, int[][] edgeTargets, int[] failure, int[][] outputs) {
+        this.keywords = keywords;
+        this.keywordIndexes = keywordIndexes;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.outputs = outputs;
+    }
+
+    /**
+     * 키워드 목록으로 오토마톤 생성 (키워드는 이미 소문자로 정규화되어 있어야 하며 중복은 한 번만 등록)
+     */
+    static KeywordMatcher build(Collection<String> keywordList) {
+        List<String> keywords = new ArrayList<>(keywordList.size());
+        Map<String, Integer> keywordIndexes = new HashMap<>(keywordList.size() * 2);
+        for (String keyword : keywordList) {
+            if (!keyword.isEmpty() && keywordIndexes.putIfAbsent(keyword, keywords.size()) == null) {
+                keywords.add(keyword);
+            }
+        }
+
+        // 1. 트라이 구성
+        List<TreeMap<Character, Integer>> edges = new ArrayList<>();
+        List<List<Integer>> terminals = new ArrayList<>();
+        edges.add(new TreeMap<>());
+        terminals.add(new ArrayList<>());
+        for (int k = 0; k < keywords.size(); k++) {
+            String keyword = keywords.get(k);
+            int node = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                Integer next = edges.get(node).get(keyword.charAt(i));
+                if (next == null) {
+                    next = edges.size();
+                    edges.get(node).put(keyword.charAt(i), next);
+                    edges.add(new TreeMap<>());
+                    terminals.add(new ArrayList<>());
+                }
+                node = next;
+            }
+            terminals.get(node).add(k);
+        }
+
+        int nodeCount = edges.size();
+        char[][] edgeChars = new char[nodeCount][];
+        int[][] edgeTargets = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            TreeMap<Character, Integer> nodeEdges = edges.get(node);
+            edgeChars[node] = new char[nodeEdges.size()];
+            edgeTargets[node] = new int[nodeEdges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : nodeEdges.entrySet()) {
+                edgeChars[node][i] = edge.getKey();
+                edgeTargets[node][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // 2. 너비 우선으로 실패 링크와 출력 계산 (부모의 실패 링크가 먼저 계산되도록)
+        int[] failure = new int[nodeCount];
+        int[][] outputs = new int[nodeCount][];
+        outputs[0] = toOutput(terminals.get(0), NO_OUTPUT);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[0]) {
+            failure[child] = 0;
+            outputs[child] = toOutput(terminals.get(child), NO_OUTPUT);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+
+                int fallback = failure[node];
+                int target;
+                while ((target = next(edgeChars, edgeTargets, fallback, c)) < 0 && fallback != 0) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = target < 0 ? 0 : target;
+                outputs[child] = toOutput(terminals.get(child), outputs[failure[child]]);
+                queue.add(child);
+            }
+        }
+
+        return new KeywordMatcher(keywords.toArray(new String[0]), keywordIndexes,
+                edgeChars, edgeTargets, failure, outputs);
+    }
+
+    /**
+     * 본문에 포함된 키워드의 번호를 matched에 표시
+     */
+    void scan(CharSequence text, BitSet matched) {
+        if (text == null || keywords.length == 0) {
+            return;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int target;
+            while ((target = next(edgeChars, edgeTargets, state, c)) < 0 && state != 0) {
+                state = failure[state];
+            }
+            state = target < 0 ? 0 : target;
+            for (int keyword : outputs[state]) {
+                matched.set(keyword);
+            }
+        }
+    }
+
+    /**
+     * 등록된 키워드 수
+     */
+    int size() {
+        return keywords.length;
+    }
+
+    String keyword(int index) {
+        return keywords[index];
+    }
+
+    /**
+     * 키워드 번호 (등록되지 않은 키워드이면 -1)
+     */
+    int indexOf(String keyword) {
+        Integer index = keywordIndexes.get(keyword);
+        return index != null ? index : -1;
+    }
+
+    int getNodeCount() {
+        return failure.length;
+    }
+
+    private static int next(char[][] edgeChars, int[][] edgeTargets, int node, char c) {
+        int i = Arrays.binarySearch(edgeChars[node], c);
+        return i < 0 ? -1 : edgeTargets[node][i];
+    }
+
+    private static int[] toOutput(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        int[] output = new int[own.size() + inherited.length];
+        for (int i = 0; i < own.size(); i++) {
+            output[i] = own.get(i);
+        }
+        System.arraycopy(inherited, 0, output, own.size(), inherited.length);
+        return output;
+    }
+}
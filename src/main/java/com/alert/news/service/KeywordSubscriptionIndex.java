@@ -0,0 +1,257 @@
+package com.alert.news.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 고객사별 키워드 구독 색인
+ *
+ * 모든 고객사의 키워드를 하나의 {@link KeywordMatcher}(Aho–Corasick)로 묶어 두고,
+ * 뉴스마다 제목과 본문을 한 번만 훑어 받을 고객사를 찾습니다. 브로드캐스트 비용이 고객사 수 x 키워드 수가 아니라
+ * 본문 길이에 비례합니다. 키워드를 구독하지 않은 고객사는 모든 뉴스를 받습니다.
+ *
+ * 구독 변경은 잠금 안에서 새 스냅샷을 만들어 교체하고, 검색은 volatile 스냅샷만 읽습니다.
+ * 이미 오토마톤에 있는 키워드만 쓰는 변경은 오토마톤을 그대로 두고 키워드별 고객사 표만 바꾸며,
+ * 새 키워드가 생기거나 아무도 구독하지 않는 키워드가 쌓였을 때만 오토마톤을 다시 만듭니다.
+ */
+@Component
+public class KeywordSubscriptionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeywordSubscriptionIndex.class);
+
+    private static final String[] NO_CUSTOMERS = new String[0];
+
+    @Value("${websocket.keywords.max-per-customer:100}")
+    private int maxKeywordsPerCustomer = 100;
+
+    @Value("${websocket.keywords.max-length:50}")
+    private int maxKeywordLength = 50;
+
+    // 아래 두 맵은 this 잠금 안에서만 변경
+    private final Map<String, Set<String>> keywordsByCustomer = new HashMap<>();
+    private final Map<String, Set<String>> customersByKeyword = new HashMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private long rebuildCount;
+
+    /**
+     * 고객사의 키워드 구독을 주어진 목록으로 교체 (빈 목록이면 구독 해제, 모든 뉴스 수신)
+     *
+     * @return 정규화된 구독 키워드 (소문자, 앞뒤 공백 제거, 중복 제거)
+     */
+    public synchronized List<String> subscribe(String customerId, Collection<String> keywords) {
+        Set<String> normalized = normalize(keywords);
+        if (normalized.size() > maxKeywordsPerCustomer) {
+            throw new IllegalArgumentException("고객사당 키워드는 최대 " + maxKeywordsPerCustomer + "개까지 구독할 수 있습니다.");
+        }
+
+        removeFromIndex(customerId);
+        if (!normalized.isEmpty()) {
+            keywordsByCustomer.put(customerId, normalized);
+            for (String keyword : normalized) {
+                customersByKeyword.computeIfAbsent(keyword, k -> new HashSet<>()).add(customerId);
+            }
+        }
+        publish();
+        return List.copyOf(normalized);
+    }
+
+    /**
+     * 고객사의 키워드 구독 해제
+     */
+    public synchronized void unsubscribe(String customerId) {
+        if (removeFromIndex(customerId)) {
+            publish();
+        }
+    }
+
+    /**
+     * 고객사가 구독 중인 키워드 (구독하지 않았으면 빈 목록)
+     */
+    public List<String> getKeywords(String customerId) {
+        List<String> keywords = snapshot.keywordsByCustomer.get(customerId);
+        return keywords != null ? keywords : List.of();
+    }
+
+    /**
+     * 키워드로 걸러 받는 고객사인지 여부
+     */
+    public boolean hasFilter(String customerId) {
+        return snapshot.keywordsByCustomer.containsKey(customerId);
+    }
+
+    /**
+     * 본문들을 한 번씩 훑어 키워드가 일치한 고객사 계산
+     *
+     * 결과는 호출 시점의 스냅샷 기준이므로 이후 구독이 바뀌어도 같은 뉴스에 대해서는 일관된 판단을 합니다.
+     */
+    public KeywordMatch match(String... texts) {
+        Snapshot current = snapshot;
+        if (current.matcher.size() == 0) {
+            return new KeywordMatch(current, Set.of());
+        }
+
+        BitSet matchedKeywords = new BitSet(current.matcher.size());
+        for (String text : texts) {
+            current.matcher.scan(text, matchedKeywords);
+        }
+        Set<String> matchedCustomers = new HashSet<>();
+        for (int k = matchedKeywords.nextSetBit(0); k >= 0; k = matchedKeywords.nextSetBit(k + 1)) {
+            Collections.addAll(matchedCustomers, current.customersByKeyword[k]);
+        }
+        return new KeywordMatch(current, matchedCustomers);
+    }
+
+    /**
+     * 오토마톤 전체를 다시 만든 횟수
+     */
+    public synchronized long getRebuildCount() {
+        return rebuildCount;
+    }
+
+    /**
+     * 구독 중인 서로 다른 키워드 수
+     */
+    public synchronized int getKeywordCount() {
+        return customersByKeyword.size();
+    }
+
+    private boolean removeFromIndex(String customerId) {
+        Set<String> previous = keywordsByCustomer.remove(customerId);
+        if (previous == null) {
+            return false;
+        }
+        for (String keyword : previous) {
+            Set<String> customers = customersByKeyword.get(keyword);
+            customers.remove(customerId);
+            if (customers.isEmpty()) {
+                customersByKeyword.remove(keyword);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 구독 상태로 새 스냅샷 게시 (오토마톤은 필요할 때만 재생성)
+     */
+    private void publish() {
+        KeywordMatcher matcher = snapshot.matcher;
+        // 구독자가 없어진 키워드는 오토마톤에 남겨 두다가 살아 있는 키워드보다 많아지면 정리
+        int deadKeywords = matcher.size() - customersByKeyword.size();
+        boolean rebuild = deadKeywords > customersByKeyword.size();
+        if (!rebuild) {
+            for (String keyword : customersByKeyword.keySet()) {
+                if (matcher.indexOf(keyword) < 0) {
+                    rebuild = true;
+                    break;
+                }
+            }
+        }
+        if (rebuild) {
+            long startedAt = System.nanoTime();
+            matcher = KeywordMatcher.build(customersByKeyword.keySet());
+            rebuildCount++;
+            logger.debug("키워드 오토마톤 재생성: 키워드 {}개, 노드 {}개, {}us",
+                        matcher.size(), matcher.getNodeCount(), (System.nanoTime() - startedAt) / 1_000);
+        }
+
+        String[][] customersByIndex = new String[matcher.size()][];
+        for (int k = 0; k < matcher.size(); k++) {
+            Set<String> customers = customersByKeyword.get(matcher.keyword(k));
+            customersByIndex[k] = customers != null ? customers.toArray(NO_CUSTOMERS) : NO_CUSTOMERS;
+        }
+        Map<String, List<String>> keywords = new HashMap<>(keywordsByCustomer.size() * 2);
+        keywordsByCustomer.forEach((customerId, customerKeywords) -> keywords.put(customerId, List.copyOf(customerKeywords)));
+        snapshot = new Snapshot(matcher, customersByIndex, Collections.unmodifiableMap(keywords));
+    }
+
+    private Set<String> normalize(Collection<String> keywords) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (keywords == null) {
+            return normalized;
+        }
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.isBlank()) {
+                continue;
+            }
+            String trimmed = keyword.strip();
+            if (trimmed.length() > maxKeywordLength) {
+                throw new IllegalArgumentException("키워드는 최대 " + maxKeywordLength + "자까지 입력할 수 있습니다: " + trimmed);
+            }
+            // 검색 시 글자 단위로 소문자 변환하므로 같은 방식으로 정규화
+            StringBuilder lower = new StringBuilder(trimmed.length());
+            for (int i = 0; i < trimmed.length(); i++) {
+                lower.append(Character.toLowerCase(trimmed.charAt(i)));
+            }
+            normalized.add(lower.toString());
+        }
+        return normalized;
+    }
+
+    /**
+     * 뉴스 한 건에 대한 키워드 일치 결과
+     */
+    public static final class KeywordMatch {
+        private final Snapshot snapshot;
+        private final Set<String> matchedCustomerIds;
+
+        private KeywordMatch(Snapshot snapshot, Set<String> matchedCustomerIds) {
+            this.snapshot = snapshot;
+            this.matchedCustomerIds = matchedCustomerIds;
+        }
+
+        /**
+         * 고객사가 이 뉴스를 받아야 하는지 (키워드 구독이 없거나 키워드가 일치한 경우)
+         */
+        public boolean accepts(String customerId) {
+            return !isFiltered(customerId) || matchedCustomerIds.contains(customerId);
+        }
+
+        /**
+         * 고객사가 키워드로 걸러 받는지 여부 (이 결과를 계산한 시점 기준)
+         */
+        public boolean isFiltered(String customerId) {
+            return snapshot.keywordsByCustomer.containsKey(customerId);
+        }
+
+        /**
+         * 키워드로 걸러 받는 고객사가 하나라도 있는지 여부
+         */
+        public boolean hasFilters() {
+            return !snapshot.keywordsByCustomer.isEmpty();
+        }
+
+        // Getter
+        public Set<String> getMatchedCustomerIds() { return matchedCustomerIds; }
+    }
+
+    /**
+     * 한 시점의 구독 상태 (생성 후 변경하지 않음)
+     */
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(KeywordMatcher.EMPTY, new String[0][], Map.of());
+
+        private final KeywordMatcher matcher;
+        // 키워드 번호 → 구독 고객사
+        private final String[][] customersByKeyword;
+        private final Map<String, List<String>> keywordsByCustomer;
+
+        private Snapshot(KeywordMatcher matcher, String[][] customersByKeyword, Map<String, List<String>> keywordsByCustomer) {
+            this.matcher = matcher;
+            this.customersByKeyword = customersByKeyword;
+            this.keywordsByCustomer = keywordsByCustomer;
+        }
+    }
+}
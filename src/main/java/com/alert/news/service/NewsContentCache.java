@@ -0,0 +1,101 @@
+package com.alert.news.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 뉴스 본문 캐시 (headline 구성 연결의 본문 조회용, 바이트 수 제한 LRU)
+ *
+ * headline payload를 처음 만들 때 본문을 UTF-8 바이트로 넣어 두고, /api/v1/news/{id}/content는
+ * DB를 거치지 않고 이 바이트를 그대로 응답합니다. 전체 크기가 news.content-cache.max-bytes를 넘으면
+ * 가장 오래 조회되지 않은 본문부터 버립니다. 한도의 1/8보다 큰 본문은 캐시하지 않습니다.
+ */
+@Component
+public class NewsContentCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsContentCache.class);
+
+    @Value("${news.content-cache.max-bytes:67108864}")
+    private long maxBytes = 64L * 1024 * 1024;
+
+    // 접근 순서 LinkedHashMap (this 잠금 안에서만 사용)
+    private final LinkedHashMap<String, byte[]> contents = new LinkedHashMap<>(1024, 0.75f, true);
+    private long totalBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public NewsContentCache() {
+    }
+
+    NewsContentCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 본문 저장 (이미 있으면 무시)
+     */
+    public void put(String newsId, String content) {
+        if (newsId == null || content == null) {
+            return;
+        }
+        synchronized (this) {
+            if (contents.containsKey(newsId)) {
+                return;
+            }
+        }
+        // 인코딩은 잠금 밖에서
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > maxBytes / 8) {
+            logger.debug("본문이 커서 캐시하지 않습니다: 뉴스 ID: {}, {} bytes", newsId, bytes.length);
+            return;
+        }
+        synchronized (this) {
+            if (contents.putIfAbsent(newsId, bytes) != null) {
+                return;
+            }
+            totalBytes += bytes.length;
+            Iterator<Map.Entry<String, byte[]>> eldest = contents.entrySet().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                totalBytes -= eldest.next().getValue().length;
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * UTF-8 본문 조회 (없으면 null, 반환한 배열은 수정하면 안 됨)
+     */
+    public byte[] get(String newsId) {
+        byte[] bytes;
+        synchronized (this) {
+            bytes = contents.get(newsId);
+        }
+        (bytes != null ? hits : misses).incrementAndGet();
+        return bytes;
+    }
+
+    public synchronized int size() {
+        return contents.size();
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+}
@@ -0,0 +1,17 @@
+package com.alert.news.service;
+
+/**
+ * 전체 고객사 뉴스 전송 방식 (websocket.delivery-mode 설정값)
+ */
+public enum NewsDeliveryMode {
+
+    /**
+     * 연결마다 /user/queue/news로 개별 전송 (연결별 송신 버퍼와 느린 소비자 정책 적용)
+     */
+    USER_QUEUE,
+
+    /**
+     * 인증된 세션이 /topic/news를 구독하고 뉴스마다 한 번만 발행 (브로커가 구독자에게 팬아웃)
+     */
+    TOPIC
+}
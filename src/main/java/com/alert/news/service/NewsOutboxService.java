@@ -0,0 +1,139 @@
+package com.alert.news.service;
+
+import com.alert.news.model.NewsOutbox;
+import com.alert.news.repository.NewsOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 뉴스 이벤트 아웃박스 서비스
+ * 
+ * 아웃박스 이벤트의 점유, 완료 처리, 정리를 담당합니다.
+ * 점유는 짧은 트랜잭션 안에서 끝나므로 전송하는 동안 행 잠금을 잡고 있지 않습니다.
+ */
+@Service
+@Transactional
+public class NewsOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsOutboxService.class);
+
+    private final NewsOutboxRepository newsOutboxRepository;
+
+    @Autowired
+    public NewsOutboxService(NewsOutboxRepository newsOutboxRepository) {
+        this.newsOutboxRepository = newsOutboxRepository;
+    }
+
+    /**
+     * 처리할 이벤트를 최대 limit개까지 점유
+     *
+     * @param nodeId 점유하는 노드 식별자
+     * @param claimTimeoutMillis 이 시간 안에 완료되지 않은 점유는 다른 노드가 다시 가져갈 수 있음
+     * @return 점유한 이벤트 (ID 순)
+     */
+    public List<NewsOutbox> claimBatch(String nodeId, int limit, long claimTimeoutMillis) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<NewsOutbox> events = newsOutboxRepository.findClaimableForUpdate(
+                    now.minus(Duration.ofMillis(claimTimeoutMillis)), limit);
+            for (NewsOutbox event : events) {
+                if (event.getStatus() == NewsOutbox.Status.PROCESSING) {
+                    logger.warn("점유 제한 시간이 지난 아웃박스 이벤트를 다시 점유합니다: {} (이전 노드 {})",
+                               event.getId(), event.getClaimedBy());
+                }
+                event.setStatus(NewsOutbox.Status.PROCESSING);
+                event.setClaimedBy(nodeId);
+                event.setClaimedAt(now);
+                event.setAttempts(event.getAttempts() + 1);
+            }
+
+            if (!events.isEmpty()) {
+                logger.debug("아웃박스 이벤트 점유 완료: {}개, 노드 {}", events.size(), nodeId);
+            }
+            return events;
+        } catch (Exception e) {
+            logger.error("아웃박스 이벤트 점유 중 오류 발생: 노드 {}", nodeId, e);
+            throw new RuntimeException("아웃박스 이벤트 점유 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 이벤트를 처리 완료로 표시
+     */
+    public int markDone(Collection<Long> ids) {
+        try {
+            int updated = newsOutboxRepository.updateStatus(ids, NewsOutbox.Status.DONE, LocalDateTime.now());
+            logger.debug("아웃박스 이벤트 완료 처리: {}개", updated);
+            return updated;
+        } catch (Exception e) {
+            logger.error("아웃박스 이벤트 완료 처리 중 오류 발생: {}", ids, e);
+            throw new RuntimeException("아웃박스 이벤트 완료 처리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 특정 시각 이전에 처리 완료된 이벤트 삭제
+     */
+    public int purgeProcessedBefore(LocalDateTime before) {
+        try {
+            int deleted = newsOutboxRepository.deleteByStatusProcessedBefore(NewsOutbox.Status.DONE, before);
+            if (deleted > 0) {
+                logger.info("처리 완료된 아웃박스 이벤트 정리: {}개 ({} 이전)", deleted, before);
+            }
+            return deleted;
+        } catch (Exception e) {
+            logger.error("아웃박스 이벤트 정리 중 오류 발생: {}", before, e);
+            throw new RuntimeException("아웃박스 이벤트 정리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 특정 시각 이전에 생성된 이벤트를 상태와 관계없이 삭제 (아웃박스를 소비하지 않는 경우)
+     */
+    public int purgeCreatedBefore(LocalDateTime before) {
+        try {
+            int deleted = newsOutboxRepository.deleteByCreatedAtBefore(before);
+            if (deleted > 0) {
+                logger.info("소비되지 않은 아웃박스 이벤트 정리: {}개 ({} 이전)", deleted, before);
+            }
+            return deleted;
+        } catch (Exception e) {
+            logger.error("아웃박스 이벤트 정리 중 오류 발생: {}", before, e);
+            throw new RuntimeException("아웃박스 이벤트 정리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 뉴스 추가 트리거의 아웃박스 기록 여부 변경
+     */
+    public void setCaptureEnabled(boolean enabled) {
+        try {
+            newsOutboxRepository.updateCaptureEnabled(enabled);
+            logger.info("아웃박스 기록 설정 변경: {}", enabled);
+        } catch (Exception e) {
+            logger.error("아웃박스 기록 설정 변경 중 오류 발생: {}", enabled, e);
+            throw new RuntimeException("아웃박스 기록 설정 변경 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 상태별 이벤트 수 조회
+     */
+    @Transactional(readOnly = true)
+    public long countByStatus(NewsOutbox.Status status) {
+        try {
+            return newsOutboxRepository.countByStatus(status);
+        } catch (Exception e) {
+            logger.error("아웃박스 이벤트 수 조회 중 오류 발생: {}", status, e);
+            throw new RuntimeException("아웃박스 이벤트 수 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+}
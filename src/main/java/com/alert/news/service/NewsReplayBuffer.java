@@ -0,0 +1,139 @@
+package com.alert.news.service;
+
+import com.alert.news.dto.NewsDto;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 최근 브로드캐스트 재전송 버퍼 (재연결 세션의 누락분 재전송용 링 버퍼)
+ *
+ * 브로드캐스트마다 순번(sequence)을 붙이고 최근 websocket.replay.capacity건을 메모리에 보관합니다.
+ * 클라이언트가 인증 요청에 마지막으로 받은 순번을 보내면 그 이후 뉴스만 골라 다시 보냅니다.
+ *
+ * 순번은 max(직전 순번 + 1, 현재 시각(ms) x 1000)으로 정하므로 재시작 후에도 계속 증가하고(연속적이지는 않음),
+ * 순번에서 브로드캐스트 시각을 거꾸로 구할 수 있습니다. 버퍼가 덮어쓴 구간이나 재시작 이전의 순번이면
+ * 그 시각 기준으로 DB를 한 번 조회해 보충하도록 {@link Replay#getCatchUpSince()}를 알려 줍니다.
+ */
+@Component
+public class NewsReplayBuffer {
+
+    private static final long SEQUENCES_PER_MILLI = 1_000;
+
+    @Value("${websocket.replay.capacity:10000}")
+    private int capacity = 10_000;
+
+    @Value("${websocket.replay.catch-up-margin:60000}")
+    private long catchUpMarginMillis = 60_000;
+
+    // 아래 필드는 this 잠금 안에서만 사용
+    private NewsDto[] ring;
+    private int nextIndex;
+    private int size;
+    private long lastSequence;
+    // 이 순번 이하는 버퍼에 없음 (시작 시점 또는 마지막으로 덮어쓴 순번)
+    private long floorSequence;
+
+    public NewsReplayBuffer() {
+    }
+
+    NewsReplayBuffer(int capacity, long catchUpMarginMillis) {
+        this.capacity = capacity;
+        this.catchUpMarginMillis = catchUpMarginMillis;
+        init();
+    }
+
+    @PostConstruct
+    public synchronized void init() {
+        if (capacity < 1) {
+            throw new IllegalStateException("websocket.replay.capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        ring = new NewsDto[capacity];
+        lastSequence = System.currentTimeMillis() * SEQUENCES_PER_MILLI;
+        floorSequence = lastSequence;
+    }
+
+    /**
+     * 뉴스에 다음 순번을 붙이고 버퍼에 추가 (가장 오래된 뉴스를 덮어씀)
+     *
+     * 추가한 DTO는 재전송 때 다시 직렬화하므로 이후 수정하면 안 됩니다.
+     *
+     * @return 붙인 순번
+     */
+    public synchronized long append(NewsDto news) {
+        long sequence = Math.max(lastSequence + 1, System.currentTimeMillis() * SEQUENCES_PER_MILLI);
+        news.setSequence(sequence);
+        NewsDto evicted = ring[nextIndex];
+        if (evicted != null) {
+            floorSequence = evicted.getSequence();
+        } else {
+            size++;
+        }
+        ring[nextIndex] = news;
+        nextIndex = (nextIndex + 1) % ring.length;
+        lastSequence = sequence;
+        return sequence;
+    }
+
+    /**
+     * 마지막으로 받은 순번 이후의 뉴스 (순번 순)
+     */
+    public synchronized Replay since(long lastReceivedSequence) {
+        List<NewsDto> news = new ArrayList<>();
+        int oldest = (nextIndex - size + ring.length) % ring.length;
+        for (int i = 0; i < size; i++) {
+            NewsDto buffered = ring[(oldest + i) % ring.length];
+            if (buffered.getSequence() > lastReceivedSequence) {
+                news.add(buffered);
+            }
+        }
+        if (lastReceivedSequence >= floorSequence) {
+            return new Replay(news, null);
+        }
+        // 버퍼에 없는 구간: 마지막으로 받은 뉴스의 브로드캐스트 시각에서 여유를 두고 DB 보충
+        long millis = lastReceivedSequence / SEQUENCES_PER_MILLI - catchUpMarginMillis;
+        LocalDateTime catchUpSince = LocalDateTime.ofInstant(Instant.ofEpochMilli(Math.max(0, millis)), ZoneId.systemDefault());
+        return new Replay(news, catchUpSince);
+    }
+
+    /**
+     * 마지막으로 붙인 순번
+     */
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 재전송할 뉴스
+     */
+    public static final class Replay {
+        private final List<NewsDto> news;
+        private final LocalDateTime catchUpSince;
+
+        private Replay(List<NewsDto> news, LocalDateTime catchUpSince) {
+            this.news = news;
+            this.catchUpSince = catchUpSince;
+        }
+
+        /**
+         * 버퍼만으로 누락분을 모두 채울 수 있는지 여부
+         */
+        public boolean isComplete() {
+            return catchUpSince == null;
+        }
+
+        // Getter
+        public List<NewsDto> getNews() { return news; }
+        public LocalDateTime getCatchUpSince() { return catchUpSince; }
+    }
+}
@@ -14,7 +14,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -56,6 +59,71 @@ public class NewsService {
         }
     }
 
+    /**
+     * 여러 ID의 뉴스를 한 번의 쿼리로 조회
+     *
+     * @return 뉴스 ID를 키로 하는 맵 (존재하지 않는 ID는 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, News> getNewsByIds(Collection<String> ids) {
+        try {
+            List<News> newsList = newsRepository.findAllById(ids);
+            Map<String, News> newsById = new HashMap<>(newsList.size() * 2);
+            for (News news : newsList) {
+                newsById.put(news.getId(), news);
+            }
+
+            logger.debug("뉴스 일괄 조회 완료: 요청 {}개, 조회 {}개", ids.size(), newsById.size());
+            return newsById;
+        } catch (Exception e) {
+            logger.error("뉴스 일괄 조회 중 오류 발생: {}", ids, e);
+            throw new RuntimeException("뉴스 일괄 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 특정 시각 이후 생성된 뉴스 ID 조회 (생성 순)
+     */
+    @Transactional(readOnly = true)
+    public List<String> getNewsIdsCreatedSince(LocalDateTime since) {
+        try {
+            List<String> ids = newsRepository.findIdsCreatedSince(since);
+            logger.debug("생성 시각 기준 뉴스 ID 조회 완료: {} 이후, {}개", since, ids.size());
+            return ids;
+        } catch (Exception e) {
+            logger.error("생성 시각 기준 뉴스 ID 조회 중 오류 발생: {}", since, e);
+            throw new RuntimeException("생성 시각 기준 뉴스 ID 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 뉴스 추가 트리거의 알림 여부 변경
+     */
+    public void setInsertNotifyEnabled(boolean enabled) {
+        try {
+            newsRepository.updateInsertNotifyEnabled(enabled);
+            logger.info("뉴스 추가 알림 설정 변경: {}", enabled);
+        } catch (Exception e) {
+            logger.error("뉴스 추가 알림 설정 변경 중 오류 발생: {}", enabled, e);
+            throw new RuntimeException("뉴스 추가 알림 설정 변경 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 특정 시각 이후 생성된 뉴스 조회 (생성 순, 최대 limit개)
+     */
+    @Transactional(readOnly = true)
+    public List<News> getNewsCreatedSince(LocalDateTime since, int limit) {
+        try {
+            List<News> newsList = newsRepository.findCreatedSince(since, PageRequest.of(0, limit));
+            logger.debug("생성 시각 기준 뉴스 조회 완료: {} 이후, {}개", since, newsList.size());
+            return newsList;
+        } catch (Exception e) {
+            logger.error("생성 시각 기준 뉴스 조회 중 오류 발생: {}", since, e);
+            throw new RuntimeException("생성 시각 기준 뉴스 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+
     /**
      * 뉴스 목록 조회 (페이징)
      */
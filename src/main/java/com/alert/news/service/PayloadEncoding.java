@@ -0,0 +1,116 @@
+package com.alert.news.service;
+
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 연결별 뉴스 payload 인코딩 (인증 요청의 encoding 값, 연결마다 선택)
+ *
+ * 같은 인코딩을 고른 연결은 뉴스마다 한 번 인코딩한 같은 바이트 배열을 공유합니다.
+ */
+public enum PayloadEncoding {
+
+    /**
+     * JSON 텍스트 프레임 (기본값)
+     */
+    JSON(new MimeType("text", "plain", StandardCharsets.UTF_8)) {
+        @Override
+        byte[] toArray(List<byte[]> payloads) {
+            int length = 2 + payloads.size() - 1;
+            for (byte[] payload : payloads) {
+                length += payload.length;
+            }
+            byte[] array = new byte[length];
+            array[0] = '[';
+            int position = 1;
+            for (int i = 0; i < payloads.size(); i++) {
+                if (i > 0) {
+                    array[position++] = ',';
+                }
+                position = append(array, position, payloads.get(i));
+            }
+            array[position] = ']';
+            return array;
+        }
+    },
+
+    /**
+     * CBOR(RFC 8949) 바이너리 프레임
+     *
+     * STOMP는 content-type이 application/octet-stream일 때만 바이너리 WebSocket 프레임으로 보내므로
+     * 그 content-type을 사용합니다. SockJS 연결은 바이너리 프레임을 지원하지 않습니다.
+     */
+    CBOR(new MimeType("application", "octet-stream")) {
+        @Override
+        byte[] toArray(List<byte[]> payloads) {
+            int count = payloads.size();
+            int headerLength = count < 24 ? 1 : count < 0x100 ? 2 : count < 0x10000 ? 3 : 5;
+            int length = headerLength;
+            for (byte[] payload : payloads) {
+                length += payload.length;
+            }
+            byte[] array = new byte[length];
+            // major type 4 (배열) 헤더, 원소 수 인코딩
+            if (headerLength == 1) {
+                array[0] = (byte) (0x80 | count);
+            } else if (headerLength == 2) {
+                array[0] = (byte) 0x98;
+                array[1] = (byte) count;
+            } else if (headerLength == 3) {
+                array[0] = (byte) 0x99;
+                array[1] = (byte) (count >>> 8);
+                array[2] = (byte) count;
+            } else {
+                array[0] = (byte) 0x9a;
+                array[1] = (byte) (count >>> 24);
+                array[2] = (byte) (count >>> 16);
+                array[3] = (byte) (count >>> 8);
+                array[4] = (byte) count;
+            }
+            int position = headerLength;
+            for (byte[] payload : payloads) {
+                position = append(array, position, payload);
+            }
+            return array;
+        }
+    };
+
+    private final MimeType contentType;
+
+    PayloadEncoding(MimeType contentType) {
+        this.contentType = contentType;
+    }
+
+    public MimeType getContentType() {
+        return contentType;
+    }
+
+    /**
+     * 이미 인코딩된 뉴스 여러 건을 다시 인코딩하지 않고 배열 하나로 결합 (묶음 프레임용)
+     */
+    abstract byte[] toArray(List<byte[]> payloads);
+
+    /**
+     * 인증 요청 값으로 인코딩 결정 (비어 있으면 JSON, 대소문자 구분 없음)
+     *
+     * @throws IllegalArgumentException 알 수 없는 값인 경우
+     */
+    public static PayloadEncoding from(String value) {
+        if (value == null || value.isBlank()) {
+            return JSON;
+        }
+        for (PayloadEncoding encoding : values()) {
+            if (encoding.name().equalsIgnoreCase(value.strip())) {
+                return encoding;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 인코딩입니다: " + value);
+    }
+
+    private static int append(byte[] array, int position, byte[] payload) {
+        System.arraycopy(payload, 0, array, position, payload.length);
+        return position + payload.length;
+    }
+}
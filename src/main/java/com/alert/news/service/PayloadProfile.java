@@ -0,0 +1,36 @@
+package com.alert.news.service;
+
+/**
+ * 연결별 뉴스 payload 구성 (인증 요청의 profile 값, 연결마다 선택)
+ */
+public enum PayloadProfile {
+
+    /**
+     * 본문을 포함한 전체 뉴스 (기본값)
+     */
+    FULL,
+
+    /**
+     * 제목만 보내는 티커용 뉴스 (id, title, publishedAt)
+     *
+     * 본문은 필요할 때 /api/v1/news/{id}/content로 받으며, 브로드캐스트 시점에 채운 {@link NewsContentCache}에서 응답합니다.
+     */
+    HEADLINE;
+
+    /**
+     * 인증 요청 값으로 payload 구성 결정 (비어 있으면 FULL, 대소문자 구분 없음)
+     *
+     * @throws IllegalArgumentException 알 수 없는 값인 경우
+     */
+    public static PayloadProfile from(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        for (PayloadProfile profile : values()) {
+            if (profile.name().equalsIgnoreCase(value.strip())) {
+                return profile;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 payload 구성입니다: " + value);
+    }
+}
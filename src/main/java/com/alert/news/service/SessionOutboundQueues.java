@@ -0,0 +1,460 @@
+package com.alert.news.service;
+
+import com.alert.news.queue.NewsPipelineMetrics;
+import com.alert.news.service.ConnectedCustomerRegistry.ConnectedCustomer;
+import com.alert.news.websocket.OutboundSocketMonitor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 연결별 송신 큐
+ *
+ * 뉴스 팬아웃은 연결마다 둔 제한된 크기의 송신 버퍼에 payload를 넣기만 하고,
+ * 실제 브로커 채널 전송은 연결별 writer가 가상 스레드에서 순서대로 처리합니다.
+ * 느리거나 멈춘 연결이 있어도 프로세서 스레드와 다른 고객사의 전송이 기다리지 않습니다.
+ *
+ * 브로커 채널 전송은 소켓 쓰기를 기다리지 않으므로, writer는 {@link OutboundSocketMonitor}가 잰 소켓 버퍼가
+ * websocket.outbound.socket-buffer-size를 넘는 동안 뉴스를 넘기지 않고 이 버퍼에 남겨 둡니다.
+ * 그래서 버퍼가 가득 찼거나 소켓 쓰기 하나가 send-time-limit을 넘겨 끝나지 않으면 느린 소비자로 보고
+ * {@link SlowConsumerPolicy}에 따라 메시지를 버리거나, 연결을 끊거나, 오래된 메시지를 버립니다.
+ * 고객사별 버퍼 깊이(news.outbound.queue.depth), 버린 메시지 수(news.outbound.dropped),
+ * 강제 종료 수(news.outbound.evicted)는 Micrometer로 노출합니다.
+ *
+ * 묶음 프레임({@link DeliveryFraming#BATCH})을 고른 연결은 writer가 첫 메시지 이후 websocket.batch.linger(ms) 동안
+ * 또는 websocket.batch.max-items개가 될 때까지 기다렸다가, 이미 인코딩된 payload를 배열 하나로 이어 붙여 한 프레임으로 보냅니다.
+ * 버퍼에 넣는 payload는 연결이 고른 {@link PayloadEncoding}으로 인코딩된 것이어야 합니다.
+ */
+@Component
+public class SessionOutboundQueues {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionOutboundQueues.class);
+
+    static final String QUEUE_DEPTH = "news.outbound.queue.depth";
+    static final String DROPPED = "news.outbound.dropped";
+    static final String EVICTED = "news.outbound.evicted";
+
+    private static final String NEWS_DESTINATION = "/queue/news";
+    // 소켓 버퍼가 줄기를 기다리는 동안 연결 종료 여부를 다시 확인하는 간격
+    private static final long SOCKET_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Value("${websocket.outbound.buffer-size:256}")
+    private int bufferSize = 256;
+
+    @Value("${websocket.outbound.send-time-limit:10000}")
+    private long sendTimeLimitMillis = 10000;
+
+    @Value("${websocket.outbound.slow-consumer-policy:drop}")
+    private SlowConsumerPolicy slowConsumerPolicy = SlowConsumerPolicy.DROP;
+
+    @Value("${websocket.batch.linger:50}")
+    private long batchLingerMillis = 50;
+
+    @Value("${websocket.batch.max-items:20}")
+    private int batchMaxItems = 20;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final MessageChannel clientOutboundChannel;
+    private final MeterRegistry meterRegistry;
+    private final NewsPipelineMetrics pipelineMetrics;
+    private final OutboundSocketMonitor socketMonitor;
+
+    private final ConcurrentMap<String, SessionQueue> queues = new ConcurrentHashMap<>();
+    private ExecutorService writers;
+    private long sendTimeLimitNanos;
+    private long batchLingerNanos;
+
+    @Autowired
+    public SessionOutboundQueues(SimpMessagingTemplate messagingTemplate,
+                                 @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+                                 MeterRegistry meterRegistry,
+                                 NewsPipelineMetrics pipelineMetrics,
+                                 OutboundSocketMonitor socketMonitor) {
+        this.messagingTemplate = messagingTemplate;
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.meterRegistry = meterRegistry;
+        this.pipelineMetrics = pipelineMetrics;
+        this.socketMonitor = socketMonitor;
+    }
+
+    /**
+     * writer 실행기 준비
+     */
+    @PostConstruct
+    public void start() {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("websocket.outbound.buffer-size는 1 이상이어야 합니다: " + bufferSize);
+        }
+        if (batchMaxItems < 1) {
+            throw new IllegalArgumentException("websocket.batch.max-items는 1 이상이어야 합니다: " + batchMaxItems);
+        }
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis);
+        this.batchLingerNanos = TimeUnit.MILLISECONDS.toNanos(batchLingerMillis);
+        this.writers = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("news-outbound-writer-", 0).factory());
+        logger.info("연결별 송신 큐 설정: 버퍼 {}개, 전송 제한 시간 {}ms, 느린 소비자 정책 {}, 묶음 프레임 {}ms/{}개",
+                   bufferSize, sendTimeLimitMillis, slowConsumerPolicy, batchLingerMillis, batchMaxItems);
+    }
+
+    @PreDestroy
+    public void stop() {
+        writers.shutdownNow();
+        queues.values().forEach(this::release);
+        queues.clear();
+    }
+
+    /**
+     * 인증한 연결의 송신 버퍼 생성 (레지스트리에 등록하기 전에 호출, 같은 연결로 다시 인증하면 기존 버퍼 유지)
+     *
+     * 세션이 이미 닫혔으면 만들지 않습니다. 세션 종료 처리와 겹쳐도 남지 않도록 등록한 뒤 세션 상태를 다시 확인합니다.
+     * ({@link OutboundSocketMonitor}는 SessionDisconnectEvent보다 먼저 세션을 지움)
+     *
+     * @return 송신 버퍼가 있으면 true
+     */
+    public boolean open(String customerId, String connectionId, DeliveryOptions deliveryOptions) {
+        if (!socketMonitor.isOpen(connectionId)) {
+            return false;
+        }
+        boolean[] created = new boolean[1];
+        SessionQueue queue = queues.computeIfAbsent(connectionId, id -> {
+            created[0] = true;
+            return new SessionQueue(customerId, id, deliveryOptions);
+        });
+        if (!created[0]) {
+            return !queue.closed;
+        }
+        if (!socketMonitor.isOpen(connectionId) && queues.remove(connectionId, queue)) {
+            release(queue);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 연결의 송신 버퍼에 뉴스 payload 추가 (전송은 writer가 비동기로 처리)
+     *
+     * payload는 연결의 전달 옵션에 맞는 인코딩이어야 하며, 여러 연결이 공유하므로 수정하면 안 됩니다.
+     * 이전 레지스트리 스냅샷으로 이미 끊긴 연결에 보내는 경우 버퍼를 새로 만들지 않습니다.
+     *
+     * @return 버퍼에 넣었으면 true, 느린 소비자 정책으로 버렸거나 {@link #open}하지 않았거나 이미 끊은 연결이면 false
+     */
+    public boolean enqueue(ConnectedCustomer customer, byte[] payload) {
+        SessionQueue queue = queues.get(customer.getConnectionId());
+        if (queue == null || queue.closed) {
+            return false;
+        }
+
+        boolean stalled = isStalled(queue.connectionId);
+        if (!stalled && queue.buffer.offer(payload)) {
+            scheduleDrain(queue);
+            return true;
+        }
+        return handleSlowConsumer(queue, payload, stalled);
+    }
+
+    /**
+     * 세션 종료 시 송신 큐 정리 (정책에 의한 종료와 클라이언트 종료 모두)
+     */
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        SessionQueue queue = queues.remove(event.getSessionId());
+        if (queue != null) {
+            release(queue);
+        }
+    }
+
+    /**
+     * 최대 연결 수를 넘어 대체된 연결 종료
+     *
+     * 남은 메시지를 버리고 ERROR 프레임으로 세션을 닫습니다. 큐 정리는 이어지는 SessionDisconnectEvent에서 이루어집니다.
+     */
+    @EventListener
+    public void onConnectionReplaced(ConnectionReplacedEvent event) {
+        SessionQueue queue = queues.get(event.getConnectionId());
+        if (queue != null) {
+            synchronized (queue) {
+                queue.closed = true;
+            }
+            queue.buffer.clear();
+        }
+        logger.info("새 연결로 대체된 연결을 종료합니다: 고객사 ID: {}, 연결 ID: {}, 새 연결 ID: {}",
+                   event.getCustomerId(), event.getConnectionId(), event.getReplacedBy());
+        close(event.getConnectionId(), "같은 고객사의 새 연결이 최대 연결 수를 넘어 이 연결을 종료합니다.");
+    }
+
+    /**
+     * 송신 대기 중인 메시지 수 (연결되어 있지 않으면 0)
+     */
+    public int getDepth(String connectionId) {
+        SessionQueue queue = queues.get(connectionId);
+        return queue != null ? queue.buffer.size() : 0;
+    }
+
+    public SlowConsumerPolicy getSlowConsumerPolicy() {
+        return slowConsumerPolicy;
+    }
+
+    private boolean handleSlowConsumer(SessionQueue queue, byte[] payload, boolean stalled) {
+        String reason = stalled
+                ? "소켓 쓰기가 " + sendTimeLimitMillis + "ms 넘게 끝나지 않음"
+                : "송신 버퍼 가득 참 (" + bufferSize + "개)";
+
+        switch (slowConsumerPolicy) {
+            case DISCONNECT:
+                evict(queue, reason);
+                return false;
+            case DOWNGRADE:
+                // 가장 오래된 메시지를 버리고 최신 메시지를 넣음 (writer가 동시에 꺼내면 버리지 않고 들어감)
+                while (!queue.buffer.offer(payload)) {
+                    if (queue.buffer.poll() != null) {
+                        queue.dropped.increment();
+                    }
+                }
+                if (queue.degraded.compareAndSet(false, true)) {
+                    logger.warn("느린 소비자의 오래된 뉴스를 버립니다: 고객사 ID: {}, 연결 ID: {}, 원인: {}",
+                               queue.customerId, queue.connectionId, reason);
+                }
+                scheduleDrain(queue);
+                return true;
+            case DROP:
+            default:
+                queue.dropped.increment();
+                if (queue.degraded.compareAndSet(false, true)) {
+                    logger.warn("느린 소비자에게 보낼 뉴스를 버립니다: 고객사 ID: {}, 연결 ID: {}, 원인: {}",
+                               queue.customerId, queue.connectionId, reason);
+                }
+                return false;
+        }
+    }
+
+    /**
+     * 느린 소비자 연결 종료
+     *
+     * STOMP ERROR 프레임을 보내면 세션이 닫히고, 이어지는 SessionDisconnectEvent로 고객사 연결 해제와
+     * 큐 정리가 이루어집니다. 그 전까지는 닫힌 큐로 남겨 두어 새 메시지를 받지 않습니다.
+     * 소켓 쓰기가 멈춰 ERROR 프레임도 나갈 수 없으면 소켓 버퍼를 버리고 세션을 바로 닫습니다.
+     */
+    private void evict(SessionQueue queue, String reason) {
+        synchronized (queue) {
+            if (queue.closed) {
+                return;
+            }
+            queue.closed = true;
+        }
+        int discarded = queue.buffer.size();
+        queue.buffer.clear();
+        queue.dropped.increment(discarded + 1);
+        queue.evicted.increment();
+        logger.warn("느린 소비자 연결을 종료합니다: 고객사 ID: {}, 연결 ID: {}, 원인: {}, 버린 메시지: {}개",
+                   queue.customerId, queue.connectionId, reason, discarded + 1);
+
+        close(queue.connectionId, "전송이 밀려 연결을 종료합니다: " + reason);
+    }
+
+    /**
+     * STOMP ERROR 프레임을 보내 세션 종료 (소켓 쓰기가 멈춰 ERROR 프레임도 나갈 수 없으면 소켓 버퍼를 버리고 바로 닫음)
+     */
+    private void close(String connectionId, String message) {
+        try {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.ERROR);
+            accessor.setMessage(message);
+            accessor.setSessionId(connectionId);
+            clientOutboundChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+            if (isStalled(connectionId)) {
+                socketMonitor.terminate(connectionId, CloseStatus.SESSION_NOT_RELIABLE);
+            }
+        } catch (Exception e) {
+            logger.error("연결 종료 중 오류 발생: 연결 ID: {}", connectionId, e);
+        }
+    }
+
+    private void scheduleDrain(SessionQueue queue) {
+        if (queue.draining.compareAndSet(false, true)) {
+            try {
+                writers.execute(() -> drain(queue));
+            } catch (Exception e) {
+                // 종료 중에는 실행기가 작업을 받지 않음
+                queue.draining.set(false);
+                logger.warn("송신 writer를 시작할 수 없습니다: 연결 ID: {}", queue.connectionId, e);
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 소켓 쓰기가 send-time-limit을 넘겼는지 여부
+     */
+    private boolean isStalled(String connectionId) {
+        return socketMonitor.getTimeSinceSendStarted(connectionId) > sendTimeLimitNanos;
+    }
+
+    /**
+     * 연결 하나의 버퍼를 비울 때까지 순서대로 전송 (연결마다 writer는 최대 하나)
+     *
+     * 소켓 버퍼가 한도를 넘은 동안에는 꺼내지 않고 기다리므로, 밀린 뉴스는 이 버퍼에 남아 느린 소비자 정책의 대상이 됩니다.
+     */
+    private void drain(SessionQueue queue) {
+        try {
+            while (!queue.closed && !queue.buffer.isEmpty()) {
+                if (!socketMonitor.awaitWritable(queue.connectionId, SOCKET_WAIT_NANOS)) {
+                    continue;
+                }
+                byte[] payload = queue.buffer.poll();
+                if (payload == null) {
+                    break;
+                }
+                if (queue.framing == DeliveryFraming.BATCH) {
+                    payload = collectBatch(queue, payload);
+                }
+                try {
+                    sendNews(queue, payload);
+                } catch (Exception e) {
+                    logger.error("특정 고객사에게 뉴스 전송 중 오류 발생: 고객사 ID: {}, 연결 ID: {}",
+                                queue.customerId, queue.connectionId, e);
+                }
+            }
+            queue.degraded.set(false);
+        } catch (InterruptedException e) {
+            // 종료 중 묶음 대기나 소켓 대기가 중단된 경우
+            Thread.currentThread().interrupt();
+        } finally {
+            queue.draining.set(false);
+        }
+        // draining을 내리기 직전에 들어온 메시지가 있으면 다시 시작
+        if (!queue.closed && !queue.buffer.isEmpty()) {
+            scheduleDrain(queue);
+        }
+    }
+
+    /**
+     * 첫 메시지 이후 linger 동안 또는 max-items개까지 모아 배열 하나로 결합
+     *
+     * 각 메시지는 이미 인코딩되어 있으므로 다시 인코딩하지 않고 바이트를 이어 붙입니다.
+     */
+    private byte[] collectBatch(SessionQueue queue, byte[] first) throws InterruptedException {
+        List<byte[]> batch = new ArrayList<>(Math.min(batchMaxItems, bufferSize));
+        batch.add(first);
+        long deadline = System.nanoTime() + batchLingerNanos;
+        while (batch.size() < batchMaxItems) {
+            byte[] next = queue.buffer.poll();
+            if (next == null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || queue.closed) {
+                    break;
+                }
+                next = queue.buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+            }
+            batch.add(next);
+        }
+        return queue.encoding.toArray(batch);
+    }
+
+    /**
+     * 연결 하나에 뉴스 전송 (소요 시간 기록)
+     *
+     * /user/queue/news 구독은 UserDestinationMessageHandler가 /queue/news-user{연결 ID}로 바꿔 등록하므로,
+     * 그 주소로 브로커 채널에 바로 보내 메시지 변환과 사용자 주소 해석을 건너뜁니다.
+     */
+    private void sendNews(SessionQueue queue, byte[] payload) {
+        long startedAt = System.nanoTime();
+        try {
+            Message<byte[]> message = createNewsMessage(NEWS_DESTINATION + "-user" + queue.connectionId, payload,
+                    queue.encoding.getContentType());
+            if (!messagingTemplate.getMessageChannel().send(message)) {
+                throw new MessageDeliveryException(message, "브로커 채널이 뉴스 메시지를 받지 않았습니다: " + queue.connectionId);
+            }
+        } finally {
+            pipelineMetrics.recordSend(System.nanoTime() - startedAt);
+        }
+    }
+
+    /**
+     * 브로커 채널로 바로 보낼 뉴스 메시지 생성 (연결별 주소와 토픽 발행 공용)
+     */
+    static Message<byte[]> createNewsMessage(String destination, byte[] payload, MimeType contentType) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(contentType);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    private void release(SessionQueue queue) {
+        queue.closed = true;
+        queue.buffer.clear();
+        meterRegistry.remove(queue.depthGauge);
+    }
+
+    /**
+     * 연결 하나의 송신 버퍼와 상태
+     */
+    private final class SessionQueue {
+        private final String customerId;
+        private final String connectionId;
+        private final DeliveryFraming framing;
+        private final PayloadEncoding encoding;
+        private final ArrayBlockingQueue<byte[]> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // 느린 소비자 경고를 버퍼가 빌 때까지 한 번만 남기기 위한 표시
+        private final AtomicBoolean degraded = new AtomicBoolean();
+        private final Gauge depthGauge;
+        private final Counter dropped;
+        private final Counter evicted;
+        private volatile boolean closed;
+
+        private SessionQueue(String customerId, String connectionId, DeliveryOptions deliveryOptions) {
+            this.customerId = customerId;
+            this.connectionId = connectionId;
+            this.framing = deliveryOptions.getFraming();
+            this.encoding = deliveryOptions.getEncoding();
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+            // 버퍼 깊이는 연결마다 새로 등록하고 연결이 끝나면 제거 (재연결 직후 이전 연결과 겹칠 수 있어 연결 ID도 태그),
+            // 누적 카운터는 고객사 단위로 유지
+            this.depthGauge = Gauge.builder(QUEUE_DEPTH, buffer, ArrayBlockingQueue::size)
+                    .description("연결별 송신 대기 메시지 수")
+                    .tag("customer", customerId)
+                    .tag("connection", connectionId)
+                    .register(meterRegistry);
+            this.dropped = Counter.builder(DROPPED)
+                    .description("느린 소비자 정책으로 버린 뉴스 메시지 수")
+                    .tag("customer", customerId)
+                    .register(meterRegistry);
+            this.evicted = Counter.builder(EVICTED)
+                    .description("느린 소비자 정책으로 강제 종료한 연결 수")
+                    .tag("customer", customerId)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.alert.news.service;
+
+/**
+ * 전송이 밀린 연결(느린 소비자) 처리 정책 (websocket.outbound.slow-consumer-policy 설정값)
+ *
+ * 연결별 송신 버퍼가 가득 찼거나, 소켓 쓰기 하나가 websocket.outbound.send-time-limit(ms)을 넘겨
+ * 끝나지 않고 있을 때 적용합니다. 소켓에 쓰지 못한 바이트가 websocket.outbound.socket-buffer-size를 넘는 동안에는
+ * 뉴스가 송신 버퍼에 쌓이므로 느린 소켓이 곧 버퍼 가득 참으로 이어집니다.
+ */
+public enum SlowConsumerPolicy {
+
+    /**
+     * 새 메시지를 버리고 연결은 유지 (버린 뉴스는 전송 실패로 처리)
+     */
+    DROP,
+
+    /**
+     * 연결을 끊음 (STOMP ERROR 프레임을 보내 세션 종료, 남은 버퍼는 버림)
+     */
+    DISCONNECT,
+
+    /**
+     * 가장 오래된 대기 메시지를 버리고 새 메시지를 추가 (최신 뉴스 위주로 받도록 전송 품질을 낮춤)
+     */
+    DOWNGRADE
+}
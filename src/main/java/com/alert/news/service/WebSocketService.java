@@ -1,110 +1,119 @@
 package com.alert.news.service;
 
 import com.alert.news.dto.NewsDto;
-import com.alert.news.model.Customer;
+import com.alert.news.dto.NewsHeadlineDto;
 import com.alert.news.model.News;
+import com.alert.news.queue.NewsPipelineMetrics;
+import com.alert.news.service.ConnectedCustomerRegistry.ConnectedCustomer;
+import com.alert.news.service.ConnectedCustomerRegistry.CustomerConnections;
+import com.alert.news.service.KeywordSubscriptionIndex.KeywordMatch;
+import com.alert.news.websocket.NewsSubscriptionInterceptor;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.Set;
 
 /**
  * WebSocket 서비스
  * 
  * WebSocket을 통한 실시간 뉴스 전송을 담당하는 서비스 클래스입니다.
  * 고객사별 개별 연결 관리 및 뉴스 브로드캐스팅 기능을 제공합니다.
+ * 연결 정보는 {@link ConnectedCustomerRegistry}에서 읽으므로 전송 중에는 DB를 조회하지 않습니다.
+ * 뉴스 직렬화와 고객사별 전송 시간은 {@link NewsPipelineMetrics}로 기록합니다.
+ *
+ * 뉴스는 payload 구성(full, headline)과 인코딩(JSON, CBOR) 조합마다 처음 필요할 때 한 번만 바이트로 직렬화하고,
+ * 같은 조합을 고른 모든 연결이 같은 payload 배열을 공유합니다.
+ * headline payload를 만들 때 본문은 {@link NewsContentCache}에 넣어 두어 본문 조회 API가 DB 없이 응답합니다.
+ * 팬아웃은 {@link SessionOutboundQueues}의 연결별 송신 버퍼에 넣기만 하고 실제 전송은 연결별 writer가 하므로,
+ * 느린 고객사 하나가 다른 고객사의 전송을 지연시키지 않습니다.
+ * websocket.delivery-mode가 topic이면 전체 고객사 뉴스는 /topic/news에 한 번만 발행하고,
+ * 특정 고객사 대상 메시지는 계속 연결별 /user/queue 주소로 보냅니다.
+ * 키워드를 구독한 고객사에게는 {@link KeywordSubscriptionIndex}로 제목과 본문이 일치한 뉴스만 보냅니다.
+ * 브로드캐스트는 {@link NewsReplayBuffer}에서 순번을 받아 보관하고, 재연결한 고객사에게는 놓친 뉴스만 다시 보냅니다.
+ * 수신 확인 연결에 보낸 뉴스는 {@link DeliveryAckTracker}가 확인될 때까지 추적합니다.
+ * 고객사가 여러 연결을 쓰면 {@link ConnectionDistribution}에 따라 모든 연결에 보내거나 뉴스마다 연결 하나를 골라 보냅니다.
  */
 @Service
 public class WebSocketService {
 
     private static final Logger logger = LoggerFactory.getLogger(WebSocketService.class);
 
+    @Value("${websocket.delivery-mode:user-queue}")
+    private NewsDeliveryMode deliveryMode;
+
+    @Value("${websocket.replay.catch-up-limit:1000}")
+    private int catchUpLimit;
+
     private final SimpMessagingTemplate messagingTemplate;
-    private final CustomerService customerService;
+    private final ConnectedCustomerRegistry connectedCustomerRegistry;
+    private final SessionOutboundQueues outboundQueues;
+    private final KeywordSubscriptionIndex keywordSubscriptionIndex;
+    private final NewsContentCache contentCache;
+    private final NewsReplayBuffer replayBuffer;
+    private final DeliveryAckTracker ackTracker;
+    private final NewsService newsService;
     private final ObjectMapper objectMapper;
-
-    // 연결 ID와 고객사 ID의 매핑을 관리
-    private final ConcurrentMap<String, String> connectionToCustomerMap = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, String> customerToConnectionMap = new ConcurrentHashMap<>();
+    private final ObjectMapper cborMapper;
+    private final NewsPipelineMetrics pipelineMetrics;
 
     @Autowired
     public WebSocketService(SimpMessagingTemplate messagingTemplate, 
-                           CustomerService customerService,
-                           ObjectMapper objectMapper) {
+                           ConnectedCustomerRegistry connectedCustomerRegistry,
+                           SessionOutboundQueues outboundQueues,
+                           KeywordSubscriptionIndex keywordSubscriptionIndex,
+                           NewsContentCache contentCache,
+                           NewsReplayBuffer replayBuffer,
+                           DeliveryAckTracker ackTracker,
+                           NewsService newsService,
+                           ObjectMapper objectMapper,
+                           NewsPipelineMetrics pipelineMetrics) {
         this.messagingTemplate = messagingTemplate;
-        this.customerService = customerService;
+        this.connectedCustomerRegistry = connectedCustomerRegistry;
+        this.outboundQueues = outboundQueues;
+        this.keywordSubscriptionIndex = keywordSubscriptionIndex;
+        this.contentCache = contentCache;
+        this.replayBuffer = replayBuffer;
+        this.ackTracker = ackTracker;
+        this.newsService = newsService;
         this.objectMapper = objectMapper;
-    }
-
-    /**
-     * 고객사 연결 등록
-     */
-    public void registerConnection(String connectionId, String customerId) {
-        try {
-            // 기존 연결이 있다면 제거
-            String existingConnectionId = customerToConnectionMap.get(customerId);
-            if (existingConnectionId != null) {
-                connectionToCustomerMap.remove(existingConnectionId);
-                logger.info("기존 연결을 제거합니다. 고객사 ID: {}, 기존 연결 ID: {}", 
-                           customerId, existingConnectionId);
-            }
-
-            // 새로운 연결 등록
-            connectionToCustomerMap.put(connectionId, customerId);
-            customerToConnectionMap.put(customerId, connectionId);
-            
-            logger.info("고객사 연결 등록 완료: 고객사 ID: {}, 연결 ID: {}", customerId, connectionId);
-        } catch (Exception e) {
-            logger.error("고객사 연결 등록 중 오류 발생: 고객사 ID: {}, 연결 ID: {}", customerId, connectionId, e);
-        }
-    }
-
-    /**
-     * 고객사 연결 해제
-     */
-    public void unregisterConnection(String connectionId) {
-        try {
-            String customerId = connectionToCustomerMap.remove(connectionId);
-            if (customerId != null) {
-                customerToConnectionMap.remove(customerId);
-                logger.info("고객사 연결 해제 완료: 고객사 ID: {}, 연결 ID: {}", customerId, connectionId);
-            } else {
-                logger.warn("연결 ID에 해당하는 고객사가 없습니다: {}", connectionId);
-            }
-        } catch (Exception e) {
-            logger.error("고객사 연결 해제 중 오류 발생: 연결 ID: {}", connectionId, e);
-        }
+        // JSON과 같은 모듈/설정(JavaTimeModule, @JsonFormat 등)을 그대로 쓰는 CBOR 매퍼
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.pipelineMetrics = pipelineMetrics;
     }
 
     /**
      * 특정 고객사에게 뉴스 전송
+     *
+     * @return 고객사의 송신 버퍼에 넣었으면 true, 연결되어 있지 않거나 버퍼에 넣지 못했으면 false
      */
-    public void sendNewsToCustomer(String customerId, News news) {
+    public boolean sendNewsToCustomer(String customerId, News news) {
         try {
-            String connectionId = customerToConnectionMap.get(customerId);
-            if (connectionId == null) {
+            CustomerConnections customer = connectedCustomerRegistry.getConnections(customerId);
+            if (customer == null) {
                 logger.warn("고객사가 연결되어 있지 않습니다: {}", customerId);
-                return;
+                return false;
             }
 
-            NewsDto newsDto = convertToDto(news);
-            String message = objectMapper.writeValueAsString(newsDto);
-            
-            messagingTemplate.convertAndSendToUser(
-                connectionId, 
-                "/queue/news", 
-                message
-            );
-            
-            logger.debug("뉴스 전송 완료: 고객사 ID: {}, 뉴스 ID: {}, 연결 ID: {}", 
-                        customerId, news.getId(), connectionId);
+            // 브로드캐스트와 같은 송신 버퍼를 거쳐 연결별 순서 유지
+            if (enqueue(customer, new EncodedNews(convertToDto(news)), null, false)) {
+                logger.debug("뉴스 전송 요청 완료: 고객사 ID: {}, 뉴스 ID: {}, 연결: {}개", 
+                            customerId, news.getId(), customer.size());
+                return true;
+            }
+            logger.warn("송신 버퍼에 넣지 못해 뉴스를 버렸습니다: 고객사 ID: {}, 뉴스 ID: {}", 
+                       customerId, news.getId());
         } catch (JsonProcessingException e) {
             logger.error("뉴스 DTO 직렬화 중 오류 발생: 고객사 ID: {}, 뉴스 ID: {}", 
                         customerId, news.getId(), e);
@@ -112,65 +121,163 @@ public class WebSocketService {
             logger.error("뉴스 전송 중 오류 발생: 고객사 ID: {}, 뉴스 ID: {}", 
                         customerId, news.getId(), e);
         }
+        return false;
     }
 
     /**
      * 모든 연결된 고객사에게 뉴스 브로드캐스트
+     *
+     * 연결별 송신 버퍼에 넣은 시점에 반환하며, 실제 전송은 연결별 writer가 비동기로 처리합니다.
+     *
+     * 대상 수와 실패는 연결이 아니라 고객사 단위로 셉니다. 모든 연결에 보내는 고객사는 한 연결이라도 버퍼에 넣지 못하면,
+     * 연결 하나만 골라 보내는 고객사는 모든 연결에 넣지 못했을 때 실패로 기록합니다.
+     *
+     * @return 전송 결과 (대상 수는 키워드가 일치하지 않는 고객사를 뺀 수, 느린 소비자 정책으로 버퍼에 넣지 못한 고객사 ID 포함)
      */
-    public void broadcastNewsToAllCustomers(News news) {
+    public DeliveryResult broadcastNewsToAllCustomers(News news) {
+        List<CustomerConnections> connectedCustomers = List.of();
         try {
-            List<Customer> connectedCustomers = customerService.getConnectedCustomers();
+            // 연결된 고객사가 없어도 재연결 시 받을 수 있도록 순번을 붙여 보관
+            NewsDto dto = convertToDto(news);
+            replayBuffer.append(dto);
+
+            // 메모리 스냅샷을 그대로 순회 (DB 조회, 잠금, 복사 없음)
+            connectedCustomers = connectedCustomerRegistry.getDeliverableCustomerConnections();
             if (connectedCustomers.isEmpty()) {
                 logger.warn("연결된 고객사가 없어 뉴스를 전송할 수 없습니다. 뉴스 ID: {}", news.getId());
-                return;
+                return DeliveryResult.delivered(0);
             }
 
-            NewsDto newsDto = convertToDto(news);
-            String message = objectMapper.writeValueAsString(newsDto);
+            // 구성과 인코딩 조합마다 한 번만 직렬화해서 같은 조합의 모든 연결에 같은 payload 전송
+            EncodedNews encodedNews = new EncodedNews(dto);
             
-            // 모든 연결된 고객사에게 전송
-            for (Customer customer : connectedCustomers) {
-                try {
-                    messagingTemplate.convertAndSendToUser(
-                        customer.getConnectionId(), 
-                        "/queue/news", 
-                        message
-                    );
-                    logger.debug("뉴스 브로드캐스트 완료: 고객사 ID: {}, 뉴스 ID: {}, 연결 ID: {}", 
-                                customer.getId(), news.getId(), customer.getConnectionId());
-                } catch (Exception e) {
-                    logger.error("특정 고객사에게 뉴스 전송 중 오류 발생: 고객사 ID: {}, 뉴스 ID: {}", 
-                                customer.getId(), news.getId(), e);
+            // 제목과 본문을 한 번만 훑어 키워드 구독 고객사 중 이 뉴스를 받을 고객사 계산
+            KeywordMatch keywordMatch = keywordSubscriptionIndex.match(news.getTitle(), news.getContent());
+
+            boolean topic = deliveryMode == NewsDeliveryMode.TOPIC;
+            if (topic) {
+                publishNews(encodedNews.get(DeliveryOptions.DEFAULT));
+                if (!keywordMatch.hasFilters() && connectedCustomerRegistry.getCustomDeliveryCount() == 0) {
+                    // 모든 연결이 토픽으로 받았으므로 수신 확인 연결만 재전송 대상으로 추적
+                    if (dto.getSequence() != null) {
+                        trackTopicDelivery(connectedCustomers, dto.getSequence(), encodedNews.get(DeliveryOptions.DEFAULT));
+                    }
+                    logger.info("뉴스 토픽 발행 완료: 뉴스 ID: {}, 대상 고객사: {}명", news.getId(), connectedCustomers.size());
+                    return DeliveryResult.delivered(connectedCustomers.size());
+                }
+            }
+
+            // 받을 고객사의 송신 버퍼에 추가 (전송을 기다리지 않음)
+            // topic 모드에서는 키워드 구독 고객사, 연결을 나눠 받는 고객사, 기본이 아닌 전달 옵션의 연결만 개별 전송
+            // (나머지는 토픽으로 받고, 토픽 메시지는 이 세션들에 전달되지 않음)
+            int targetCount = 0;
+            List<String> failedCustomerIds = new ArrayList<>();
+            String lastError = null;
+            boolean debugEnabled = logger.isDebugEnabled();
+            for (CustomerConnections customer : connectedCustomers) {
+                if (!keywordMatch.accepts(customer.getCustomerId())) {
+                    continue;
+                }
+                targetCount++;
+                boolean viaTopic = topic && !keywordMatch.isFiltered(customer.getCustomerId());
+                if (enqueue(customer, encodedNews, dto.getSequence(), viaTopic)) {
+                    if (debugEnabled) {
+                        logger.debug("뉴스 브로드캐스트 요청 완료: 고객사 ID: {}, 뉴스 ID: {}, 연결: {}개", 
+                                    customer.getCustomerId(), news.getId(), customer.size());
+                    }
+                } else {
+                    failedCustomerIds.add(customer.getCustomerId());
+                    lastError = "느린 소비자 정책(" + outboundQueues.getSlowConsumerPolicy() + ")으로 송신 버퍼에 넣지 못했습니다.";
                 }
             }
             
-            logger.info("뉴스 브로드캐스트 완료: 뉴스 ID: {}, 대상 고객사: {}명", 
-                       news.getId(), connectedCustomers.size());
+            logger.info("뉴스 브로드캐스트 완료: 뉴스 ID: {}, 연결 고객사: {}명, 대상 고객사: {}명, 실패: {}명", 
+                       news.getId(), connectedCustomers.size(), targetCount, failedCustomerIds.size());
+            return new DeliveryResult(targetCount, failedCustomerIds, lastError);
         } catch (JsonProcessingException e) {
             logger.error("뉴스 DTO 직렬화 중 오류 발생: 뉴스 ID: {}", news.getId(), e);
+            return DeliveryResult.failed(connectedCustomers, e);
         } catch (Exception e) {
             logger.error("뉴스 브로드캐스트 중 오류 발생: 뉴스 ID: {}", news.getId(), e);
+            return DeliveryResult.failed(connectedCustomers, e);
+        }
+    }
+
+    /**
+     * 재연결한 연결에 마지막으로 받은 순번 이후의 브로드캐스트 재전송
+     *
+     * 같은 고객사의 다른 연결은 이미 받았으므로 인증한 연결 하나에만 보냅니다.
+     * 재전송 버퍼에 남아 있는 구간은 버퍼에서 보내고, 버퍼가 이미 덮어쓴 구간이면 DB를 한 번 조회해
+     * 생성 순으로 보충한 뒤(순번 없음) 버퍼의 뉴스를 이어서 보냅니다.
+     * 재전송 중 도착한 실시간 뉴스와 순서가 섞이거나 겹칠 수 있으므로 클라이언트는 sequence(보충분은 id)로 중복을 거릅니다.
+     *
+     * @return 송신 버퍼에 넣은 뉴스 수
+     */
+    public int replayToConnection(String connectionId, long lastSequence) {
+        ConnectedCustomer customer = connectedCustomerRegistry.getByConnectionId(connectionId);
+        if (customer == null) {
+            logger.warn("연결이 인증되어 있지 않아 재전송할 수 없습니다: {}", connectionId);
+            return 0;
+        }
+        String customerId = customer.getCustomerId();
+
+        NewsReplayBuffer.Replay replay = replayBuffer.since(lastSequence);
+        List<NewsDto> missed = new ArrayList<>();
+        if (!replay.isComplete()) {
+            Set<String> buffered = new HashSet<>();
+            for (NewsDto dto : replay.getNews()) {
+                buffered.add(dto.getId());
+            }
+            for (News news : newsService.getNewsCreatedSince(replay.getCatchUpSince(), catchUpLimit)) {
+                if (!buffered.contains(news.getId())) {
+                    missed.add(convertToDto(news));
+                }
+            }
         }
+        int fromDatabase = missed.size();
+        missed.addAll(replay.getNews());
+
+        int enqueued = 0;
+        try {
+            for (NewsDto dto : missed) {
+                if (!keywordSubscriptionIndex.match(dto.getTitle(), dto.getContent()).accepts(customerId)) {
+                    continue;
+                }
+                if (!enqueue(customer, new EncodedNews(dto), dto.getSequence())) {
+                    logger.warn("송신 버퍼가 가득 차 재전송을 중단합니다: 고객사 ID: {}, 재전송: {}건", customerId, enqueued);
+                    break;
+                }
+                enqueued++;
+            }
+        } catch (JsonProcessingException e) {
+            logger.error("재전송 뉴스 직렬화 중 오류 발생: 고객사 ID: {}", customerId, e);
+        }
+
+        logger.info("뉴스 재전송 요청 완료: 고객사 ID: {}, 연결 ID: {}, 마지막 순번: {}, 버퍼: {}건, DB 보충: {}건, 전송: {}건",
+                   customerId, connectionId, lastSequence, replay.getNews().size(), fromDatabase, enqueued);
+        return enqueued;
     }
 
     /**
-     * 특정 고객사에게 메시지 전송
+     * 특정 고객사에게 메시지 전송 (고객사의 모든 연결)
      */
     public void sendMessageToCustomer(String customerId, String message) {
         try {
-            String connectionId = customerToConnectionMap.get(customerId);
-            if (connectionId == null) {
+            CustomerConnections customer = connectedCustomerRegistry.getConnections(customerId);
+            if (customer == null) {
                 logger.warn("고객사가 연결되어 있지 않습니다: {}", customerId);
                 return;
             }
 
-            messagingTemplate.convertAndSendToUser(
-                connectionId, 
-                "/queue/message", 
-                message
-            );
+            for (ConnectedCustomer connection : customer.getConnections()) {
+                messagingTemplate.convertAndSendToUser(
+                    connection.getConnectionId(), 
+                    "/queue/message", 
+                    message
+                );
+            }
             
-            logger.debug("메시지 전송 완료: 고객사 ID: {}, 연결 ID: {}", customerId, connectionId);
+            logger.debug("메시지 전송 완료: 고객사 ID: {}, 연결: {}개", customerId, customer.size());
         } catch (Exception e) {
             logger.error("메시지 전송 중 오류 발생: 고객사 ID: {}", customerId, e);
         }
@@ -181,13 +288,13 @@ public class WebSocketService {
      */
     public void broadcastMessageToAllCustomers(String message) {
         try {
-            List<Customer> connectedCustomers = customerService.getConnectedCustomers();
+            List<ConnectedCustomer> connectedCustomers = connectedCustomerRegistry.getDeliverableCustomers();
             if (connectedCustomers.isEmpty()) {
                 logger.warn("연결된 고객사가 없어 메시지를 전송할 수 없습니다.");
                 return;
             }
 
-            for (Customer customer : connectedCustomers) {
+            for (ConnectedCustomer customer : connectedCustomers) {
                 try {
                     messagingTemplate.convertAndSendToUser(
                         customer.getConnectionId(), 
@@ -196,11 +303,11 @@ public class WebSocketService {
                     );
                 } catch (Exception e) {
                     logger.error("특정 고객사에게 메시지 전송 중 오류 발생: 고객사 ID: {}", 
-                                customer.getId(), e);
+                                customer.getCustomerId(), e);
                 }
             }
             
-            logger.info("메시지 브로드캐스트 완료: 대상 고객사: {}명", connectedCustomers.size());
+            logger.info("메시지 브로드캐스트 완료: 대상 연결: {}개", connectedCustomers.size());
         } catch (Exception e) {
             logger.error("메시지 브로드캐스트 중 오류 발생", e);
         }
@@ -211,8 +318,8 @@ public class WebSocketService {
      */
     public ConnectionStatus getConnectionStatus() {
         return new ConnectionStatus(
-            connectionToCustomerMap.size(),
-            customerToConnectionMap.size()
+            connectedCustomerRegistry.size(),
+            connectedCustomerRegistry.getCustomerCount()
         );
     }
 
@@ -220,14 +327,120 @@ public class WebSocketService {
      * 특정 고객사의 연결 상태 확인
      */
     public boolean isCustomerConnected(String customerId) {
-        return customerToConnectionMap.containsKey(customerId);
+        return connectedCustomerRegistry.getByCustomerId(customerId) != null;
     }
 
     /**
      * 특정 연결 ID의 고객사 확인
      */
     public String getCustomerIdByConnection(String connectionId) {
-        return connectionToCustomerMap.get(connectionId);
+        ConnectedCustomer customer = connectedCustomerRegistry.getByConnectionId(connectionId);
+        return customer != null ? customer.getCustomerId() : null;
+    }
+
+    /**
+     * 고객사 연결 묶음에 뉴스 한 건을 송신 버퍼에 추가 (분배 방식에 따라 모든 연결 또는 하나만)
+     *
+     * @param sequence 수신 확인 추적에 쓸 순번 (없으면 추적하지 않음)
+     * @param viaTopic 기본 전달 옵션의 연결이 토픽으로 이미 받았는지 여부 (연결을 나눠 받는 고객사는 토픽을 받지 않음)
+     * @return 모든 연결에 보내는 고객사는 모든 연결에, 하나만 골라 보내는 고객사는 어느 한 연결에 넣었으면 true
+     */
+    private boolean enqueue(CustomerConnections customer, EncodedNews encodedNews, Long sequence, boolean viaTopic)
+            throws JsonProcessingException {
+        if (customer.isSharded()) {
+            ConnectedCustomer selected = selectConnection(customer);
+            if (enqueue(selected, encodedNews, sequence)) {
+                return true;
+            }
+            // 고른 연결의 버퍼가 가득 찼으면 나머지 연결에 차례로 시도
+            for (ConnectedCustomer connection : customer.getConnections()) {
+                if (connection != selected && enqueue(connection, encodedNews, sequence)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        boolean delivered = true;
+        for (ConnectedCustomer connection : customer.getConnections()) {
+            if (viaTopic && connection.getDeliveryOptions().isDefault()) {
+                // 토픽으로 받은 뉴스도 재전송은 연결별 주소로
+                if (sequence != null) {
+                    ackTracker.track(connection, sequence, encodedNews.get(DeliveryOptions.DEFAULT));
+                }
+                continue;
+            }
+            delivered &= enqueue(connection, encodedNews, sequence);
+        }
+        return delivered;
+    }
+
+    /**
+     * 토픽으로 받은 뉴스를 수신 확인 연결마다 추적 (수신 확인을 쓰지 않는 연결은 추적기가 무시)
+     */
+    private void trackTopicDelivery(List<CustomerConnections> connectedCustomers, long sequence, byte[] payload) {
+        for (CustomerConnections customer : connectedCustomers) {
+            for (ConnectedCustomer connection : customer.getConnections()) {
+                ackTracker.track(connection, sequence, payload);
+            }
+        }
+    }
+
+    private boolean enqueue(ConnectedCustomer connection, EncodedNews encodedNews, Long sequence) throws JsonProcessingException {
+        byte[] payload = encodedNews.get(connection.getDeliveryOptions());
+        if (!outboundQueues.enqueue(connection, payload)) {
+            return false;
+        }
+        if (sequence != null) {
+            ackTracker.track(connection, sequence, payload);
+        }
+        return true;
+    }
+
+    /**
+     * 뉴스 한 건을 받을 연결 선택 (least-loaded는 송신 버퍼에 쌓인 메시지가 가장 적은 연결)
+     */
+    private ConnectedCustomer selectConnection(CustomerConnections customer) {
+        if (customer.getDistribution() != ConnectionDistribution.LEAST_LOADED) {
+            return customer.nextRoundRobin();
+        }
+        ConnectedCustomer selected = null;
+        int minDepth = Integer.MAX_VALUE;
+        for (ConnectedCustomer connection : customer.getConnections()) {
+            int depth = outboundQueues.getDepth(connection.getConnectionId());
+            if (depth < minDepth) {
+                selected = connection;
+                minDepth = depth;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 뉴스를 전송용 바이트로 직렬화 (소요 시간 기록)
+     *
+     * 반환한 배열은 여러 연결의 메시지가 공유하므로 수정하면 안 됩니다.
+     */
+    private byte[] encode(Object dto, PayloadEncoding encoding) throws JsonProcessingException {
+        long startedAt = System.nanoTime();
+        byte[] payload = (encoding == PayloadEncoding.CBOR ? cborMapper : objectMapper).writeValueAsBytes(dto);
+        pipelineMetrics.recordEncode(System.nanoTime() - startedAt);
+        return payload;
+    }
+
+    /**
+     * 뉴스 토픽에 한 번 발행 (구독자별 복사와 전송은 브로커가 처리, 소요 시간 기록)
+     */
+    private void publishNews(byte[] payload) {
+        long startedAt = System.nanoTime();
+        try {
+            Message<byte[]> message = SessionOutboundQueues.createNewsMessage(NewsSubscriptionInterceptor.NEWS_TOPIC, payload,
+                    PayloadEncoding.JSON.getContentType());
+            if (!messagingTemplate.getMessageChannel().send(message)) {
+                throw new MessageDeliveryException(message, "브로커 채널이 뉴스 토픽 메시지를 받지 않았습니다.");
+            }
+        } finally {
+            pipelineMetrics.recordSend(System.nanoTime() - startedAt);
+        }
     }
 
     /**
@@ -248,6 +461,73 @@ public class WebSocketService {
         return dto;
     }
 
+    /**
+     * 뉴스 한 건의 구성/인코딩별 payload (조합마다 처음 요청될 때 한 번만 직렬화, 브로드캐스트 한 번 안에서만 사용)
+     */
+    private final class EncodedNews {
+        private final NewsDto dto;
+        private final byte[][][] payloads = new byte[PayloadProfile.values().length][PayloadEncoding.values().length][];
+
+        private EncodedNews(NewsDto dto) {
+            this.dto = dto;
+        }
+
+        private byte[] get(DeliveryOptions options) throws JsonProcessingException {
+            PayloadProfile profile = options.getProfile();
+            PayloadEncoding encoding = options.getEncoding();
+            byte[] payload = payloads[profile.ordinal()][encoding.ordinal()];
+            if (payload == null) {
+                if (profile == PayloadProfile.HEADLINE) {
+                    // 제목만 받은 고객사가 곧 본문을 요청할 수 있으므로 이 시점에 본문 캐시
+                    contentCache.put(dto.getId(), dto.getContent());
+                    NewsHeadlineDto headline = new NewsHeadlineDto(dto.getId(), dto.getTitle(), dto.getPublishedAt());
+                    headline.setSequence(dto.getSequence());
+                    payload = encode(headline, encoding);
+                } else {
+                    payload = encode(dto, encoding);
+                }
+                payloads[profile.ordinal()][encoding.ordinal()] = payload;
+            }
+            return payload;
+        }
+    }
+
+    /**
+     * 뉴스 전송 결과를 담는 내부 클래스
+     */
+    public static class DeliveryResult {
+        private final int targetCount;
+        private final List<String> failedCustomerIds;
+        private final String errorMessage;
+
+        public DeliveryResult(int targetCount, List<String> failedCustomerIds, String errorMessage) {
+            this.targetCount = targetCount;
+            this.failedCustomerIds = failedCustomerIds;
+            this.errorMessage = errorMessage;
+        }
+
+        public static DeliveryResult delivered(int targetCount) {
+            return new DeliveryResult(targetCount, List.of(), null);
+        }
+
+        /**
+         * 전송 전에 실패한 경우 (연결된 고객사 모두 실패로 기록)
+         */
+        public static DeliveryResult failed(List<CustomerConnections> targets, Exception cause) {
+            List<String> customerIds = new ArrayList<>(targets.size());
+            for (CustomerConnections customer : targets) {
+                customerIds.add(customer.getCustomerId());
+            }
+            return new DeliveryResult(targets.size(), customerIds, cause.toString());
+        }
+
+        // Getter
+        public int getTargetCount() { return targetCount; }
+        public List<String> getFailedCustomerIds() { return failedCustomerIds; }
+        public String getErrorMessage() { return errorMessage; }
+        public boolean isSuccess() { return failedCustomerIds.isEmpty() && errorMessage == null; }
+    }
+
     /**
      * 연결 상태 정보를 담는 내부 클래스
      */
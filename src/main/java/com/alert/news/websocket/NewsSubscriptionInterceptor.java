@@ -0,0 +1,92 @@
+package com.alert.news.websocket;
+
+import com.alert.news.service.ConnectedCustomerRegistry;
+import com.alert.news.service.ConnectedCustomerRegistry.ConnectedCustomer;
+import com.alert.news.service.KeywordSubscriptionIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 뉴스 구독 권한 인터셉터
+ *
+ * clientInboundChannel에서는 /app/auth로 인증하지 않은 세션이나 비활성 고객사의 /topic/news 구독을 거부하고,
+ * 브로커 내부 주소(/queue/news-user{연결 ID})를 직접 구독해 다른 연결의 뉴스를 받는 것을 막습니다.
+ *
+ * clientOutboundChannel에서는 구독 이후 연결이 해제되었거나 비활성화된 세션으로 가는 /topic/news 메시지를 버립니다.
+ * 브로커의 구독 목록은 구독 시점 기준이므로, 뉴스를 받을 수 있는지는 레지스트리로 다시 확인합니다.
+ * 키워드를 구독한 고객사, 여러 연결에 뉴스를 나눠 받는 고객사, 기본이 아닌 전달 옵션(묶음 프레임, 바이너리 인코딩)을
+ * 고른 연결은 연결별 주소로 받으므로 토픽 메시지를 버립니다.
+ */
+@Component
+public class NewsSubscriptionInterceptor implements ChannelInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsSubscriptionInterceptor.class);
+
+    public static final String NEWS_TOPIC = "/topic/news";
+
+    // UserDestinationMessageHandler가 /user/queue/news 구독을 바꿔 등록하는 주소의 접두사
+    private static final String USER_NEWS_QUEUE_PREFIX = "/queue/news-user";
+
+    private final ConnectedCustomerRegistry connectedCustomerRegistry;
+    private final KeywordSubscriptionIndex keywordSubscriptionIndex;
+
+    @Autowired
+    public NewsSubscriptionInterceptor(ConnectedCustomerRegistry connectedCustomerRegistry,
+                                       KeywordSubscriptionIndex keywordSubscriptionIndex) {
+        this.connectedCustomerRegistry = connectedCustomerRegistry;
+        this.keywordSubscriptionIndex = keywordSubscriptionIndex;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null) {
+            return message;
+        }
+
+        if (messageType == SimpMessageType.SUBSCRIBE) {
+            checkSubscription(message, destination);
+        } else if (messageType == SimpMessageType.MESSAGE && NEWS_TOPIC.equals(destination)) {
+            // 구독 이후 뉴스를 받을 수 없게 된 세션, 연결별 주소로 받는 세션(키워드 구독, 연결 분배, 기본이 아닌 전달 옵션)으로 가는 메시지는 버림
+            ConnectedCustomer customer = getDeliverableCustomer(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+            return customer != null && customer.getDeliveryOptions().isDefault()
+                    && !keywordSubscriptionIndex.hasFilter(customer.getCustomerId())
+                    && !connectedCustomerRegistry.isSharded(customer.getCustomerId()) ? message : null;
+        }
+        return message;
+    }
+
+    private void checkSubscription(Message<?> message, String destination) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+
+        if (destination.startsWith(USER_NEWS_QUEUE_PREFIX)) {
+            logger.warn("브로커 내부 뉴스 주소 직접 구독 거부: 연결 ID: {}, 주소: {}", sessionId, destination);
+            throw new MessagingException(message, "뉴스는 /user/queue/news 또는 " + NEWS_TOPIC + "로 구독해야 합니다.");
+        }
+
+        if (NEWS_TOPIC.equals(destination) && getDeliverableCustomer(sessionId) == null) {
+            logger.warn("인증되지 않은 연결의 뉴스 토픽 구독 거부: 연결 ID: {}", sessionId);
+            throw new MessagingException(message, "/app/auth로 인증한 뒤 " + NEWS_TOPIC + "를 구독해야 합니다.");
+        }
+    }
+
+    /**
+     * 뉴스를 받을 수 있는 세션의 고객사 (인증하지 않았거나 비활성 고객사이면 null)
+     */
+    private ConnectedCustomer getDeliverableCustomer(String sessionId) {
+        if (sessionId == null) {
+            return null;
+        }
+        ConnectedCustomer customer = connectedCustomerRegistry.getByConnectionId(sessionId);
+        return customer != null && customer.isActive() ? customer : null;
+    }
+}
@@ -1,20 +1,29 @@
 package com.alert.news.websocket;
 
+import com.alert.news.dto.AckRequestDto;
 import com.alert.news.dto.AuthRequestDto;
 import com.alert.news.dto.AuthResponseDto;
+import com.alert.news.dto.KeywordSubscriptionRequestDto;
+import com.alert.news.dto.KeywordSubscriptionResponseDto;
 import com.alert.news.service.CustomerService;
+import com.alert.news.service.DeliveryAckTracker;
+import com.alert.news.service.DeliveryOptions;
+import com.alert.news.service.KeywordSubscriptionIndex;
 import com.alert.news.service.WebSocketService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * WebSocket 메시지 핸들러
@@ -29,14 +38,20 @@ public class NewsWebSocketHandler {
 
     private final CustomerService customerService;
     private final WebSocketService webSocketService;
+    private final KeywordSubscriptionIndex keywordSubscriptionIndex;
+    private final DeliveryAckTracker deliveryAckTracker;
     private final ObjectMapper objectMapper;
 
     @Autowired
     public NewsWebSocketHandler(CustomerService customerService, 
                                WebSocketService webSocketService,
+                               KeywordSubscriptionIndex keywordSubscriptionIndex,
+                               DeliveryAckTracker deliveryAckTracker,
                                ObjectMapper objectMapper) {
         this.customerService = customerService;
         this.webSocketService = webSocketService;
+        this.keywordSubscriptionIndex = keywordSubscriptionIndex;
+        this.deliveryAckTracker = deliveryAckTracker;
         this.objectMapper = objectMapper;
     }
 
@@ -57,17 +72,23 @@ public class NewsWebSocketHandler {
 
             logger.info("고객사 인증 요청: 고객사 ID: {}, 연결 ID: {}", customerId, connectionId);
 
+            DeliveryOptions deliveryOptions;
+            try {
+                deliveryOptions = DeliveryOptions.of(authRequest.getFraming(), authRequest.getEncoding(),
+                        authRequest.getProfile());
+            } catch (IllegalArgumentException e) {
+                logger.warn("고객사 인증 실패: {} 고객사 ID: {}", e.getMessage(), customerId);
+                return new AuthResponseDto(false, e.getMessage());
+            }
+
             // 고객사 인증
             boolean isAuthenticated = customerService.authenticateCustomer(customerId, token);
             
             if (isAuthenticated) {
                 // 인증 성공 시 연결 등록
-                boolean isConnected = customerService.connectCustomer(customerId, connectionId);
+                boolean isConnected = customerService.connectCustomer(customerId, connectionId, deliveryOptions);
                 if (isConnected) {
-                    // WebSocket 서비스에 연결 등록
-                    webSocketService.registerConnection(connectionId, customerId);
-                    
-                    // 고객사 정보 조회
+                    // 고객사 정보 조회 (연결 정보는 connectCustomer가 레지스트리에 등록)
                     var customer = customerService.getCustomerById(customerId);
                     
                     AuthResponseDto response = new AuthResponseDto(
@@ -79,6 +100,20 @@ public class NewsWebSocketHandler {
                     );
                     
                     logger.info("고객사 인증 성공: 고객사 ID: {}, 연결 ID: {}", customerId, connectionId);
+
+                    // 수신 확인 연결은 재전송분부터 추적하도록 재전송 전에 시작하고, lastSequence가 없으면 저장된 커서부터 재전송
+                    Long lastSequence = authRequest.getLastSequence();
+                    if (Boolean.TRUE.equals(authRequest.getAck())) {
+                        long cursor = deliveryAckTracker.open(customerId, connectionId);
+                        if (lastSequence == null && cursor > 0) {
+                            lastSequence = cursor;
+                        }
+                    }
+
+                    // 재연결이면 마지막으로 받은 순번 이후의 뉴스를 /user/queue/news로 재전송
+                    if (lastSequence != null) {
+                        webSocketService.replayToConnection(connectionId, lastSequence);
+                    }
                     return response;
                 } else {
                     logger.warn("고객사 연결 실패: 고객사 ID: {}, 연결 ID: {}", customerId, connectionId);
@@ -94,6 +129,56 @@ public class NewsWebSocketHandler {
         }
     }
 
+    /**
+     * 키워드 구독 요청 처리
+     * 
+     * 인증된 연결의 고객사가 받을 뉴스를 키워드로 거릅니다. 요청한 목록으로 기존 구독을 교체하며,
+     * 빈 목록을 보내면 구독을 해제하고 모든 뉴스를 받습니다. 구독은 고객사 단위이며 고객사의 마지막 연결이 끊기면 해제됩니다.
+     */
+    @MessageMapping("/subscriptions/keywords")
+    @SendToUser("/queue/subscriptions")
+    public KeywordSubscriptionResponseDto handleKeywordSubscription(@Payload KeywordSubscriptionRequestDto request,
+                                                                    SimpMessageHeaderAccessor headerAccessor) {
+        try {
+            String connectionId = headerAccessor.getSessionId();
+            String customerId = webSocketService.getCustomerIdByConnection(connectionId);
+            if (customerId == null) {
+                logger.warn("인증되지 않은 연결의 키워드 구독 요청: 연결 ID: {}", connectionId);
+                return new KeywordSubscriptionResponseDto(false, "/app/auth로 인증한 뒤 키워드를 구독해야 합니다.");
+            }
+
+            List<String> keywords = keywordSubscriptionIndex.subscribe(customerId, request.getKeywords());
+            logger.info("키워드 구독 변경: 고객사 ID: {}, 키워드: {}개", customerId, keywords.size());
+            return new KeywordSubscriptionResponseDto(true,
+                    keywords.isEmpty() ? "키워드 구독을 해제했습니다. 모든 뉴스를 받습니다." : "키워드 구독 성공", keywords);
+        } catch (IllegalArgumentException e) {
+            return new KeywordSubscriptionResponseDto(false, e.getMessage());
+        } catch (Exception e) {
+            logger.error("키워드 구독 처리 중 오류 발생", e);
+            return new KeywordSubscriptionResponseDto(false, "키워드 구독 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 수신 확인 처리
+     * 
+     * ack: true로 인증한 연결이 받은 뉴스의 sequence를 보냅니다. 처리량을 위해 응답은 보내지 않습니다.
+     */
+    @MessageMapping("/ack")
+    public void handleAck(@Payload AckRequestDto request, SimpMessageHeaderAccessor headerAccessor) {
+        try {
+            String connectionId = headerAccessor.getSessionId();
+            String customerId = webSocketService.getCustomerIdByConnection(connectionId);
+            if (customerId == null) {
+                logger.debug("인증되지 않은 연결의 수신 확인 요청: 연결 ID: {}", connectionId);
+                return;
+            }
+            deliveryAckTracker.ack(customerId, connectionId, request.getSequences());
+        } catch (Exception e) {
+            logger.error("수신 확인 처리 중 오류 발생", e);
+        }
+    }
+
     /**
      * 연결 해제 처리
      * 
@@ -109,11 +194,10 @@ public class NewsWebSocketHandler {
             if (customerId != null) {
                 logger.info("고객사 연결 해제 요청: 고객사 ID: {}, 연결 ID: {}", customerId, connectionId);
                 
-                // 고객사 연결 해제
+                // 고객사 연결 해제 (레지스트리에서도 제거됨)
                 customerService.disconnectCustomer(connectionId);
-                
-                // WebSocket 서비스에서 연결 제거
-                webSocketService.unregisterConnection(connectionId);
+                unsubscribeIfLastConnection(customerId);
+                deliveryAckTracker.close(customerId, connectionId);
                 
                 logger.info("고객사 연결 해제 완료: 고객사 ID: {}, 연결 ID: {}", customerId, connectionId);
             } else {
@@ -124,6 +208,37 @@ public class NewsWebSocketHandler {
         }
     }
 
+    /**
+     * 세션 종료 처리
+     * 
+     * /app/disconnect 없이 끊긴 연결(네트워크 종료, 느린 소비자 정책에 의한 강제 종료)도 연결 해제합니다.
+     */
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        try {
+            String connectionId = event.getSessionId();
+            String customerId = webSocketService.getCustomerIdByConnection(connectionId);
+            if (customerId != null) {
+                customerService.disconnectCustomer(connectionId);
+                unsubscribeIfLastConnection(customerId);
+                deliveryAckTracker.close(customerId, connectionId);
+                logger.info("세션 종료로 고객사 연결 해제: 고객사 ID: {}, 연결 ID: {}, 종료 상태: {}", 
+                           customerId, connectionId, event.getCloseStatus());
+            }
+        } catch (Exception e) {
+            logger.error("세션 종료 처리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 고객사의 남은 연결이 없으면 키워드 구독 해제 (disconnectCustomer 커밋 후 레지스트리 기준)
+     */
+    private void unsubscribeIfLastConnection(String customerId) {
+        if (!webSocketService.isCustomerConnected(customerId)) {
+            keywordSubscriptionIndex.unsubscribe(customerId);
+        }
+    }
+
     /**
      * 연결 상태 확인
      * 
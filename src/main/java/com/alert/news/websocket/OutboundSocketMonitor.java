@@ -0,0 +1,315 @@
+package com.alert.news.websocket;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 소켓 쓰기 모니터
+ *
+ * 세션을 감싸서 실제 소켓 쓰기를 세션마다 가상 스레드 writer 하나가 순서대로 처리하게 하고,
+ * 아직 소켓에 쓰지 못한 프레임의 바이트 수와 진행 중인 쓰기의 시작 시각을 기록합니다.
+ * STOMP 처리기와 clientOutboundChannel 스레드는 프레임을 버퍼에 넣고 바로 반환하므로,
+ * 느린 소켓 때문에 밀린 양은 브로커 채널이 아니라 여기서 보입니다.
+ *
+ * {@link com.alert.news.service.SessionOutboundQueues}는 소켓 버퍼가 websocket.outbound.socket-buffer-size(bytes)를 넘으면
+ * 뉴스를 소켓 쪽으로 넘기지 않고 연결별 송신 버퍼에 남겨 두므로, 그 버퍼에서 느린 소비자 정책이 적용됩니다.
+ * 연결별 송신 버퍼를 거치지 않는 프레임(토픽 발행, 하트비트 등)까지 합쳐 websocket.outbound.socket-buffer-max를 넘으면
+ * 세션을 SESSION_NOT_RELIABLE로 닫습니다.
+ */
+@Component
+public class OutboundSocketMonitor implements WebSocketHandlerDecoratorFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboundSocketMonitor.class);
+
+    @Value("${websocket.outbound.socket-buffer-size:524288}")
+    private long socketBufferSize = 524288;
+
+    @Value("${websocket.outbound.socket-buffer-max:4194304}")
+    private long socketBufferMax = 4194304;
+
+    private final ConcurrentMap<String, MonitoredSession> sessions = new ConcurrentHashMap<>();
+    private final ExecutorService writers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("news-socket-writer-", 0).factory());
+
+    @PreDestroy
+    public void stop() {
+        writers.shutdownNow();
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                // 하위 처리기(STOMP 세션 처리기)가 보관하는 세션을 감싼 세션으로 바꿔 모든 프레임이 writer를 거치게 함
+                MonitoredSession monitored = new MonitoredSession(session);
+                sessions.put(session.getId(), monitored);
+                super.afterConnectionEstablished(monitored);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                MonitoredSession monitored = sessions.remove(session.getId());
+                if (monitored != null) {
+                    monitored.release();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * 세션이 열려 있는지 (연결 종료 처리가 시작되면 false)
+     */
+    public boolean isOpen(String sessionId) {
+        return sessions.containsKey(sessionId);
+    }
+
+    /**
+     * 소켓에 아직 쓰지 못한 바이트 수 (진행 중인 쓰기 포함, 세션이 없으면 0)
+     */
+    public long getBufferedBytes(String sessionId) {
+        MonitoredSession session = sessions.get(sessionId);
+        return session != null ? session.getBufferedBytes() : 0;
+    }
+
+    /**
+     * 진행 중인 소켓 쓰기가 시작된 뒤 지난 시간 (ns, 쓰는 중이 아니면 0)
+     */
+    public long getTimeSinceSendStarted(String sessionId) {
+        MonitoredSession session = sessions.get(sessionId);
+        long startedAt = session != null ? session.writeStartedAt : 0;
+        return startedAt != 0 ? System.nanoTime() - startedAt : 0;
+    }
+
+    /**
+     * 소켓 버퍼가 websocket.outbound.socket-buffer-size 이하로 줄어들 때까지 최대 timeoutNanos 동안 대기
+     *
+     * @return 더 보낼 수 있으면 true (세션이 없거나 닫힌 경우 포함), 제한 시간 안에 줄지 않았으면 false
+     */
+    public boolean awaitWritable(String sessionId, long timeoutNanos) throws InterruptedException {
+        MonitoredSession session = sessions.get(sessionId);
+        return session == null || session.awaitBelow(socketBufferSize, timeoutNanos);
+    }
+
+    /**
+     * 남은 프레임을 버리고 세션을 바로 닫음 (소켓 쓰기가 멈춰 ERROR 프레임도 보낼 수 없는 경우)
+     */
+    public void terminate(String sessionId, CloseStatus status) {
+        MonitoredSession session = sessions.get(sessionId);
+        if (session != null) {
+            session.terminate(status);
+        }
+    }
+
+    /**
+     * 소켓 쓰기를 전담 writer에 넘기는 세션
+     */
+    private final class MonitoredSession extends WebSocketSessionDecorator {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition written = lock.newCondition();
+        // 이하 lock 안에서만 사용
+        private final ArrayDeque<WebSocketMessage<?>> frames = new ArrayDeque<>();
+        private long bufferedBytes;
+        private boolean writing;
+        private CloseStatus pendingClose;
+
+        // 진행 중인 쓰기의 시작 시각 (nanoTime, 쓰는 중이 아니면 0)
+        private volatile long writeStartedAt;
+        private volatile boolean closed;
+
+        private MonitoredSession(WebSocketSession delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            if (closed) {
+                return;
+            }
+            long size = message.getPayloadLength();
+            boolean overflow = false;
+            boolean startWriter = false;
+            lock.lock();
+            try {
+                if (pendingClose != null) {
+                    return;
+                }
+                if (!frames.isEmpty() && bufferedBytes + size > socketBufferMax) {
+                    overflow = true;
+                } else {
+                    frames.add(message);
+                    bufferedBytes += size;
+                    if (!writing) {
+                        writing = true;
+                        startWriter = true;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (overflow) {
+                logger.warn("소켓에 쓰지 못한 프레임이 {} bytes를 넘어 세션을 닫습니다: 세션 ID: {}",
+                           socketBufferMax, getId());
+                terminate(CloseStatus.SESSION_NOT_RELIABLE);
+            } else if (startWriter) {
+                startWriter();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            close(CloseStatus.NORMAL);
+        }
+
+        /**
+         * 남은 프레임을 모두 쓴 뒤 닫음 (ERROR 프레임 직후의 종료 요청이 프레임보다 먼저 처리되지 않도록)
+         */
+        @Override
+        public void close(CloseStatus status) throws IOException {
+            lock.lock();
+            try {
+                if (writing) {
+                    pendingClose = status;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            closed = true;
+            super.close(status);
+        }
+
+        private void startWriter() {
+            try {
+                writers.execute(this::drain);
+            } catch (Exception e) {
+                // 종료 중에는 실행기가 작업을 받지 않음
+                logger.warn("소켓 writer를 시작할 수 없습니다: 세션 ID: {}", getId(), e);
+                release();
+            }
+        }
+
+        /**
+         * 버퍼가 빌 때까지 순서대로 소켓에 씀 (세션마다 writer는 최대 하나)
+         */
+        private void drain() {
+            while (true) {
+                WebSocketMessage<?> message;
+                CloseStatus closeStatus = null;
+                lock.lock();
+                try {
+                    message = closed ? null : frames.poll();
+                    if (message == null) {
+                        writing = false;
+                        closeStatus = pendingClose;
+                        written.signalAll();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (message == null) {
+                    if (closeStatus != null) {
+                        closeQuietly(closeStatus);
+                    }
+                    return;
+                }
+
+                writeStartedAt = System.nanoTime();
+                try {
+                    getDelegate().sendMessage(message);
+                } catch (Exception e) {
+                    logger.debug("소켓 쓰기 실패로 세션을 닫습니다: 세션 ID: {}", getId(), e);
+                    terminate(CloseStatus.SESSION_NOT_RELIABLE);
+                } finally {
+                    writeStartedAt = 0;
+                    lock.lock();
+                    try {
+                        bufferedBytes = Math.max(0, bufferedBytes - message.getPayloadLength());
+                        written.signalAll();
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            }
+        }
+
+        private long getBufferedBytes() {
+            lock.lock();
+            try {
+                return bufferedBytes;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean awaitBelow(long limit, long timeoutNanos) throws InterruptedException {
+            lock.lock();
+            try {
+                long remaining = timeoutNanos;
+                while (!closed && bufferedBytes > limit) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = written.awaitNanos(remaining);
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void terminate(CloseStatus status) {
+            if (closed) {
+                return;
+            }
+            release();
+            closeQuietly(status);
+        }
+
+        /**
+         * 남은 프레임을 버리고 대기 중인 송신 writer를 깨움 (세션 종료 시)
+         */
+        private void release() {
+            closed = true;
+            lock.lock();
+            try {
+                frames.clear();
+                bufferedBytes = 0;
+                written.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void closeQuietly(CloseStatus status) {
+            closed = true;
+            try {
+                getDelegate().close(status);
+            } catch (Exception e) {
+                logger.debug("세션 종료 중 오류: 세션 ID: {}", getId(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.alert.news.websocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket 압축(permessage-deflate, RFC 7692) 협상 결과 추적
+ *
+ * 압축 협상은 서블릿 컨테이너(내장 Tomcat)가 클라이언트의 Sec-WebSocket-Extensions 요청에 따라 처리하며,
+ * 협상된 연결의 텍스트/바이너리 프레임은 컨테이너가 압축해서 보냅니다.
+ * 이 데코레이터는 연결마다 협상된 확장을 확인해 전체 세션 수(news.websocket.sessions)와
+ * 압축 세션 수(news.websocket.sessions.compressed)를 노출합니다.
+ */
+@Component
+public class WebSocketCompressionTracker implements WebSocketHandlerDecoratorFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketCompressionTracker.class);
+
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+    private static final String COMPRESSED_ATTRIBUTE = WebSocketCompressionTracker.class.getName() + ".compressed";
+
+    private final AtomicInteger openSessions = new AtomicInteger();
+    private final AtomicInteger compressedSessions = new AtomicInteger();
+
+    @Autowired
+    public WebSocketCompressionTracker(MeterRegistry meterRegistry) {
+        Gauge.builder("news.websocket.sessions", openSessions, AtomicInteger::get)
+                .description("열려 있는 WebSocket 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("news.websocket.sessions.compressed", compressedSessions, AtomicInteger::get)
+                .description("permessage-deflate가 협상된 WebSocket 세션 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                boolean compressed = isCompressed(session);
+                session.getAttributes().put(COMPRESSED_ATTRIBUTE, compressed);
+                openSessions.incrementAndGet();
+                if (compressed) {
+                    compressedSessions.incrementAndGet();
+                }
+                logger.debug("WebSocket 연결: 세션 ID: {}, 압축: {}", session.getId(), compressed);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                openSessions.decrementAndGet();
+                if (Boolean.TRUE.equals(session.getAttributes().get(COMPRESSED_ATTRIBUTE))) {
+                    compressedSessions.decrementAndGet();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    public int getOpenSessions() {
+        return openSessions.get();
+    }
+
+    public int getCompressedSessions() {
+        return compressedSessions.get();
+    }
+
+    private boolean isCompressed(WebSocketSession session) {
+        for (WebSocketExtension extension : session.getExtensions()) {
+            if (PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
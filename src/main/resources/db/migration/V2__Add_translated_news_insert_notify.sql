@@ -0,0 +1,15 @@
+-- 뉴스 추가 알림 트리거
+-- V2__Add_translated_news_insert_notify.sql
+
+-- 새 뉴스가 커밋되면 LISTEN 중인 연결로 뉴스 ID를 알림 (NOTIFY는 트랜잭션 커밋 시점에 전달됨)
+CREATE OR REPLACE FUNCTION notify_translated_news_inserted() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('translated_news_inserted', NEW.id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_translated_news_inserted
+    AFTER INSERT ON translated_news
+    FOR EACH ROW
+    EXECUTE FUNCTION notify_translated_news_inserted();
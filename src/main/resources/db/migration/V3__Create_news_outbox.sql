@@ -0,0 +1,32 @@
+-- 뉴스 이벤트 아웃박스 테이블 생성
+-- V3__Create_news_outbox.sql
+
+-- 뉴스 이벤트 아웃박스 (여러 노드가 FOR UPDATE SKIP LOCKED로 나눠서 소비)
+CREATE TABLE news_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    news_id VARCHAR(100) NOT NULL,
+    priority VARCHAR(10) NOT NULL DEFAULT 'NORMAL',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    claimed_by VARCHAR(200),
+    claimed_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP
+);
+
+-- 인덱스 생성 (처리 대기/처리 중인 행만 포함)
+CREATE INDEX idx_news_outbox_claimable ON news_outbox(id) WHERE status IN ('PENDING', 'PROCESSING');
+CREATE INDEX idx_news_outbox_processed_at ON news_outbox(processed_at) WHERE status = 'DONE';
+
+-- 뉴스가 추가되는 트랜잭션 안에서 아웃박스 이벤트를 함께 기록
+CREATE OR REPLACE FUNCTION append_translated_news_outbox() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO news_outbox (news_id) VALUES (NEW.id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_translated_news_outbox
+    AFTER INSERT ON translated_news
+    FOR EACH ROW
+    EXECUTE FUNCTION append_translated_news_outbox();
@@ -0,0 +1,9 @@
+-- 고객사별 전달 커서 테이블 생성
+-- V4__Create_customer_delivery_cursors.sql
+
+-- 고객사가 수신 확인(ack)한 마지막 브로드캐스트 순번 (메모리에서 갱신하고 주기적으로 모아서 기록)
+CREATE TABLE customer_delivery_cursors (
+    customer_id VARCHAR(100) PRIMARY KEY REFERENCES customers(id) ON DELETE CASCADE,
+    acked_sequence BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,24 @@
+-- 아웃박스 기록 여부 설정 테이블 생성
+-- V5__Gate_news_outbox_capture.sql
+
+-- 아웃박스 기록 여부 (단일 행, 애플리케이션이 시작할 때 queue.outbox.enabled 값으로 변경)
+CREATE TABLE news_outbox_settings (
+    id SMALLINT PRIMARY KEY DEFAULT 1 CHECK (id = 1),
+    capture_enabled BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO news_outbox_settings (id, capture_enabled) VALUES (1, FALSE);
+
+-- 아웃박스를 소비하지 않는 동안에는 이벤트를 기록하지 않음 (소비자 없이 테이블이 계속 커지지 않도록)
+CREATE OR REPLACE FUNCTION append_translated_news_outbox() RETURNS trigger AS $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM news_outbox_settings WHERE id = 1 AND capture_enabled) THEN
+        INSERT INTO news_outbox (news_id) VALUES (NEW.id);
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 소비되지 않은 이벤트를 생성 시각 기준으로 정리할 때 사용
+CREATE INDEX idx_news_outbox_created_at ON news_outbox(created_at);
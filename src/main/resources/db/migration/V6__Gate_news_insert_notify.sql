@@ -0,0 +1,21 @@
+-- 뉴스 추가 알림 여부 설정 테이블 생성
+-- V6__Gate_news_insert_notify.sql
+
+-- 뉴스 추가 알림 여부 (단일 행, 애플리케이션이 시작할 때 queue.ingest.listen.enabled 값으로 변경)
+CREATE TABLE news_insert_notify_settings (
+    id SMALLINT PRIMARY KEY DEFAULT 1 CHECK (id = 1),
+    notify_enabled BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO news_insert_notify_settings (id, notify_enabled) VALUES (1, FALSE);
+
+-- LISTEN 수집기를 쓰지 않는 동안에는 알림을 보내지 않음 (뉴스를 추가하는 트랜잭션마다 불필요한 pg_notify 비용이 들지 않도록)
+CREATE OR REPLACE FUNCTION notify_translated_news_inserted() RETURNS trigger AS $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM news_insert_notify_settings WHERE id = 1 AND notify_enabled) THEN
+        PERFORM pg_notify('translated_news_inserted', NEW.id);
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
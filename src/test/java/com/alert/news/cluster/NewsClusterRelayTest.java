@@ -0,0 +1,154 @@
+package com.alert.news.cluster;
+
+import com.alert.news.model.Customer;
+import com.alert.news.model.News;
+import com.alert.news.service.ConnectedCustomerRegistry;
+import com.alert.news.service.WebSocketService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 노드 간 뉴스 전달 단위 테스트 (프로세스 내 전송으로 두 노드 구성)
+ */
+class NewsClusterRelayTest {
+
+    private final Map<String, Consumer<String>> network = new ConcurrentHashMap<>();
+
+    @Test
+    void relaysOncePerNodeWithConnectedCustomers() throws InterruptedException {
+        Node a = new Node("node-a");
+        Node b = new Node("node-b");
+        Customer customer = new Customer("customer-1", "고객사", "token", LocalDateTime.now().plusHours(1));
+        b.registry.connect(customer, "session-1");
+        b.registry.connect(new Customer("customer-2", "고객사2", "token", LocalDateTime.now().plusHours(1)), "session-2");
+
+        b.relay.syncRoutes();
+        a.relay.syncRoutes();
+
+        News news = new News("news-1", "제목", "본문", LocalDateTime.now());
+        assertEquals(1, a.relay.relay(news));
+        awaitTrue(() -> b.webSocketService.broadcasted.equals(List.of("news-1")));
+        // 받은 노드는 다시 전달하지 않고, 고객사가 없는 노드에는 보내지 않음
+        assertTrue(a.webSocketService.broadcasted.isEmpty());
+        assertEquals(0, b.relay.relay(news));
+    }
+
+    @Test
+    void dropsRelayedNewsAlreadyDeliveredLocally() throws InterruptedException {
+        Node a = new Node("node-a");
+        Node b = new Node("node-b");
+        Node c = new Node("node-c");
+        b.registry.connect(new Customer("customer-1", "고객사", "token", LocalDateTime.now().plusHours(1)), "session-1");
+        b.relay.syncRoutes();
+
+        // 두 노드가 같은 뉴스를 처리해 각각 전달해도 받은 노드는 한 번만 보냄
+        News news = new News("news-1", "제목", "본문", LocalDateTime.now());
+        assertEquals(1, a.relay.relay(news));
+        assertEquals(1, c.relay.relay(news));
+        awaitTrue(() -> b.webSocketService.broadcasted.size() == 1);
+
+        // 직접 처리한 뉴스를 다른 노드가 늦게 전달해 와도 다시 보내지 않음
+        News local = new News("news-2", "제목", "본문", LocalDateTime.now());
+        b.relay.relay(local);
+        assertEquals(1, a.relay.relay(local));
+
+        News next = new News("news-3", "제목", "본문", LocalDateTime.now());
+        assertEquals(1, a.relay.relay(next));
+        awaitTrue(() -> b.webSocketService.broadcasted.size() == 2);
+        assertEquals(List.of("news-1", "news-3"), b.webSocketService.broadcasted);
+    }
+
+    @Test
+    void relaysToCustomerOnlyToItsNodes() throws InterruptedException {
+        Node a = new Node("node-a");
+        Node b = new Node("node-b");
+        Node c = new Node("node-c");
+        b.registry.connect(new Customer("customer-1", "고객사", "token", LocalDateTime.now().plusHours(1)), "session-1");
+        c.registry.connect(new Customer("customer-2", "고객사2", "token", LocalDateTime.now().plusHours(1)), "session-2");
+        b.relay.syncRoutes();
+        c.relay.syncRoutes();
+
+        // 같은 뉴스를 다시 보내도 고객사 대상 전달은 중복으로 버리지 않음
+        News news = new News("news-1", "제목", "본문", LocalDateTime.now());
+        assertEquals(1, a.relay.relayToCustomer("customer-1", news));
+        assertEquals(1, a.relay.relayToCustomer("customer-1", news));
+        assertEquals(0, a.relay.relayToCustomer("customer-3", news));
+        awaitTrue(() -> b.webSocketService.sent.size() == 2);
+        assertEquals(List.of("customer-1:news-1", "customer-1:news-1"), b.webSocketService.sent);
+        assertTrue(c.webSocketService.sent.isEmpty());
+        assertTrue(b.webSocketService.broadcasted.isEmpty());
+    }
+
+    @Test
+    void disconnectAndLeaveRemoveRoutes() {
+        Node a = new Node("node-a");
+        Node b = new Node("node-b");
+        Customer customer = new Customer("customer-1", "고객사", "token", LocalDateTime.now().plusHours(1));
+        b.registry.connect(customer, "session-1");
+        b.relay.syncRoutes();
+        assertEquals(List.of("node-b"), a.relay.getRoutingTable().getNodesFor("customer-1"));
+
+        b.registry.disconnect("session-1");
+        b.relay.syncRoutes();
+        assertTrue(a.relay.getRoutingTable().getNodesFor("customer-1").isEmpty());
+        assertEquals(1, a.relay.getRoutingTable().getNodeCount());
+
+        b.relay.stop();
+        assertEquals(0, a.relay.getRoutingTable().getNodeCount());
+    }
+
+    private void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "제한 시간 안에 조건을 만족하지 않았습니다");
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+
+    /**
+     * 레지스트리, 전송 기록용 WebSocket 서비스, 전달기로 구성한 노드 하나
+     */
+    private final class Node {
+        private final ConnectedCustomerRegistry registry = new ConnectedCustomerRegistry();
+        private final RecordingWebSocketService webSocketService = new RecordingWebSocketService(registry);
+        private final NewsClusterRelay relay = new NewsClusterRelay(registry, webSocketService, null,
+                new ObjectMapper(), new SimpleMeterRegistry());
+
+        private Node(String nodeId) {
+            relay.open(nodeId, new LoopbackClusterTransport(network, 8000));
+        }
+    }
+
+    private static final class RecordingWebSocketService extends WebSocketService {
+        private final List<String> broadcasted = new CopyOnWriteArrayList<>();
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+
+        private RecordingWebSocketService(ConnectedCustomerRegistry registry) {
+            super(null, registry, null, null, null, null, null, null, new ObjectMapper(), null);
+        }
+
+        @Override
+        public DeliveryResult broadcastNewsToAllCustomers(News news) {
+            broadcasted.add(news.getId());
+            return DeliveryResult.delivered(1);
+        }
+
+        @Override
+        public boolean sendNewsToCustomer(String customerId, News news) {
+            sent.add(customerId + ":" + news.getId());
+            return true;
+        }
+    }
+}
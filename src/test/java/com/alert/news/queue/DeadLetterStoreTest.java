@@ -0,0 +1,66 @@
+package com.alert.news.queue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * dead letter 보관소 단위 테스트
+ */
+class DeadLetterStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void entriesSurviveReopenWithReasonAndCustomers() throws IOException {
+        try (DeadLetterStore store = DeadLetterStore.open(directory, 10)) {
+            store.add("news-1", NewsPriority.HIGH, DeadLetterReason.DELIVERY_FAILED,
+                    "전송 실패\t원인", List.of("customer-1", "customer-2"));
+            store.add("news-2", NewsPriority.NORMAL, DeadLetterReason.LOOKUP_FAILED, null, List.of());
+        }
+
+        try (DeadLetterStore store = DeadLetterStore.open(directory, 10)) {
+            List<DeadLetter> deadLetters = store.peek(10);
+            assertEquals(2, deadLetters.size());
+
+            DeadLetter first = deadLetters.get(0);
+            assertEquals("news-1", first.getNewsId());
+            assertEquals(NewsPriority.HIGH, first.getPriority());
+            assertEquals(DeadLetterReason.DELIVERY_FAILED, first.getReason());
+            assertEquals("전송 실패\t원인", first.getErrorMessage());
+            assertEquals(List.of("customer-1", "customer-2"), first.getFailedCustomerIds());
+            assertNull(deadLetters.get(1).getErrorMessage());
+
+            // 복원 후 발급하는 id는 이전 id와 겹치지 않음
+            DeadLetter added = store.add("news-3", NewsPriority.LOW, DeadLetterReason.NOT_FOUND, "없음", List.of());
+            assertTrue(added.getId() > deadLetters.get(1).getId());
+        }
+    }
+
+    @Test
+    void oldestEntriesAreDroppedAndRemovedEntriesStayRemoved() throws IOException {
+        try (DeadLetterStore store = DeadLetterStore.open(directory, 3)) {
+            for (int i = 0; i < 5; i++) {
+                store.add("news-" + i, NewsPriority.NORMAL, DeadLetterReason.NOT_FOUND, null, List.of());
+            }
+            assertEquals(3, store.size());
+            assertEquals(2, store.getDroppedCount());
+
+            List<DeadLetter> oldest = store.peek(2);
+            assertEquals("news-2", oldest.get(0).getNewsId());
+            assertEquals(2, store.remove(List.of(oldest.get(0).getId(), oldest.get(1).getId())));
+        }
+
+        try (DeadLetterStore store = DeadLetterStore.open(directory, 3)) {
+            List<DeadLetter> remaining = store.peek(10);
+            assertEquals(1, remaining.size());
+            assertEquals("news-4", remaining.get(0).getNewsId());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.alert.news.queue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WAL 기반 영속 큐 엔진 단위 테스트
+ */
+class DurableQueueEngineTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void commitDoesNotPassItemsStillInFlight() throws Exception {
+        DurableQueueEngine<QueueItem> queue = open(4);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(queue.offer(new QueueItem("news-" + i, NewsPriority.NORMAL)));
+        }
+
+        // 워커가 첫 항목을 처리 중인 동안 두 번째 항목만 먼저 커밋 (EVICT_OLDEST와 같은 순서)
+        List<QueueItem> inFlight = new ArrayList<>();
+        queue.drainTo(inFlight, 1);
+        List<QueueItem> evicted = new ArrayList<>();
+        queue.drainTo(evicted, 1);
+        queue.commit(evicted);
+        queue.close();
+
+        assertEquals(List.of("news-0", "news-1", "news-2"), newsIds(reopenAndReplay(4)));
+    }
+
+    @Test
+    void rollbackClearsWholeRecord() throws Exception {
+        DurableQueueEngine<QueueItem> queue = open(1);
+        assertTrue(queue.offer(new QueueItem("news-with-a-long-identifier", NewsPriority.NORMAL)));
+        // 큐가 가득 차서 취소된 긴 레코드 자리에 더 짧은 레코드가 다시 기록됨
+        assertFalse(queue.offer(new QueueItem("news-rejected-with-an-even-longer-identifier", NewsPriority.NORMAL)));
+
+        List<QueueItem> drained = new ArrayList<>();
+        queue.drainTo(drained, 1);
+        queue.commit(drained);
+        assertTrue(queue.offer(new QueueItem("news-1", NewsPriority.NORMAL)));
+        assertEquals(1, queue.getPendingCount());
+        queue.close();
+
+        assertEquals(List.of("news-1"), newsIds(reopenAndReplay(4)));
+    }
+
+    @Test
+    void rejectsEmptyRecordWithoutHidingLaterRecords() throws Exception {
+        DurableQueueEngine<QueueItem> queue = open(4);
+        assertTrue(queue.offer(new QueueItem("news-0", NewsPriority.NORMAL)));
+        // 길이 0 레코드는 로그의 끝으로 읽히므로 기록하지 않음
+        assertThrows(IllegalArgumentException.class, () -> queue.offer(new QueueItem("", NewsPriority.NORMAL)));
+        assertTrue(queue.offer(new QueueItem("news-1", NewsPriority.NORMAL)));
+        assertEquals(2, queue.getPendingCount());
+        queue.close();
+
+        assertEquals(List.of("news-0", "news-1"), newsIds(reopenAndReplay(4)));
+    }
+
+    private DurableQueueEngine<QueueItem> open(int capacity) throws Exception {
+        WriteAheadLog log = WriteAheadLog.open(directory, 4096, false);
+        return new DurableQueueEngine<>(new LinkedQueueEngine<>(capacity), log,
+                QueueItem::getNewsId, newsId -> new QueueItem(newsId, NewsPriority.NORMAL));
+    }
+
+    private List<QueueItem> reopenAndReplay(int capacity) throws Exception {
+        DurableQueueEngine<QueueItem> queue = open(capacity);
+        queue.replay();
+        List<QueueItem> replayed = new ArrayList<>();
+        queue.drainTo(replayed, capacity);
+        queue.close();
+        return replayed;
+    }
+
+    private List<String> newsIds(List<QueueItem> items) {
+        return items.stream().map(QueueItem::getNewsId).toList();
+    }
+}
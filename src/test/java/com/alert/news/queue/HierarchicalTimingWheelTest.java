@@ -0,0 +1,79 @@
+package com.alert.news.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 계층형 타이밍 휠 단위 테스트
+ */
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void itemsExpireInDeadlineOrderAcrossLevels() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+        wheel.add("late", 5_000);   // 상위 단계
+        wheel.add("mid", 300);      // 2단계
+        wheel.add("early", 25);     // 1단계
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(20, expired::add);
+        assertTrue(expired.isEmpty());
+
+        wheel.advance(30, expired::add);
+        assertEquals(List.of("early"), expired);
+
+        wheel.advance(299, expired::add);
+        assertEquals(List.of("early"), expired);
+        wheel.advance(300, expired::add);
+        assertEquals(List.of("early", "mid"), expired);
+
+        wheel.advance(4_990, expired::add);
+        assertEquals(1, wheel.size());
+        wheel.advance(5_000, expired::add);
+        assertEquals(List.of("early", "mid", "late"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void pastDeadlineExpiresOnNextTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 1_000);
+        wheel.add("overdue", 500);
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(1_010, expired::add);
+        assertEquals(List.of("overdue"), expired);
+    }
+
+    @Test
+    void emptyWheelJumpsToNowBeforeNewItemsAreAdded() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+        List<String> expired = new ArrayList<>();
+
+        // 오래 비어 있던 휠은 현재 시각으로 바로 이동하고, 이후 추가한 항목은 현재 시각 기준으로 만료
+        wheel.advance(86_400_000, expired::add);
+        assertEquals(86_400_010, wheel.nextTickMillis());
+        wheel.add("after-idle", 86_400_030);
+        wheel.advance(86_400_020, expired::add);
+        assertTrue(expired.isEmpty());
+        wheel.advance(86_400_030, expired::add);
+        assertEquals(List.of("after-idle"), expired);
+    }
+
+    @Test
+    void retryDelayDoublesUpToMaxDelay() {
+        NewsRetryScheduler scheduler = new NewsRetryScheduler(10, 64, 100, 1_000, 3, tasks -> { });
+        try {
+            assertEquals(100, scheduler.delayFor(1));
+            assertEquals(400, scheduler.delayFor(3));
+            assertEquals(1_000, scheduler.delayFor(10));
+            assertTrue(scheduler.schedule(new QueueItem("news-1", NewsPriority.NORMAL), 3));
+            assertFalse(scheduler.schedule(new QueueItem("news-1", NewsPriority.NORMAL), 4));
+        } finally {
+            scheduler.close();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.alert.news.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SQS 호환 프로세스 내 메시지 소스 단위 테스트
+ */
+class InProcessSqsQueueSourceTest {
+
+    @Test
+    void receiveIsCappedByMaxMessagesAndRejectsWhenFull() throws InterruptedException {
+        InProcessSqsQueueSource source = new InProcessSqsQueueSource(12, 10, 30_000);
+
+        for (int i = 0; i < 12; i++) {
+            assertTrue(source.send("news-" + i, NewsPriority.NORMAL));
+        }
+        assertFalse(source.send("news-12", NewsPriority.NORMAL));
+
+        List<ReceivedNews> received = source.receive(100, 10);
+        assertEquals(10, received.size());
+        assertEquals("news-0", received.get(0).getNewsId());
+        assertEquals(2, source.approximateNumberOfMessages());
+        assertEquals(10, source.approximateNumberOfMessagesNotVisible());
+
+        // 삭제 전까지는 수신 중인 메시지도 용량을 차지
+        assertFalse(source.send("news-12", NewsPriority.NORMAL));
+        assertEquals(10, source.deleteBatch(received.stream().map(ReceivedNews::getReceiptHandle).toList()));
+        assertTrue(source.send("news-12", NewsPriority.NORMAL));
+    }
+
+    @Test
+    void undeletedMessageBecomesVisibleAgainWithNewReceiptHandle() throws InterruptedException {
+        InProcessSqsQueueSource source = new InProcessSqsQueueSource(10, 10, 20);
+        source.send("news-1", NewsPriority.HIGH);
+
+        ReceivedNews first = source.receive(10, 10).get(0);
+        assertEquals(1, first.getReceiveCount());
+        assertTrue(source.receive(10, 0).isEmpty());
+
+        List<ReceivedNews> redelivered = source.receive(10, 1_000);
+        assertEquals(1, redelivered.size());
+        ReceivedNews second = redelivered.get(0);
+        assertEquals("news-1", second.getNewsId());
+        assertEquals(NewsPriority.HIGH, second.getPriority());
+        assertEquals(2, second.getReceiveCount());
+
+        // 이전 수신 핸들은 더 이상 유효하지 않음
+        assertEquals(0, source.deleteBatch(List.of(first.getReceiptHandle())));
+        assertEquals(1, source.deleteBatch(List.of(second.getReceiptHandle())));
+        assertEquals(0, source.approximateNumberOfMessagesNotVisible());
+    }
+
+    @Test
+    void zeroVisibilityTimeoutReleasesMessageImmediately() throws InterruptedException {
+        InProcessSqsQueueSource source = new InProcessSqsQueueSource(10, 10, 30_000);
+        source.send("news-1", NewsPriority.NORMAL);
+
+        ReceivedNews received = source.receive(1, 10).get(0);
+        assertTrue(source.changeVisibility(received.getReceiptHandle(), 0));
+        assertFalse(source.changeVisibility(received.getReceiptHandle(), 0));
+        assertEquals(1, source.receive(1, 10).size());
+    }
+}
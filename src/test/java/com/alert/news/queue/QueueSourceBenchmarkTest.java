@@ -0,0 +1,164 @@
+package com.alert.news.queue;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 내부 큐(샤드)와 SQS 호환 프로세스 내 메시지 소스의 처리량/지연 비교 벤치마크
+ *
+ * 기본 테스트에서는 제외되며 ./gradlew benchmark 로 실행합니다.
+ * 같은 수의 생산자와 소비자로 같은 개수의 메시지를 보내고, 전송부터 수신(삭제)까지의 지연을 측정합니다.
+ */
+@Tag("benchmark")
+class QueueSourceBenchmarkTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 4;
+    private static final int MESSAGES_PER_PRODUCER = 250_000;
+    private static final int CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 10;
+
+    @Test
+    void compareInternalShardsWithInProcessSqsSource() throws InterruptedException {
+        // JIT 워밍업
+        runShards(QueueEngineType.LINKED, MESSAGES_PER_PRODUCER / 10);
+        runSource(MESSAGES_PER_PRODUCER / 10);
+
+        report("internal (linked)", runShards(QueueEngineType.LINKED, MESSAGES_PER_PRODUCER));
+        report("internal (ring-buffer)", runShards(QueueEngineType.RING_BUFFER, MESSAGES_PER_PRODUCER));
+        report("in-process-sqs", runSource(MESSAGES_PER_PRODUCER));
+    }
+
+    private Result runShards(QueueEngineType engineType, int perProducer) throws InterruptedException {
+        QueueShard[] shards = new QueueShard[CONSUMERS];
+        for (int i = 0; i < CONSUMERS; i++) {
+            @SuppressWarnings("unchecked")
+            QueueEngine<QueueItem>[] lanes = new QueueEngine[NewsPriority.values().length];
+            for (NewsPriority priority : NewsPriority.values()) {
+                lanes[priority.ordinal()] = engineType.create(CAPACITY / CONSUMERS, WaitStrategy.PARK);
+            }
+            shards[i] = new QueueShard(i, lanes,
+                    new LaneScheduler(LaneScheduling.WEIGHTED, new int[] {8, 3, 1}, 0), WaitStrategy.PARK);
+        }
+
+        int total = PRODUCERS * perProducer;
+        long[] latencies = new long[total];
+        AtomicInteger received = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(CONSUMERS);
+
+        long startedAt = System.nanoTime();
+        for (QueueShard shard : shards) {
+            Thread.ofPlatform().start(() -> {
+                List<QueueItem> batch = new ArrayList<>(BATCH_SIZE);
+                try {
+                    while (received.get() < total) {
+                        batch.clear();
+                        shard.drain(batch, BATCH_SIZE, 0, 10);
+                        long now = System.nanoTime();
+                        for (QueueItem item : batch) {
+                            latencies[received.getAndIncrement()] = now - item.getEnqueuedAt();
+                        }
+                        shard.commit(batch);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+        }
+        produce(perProducer, newsId -> shards[Math.floorMod(newsId.hashCode(), shards.length)]
+                .offer(new QueueItem(newsId, NewsPriority.NORMAL)));
+
+        assertTrue(done.await(2, TimeUnit.MINUTES), "제한 시간 안에 모든 메시지를 받지 못했습니다");
+        return new Result(total, System.nanoTime() - startedAt, latencies);
+    }
+
+    private Result runSource(int perProducer) throws InterruptedException {
+        InProcessSqsQueueSource source = new InProcessSqsQueueSource(CAPACITY, BATCH_SIZE, 30_000);
+
+        int total = PRODUCERS * perProducer;
+        long[] latencies = new long[total];
+        AtomicInteger received = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(CONSUMERS);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < CONSUMERS; i++) {
+            Thread.ofPlatform().start(() -> {
+                List<String> receiptHandles = new ArrayList<>(BATCH_SIZE);
+                try {
+                    while (received.get() < total) {
+                        List<ReceivedNews> messages = source.receive(BATCH_SIZE, 10);
+                        long now = System.nanoTime();
+                        receiptHandles.clear();
+                        for (ReceivedNews message : messages) {
+                            latencies[received.getAndIncrement()] = now - message.getSentAt();
+                            receiptHandles.add(message.getReceiptHandle());
+                        }
+                        source.deleteBatch(receiptHandles);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+        }
+        produce(perProducer, newsId -> source.send(newsId, NewsPriority.NORMAL));
+
+        assertTrue(done.await(2, TimeUnit.MINUTES), "제한 시간 안에 모든 메시지를 받지 못했습니다");
+        return new Result(total, System.nanoTime() - startedAt, latencies);
+    }
+
+    private void produce(int perProducer, Predicate<String> offer) throws InterruptedException {
+        CountDownLatch produced = new CountDownLatch(PRODUCERS);
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    String newsId = "news-" + producer + "-" + i;
+                    while (!offer.test(newsId)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                produced.countDown();
+            });
+        }
+        produced.await();
+    }
+
+    private void report(String name, Result result) {
+        long[] sorted = result.latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-24s %,12.0f msg/s  p50 %,8.1fus  p99 %,8.1fus  p99.9 %,8.1fus%n",
+                name,
+                result.count * 1_000_000_000.0 / result.elapsedNanos,
+                percentile(sorted, 0.50) / 1_000.0,
+                percentile(sorted, 0.99) / 1_000.0,
+                percentile(sorted, 0.999) / 1_000.0);
+    }
+
+    private long percentile(long[] sorted, double quantile) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * quantile))];
+    }
+
+    private static final class Result {
+        private final int count;
+        private final long elapsedNanos;
+        private final long[] latencies;
+
+        private Result(int count, long elapsedNanos, long[] latencies) {
+            this.count = count;
+            this.elapsedNanos = elapsedNanos;
+            this.latencies = latencies;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.alert.news.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 링 버퍼 큐 엔진 단위 테스트
+ */
+class RingBufferQueueEngineTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        RingBufferQueueEngine<String> queue = new RingBufferQueueEngine<>(1000, WaitStrategy.PARK);
+
+        assertEquals(1024, queue.capacity());
+        assertEquals(1024, queue.remainingCapacity());
+    }
+
+    @Test
+    void offerFailsWhenFullAndKeepsFifoOrder() throws InterruptedException {
+        RingBufferQueueEngine<String> queue = new RingBufferQueueEngine<>(4, WaitStrategy.PARK);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer("news-" + i));
+        }
+        assertFalse(queue.offer("news-4"));
+        assertEquals(4, queue.size());
+
+        assertEquals("news-0", queue.poll(10, TimeUnit.MILLISECONDS));
+        List<String> drained = new ArrayList<>();
+        assertEquals(3, queue.drainTo(drained, 10));
+        assertEquals(List.of("news-1", "news-2", "news-3"), drained);
+        assertNull(queue.poll(1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void multipleProducersDeliverEveryElementExactlyOnce() throws InterruptedException {
+        RingBufferQueueEngine<String> queue = new RingBufferQueueEngine<>(64, WaitStrategy.YIELD);
+        int producers = 4;
+        int perProducer = 10_000;
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    String element = producer + "-" + i;
+                    while (!queue.offer(element)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        Set<String> received = new HashSet<>();
+        while (received.size() < producers * perProducer) {
+            String element = queue.poll(1, TimeUnit.SECONDS);
+            assertNotNull(element, "생산된 항목을 제한 시간 내에 받지 못했습니다");
+            assertTrue(received.add(element), "중복 수신: " + element);
+        }
+
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertEquals(0, queue.size());
+    }
+}
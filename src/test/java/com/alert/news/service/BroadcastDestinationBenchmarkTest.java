@@ -0,0 +1,114 @@
+package com.alert.news.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 토픽 한 번 발행과 연결별 주소 전송의 브로커 팬아웃 비용 비교 벤치마크
+ *
+ * 기본 테스트에서는 제외되며 ./gradlew benchmark 로 실행합니다.
+ * 실제 SimpleBrokerMessageHandler에 세션마다 /topic/news와 /queue/news-user{연결 ID}를 구독시키고,
+ * 뉴스 한 건을 모든 세션에 전달하는 데 걸리는 시간을 비교합니다.
+ * clientOutboundChannel은 받은 메시지 수만 세므로 WebSocket 쓰기 비용은 포함하지 않습니다.
+ */
+@Tag("benchmark")
+class BroadcastDestinationBenchmarkTest {
+
+    private static final int[] SESSION_COUNTS = {1_000, 10_000, 50_000};
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int ROUNDS = 50;
+    private static final String TOPIC = "/topic/news";
+    private static final String USER_QUEUE_PREFIX = "/queue/news-user";
+
+    @Test
+    void compareTopicPublishWithPerUserSends() {
+        byte[] payload = new byte[512];
+        for (int sessions : SESSION_COUNTS) {
+            AtomicLong delivered = new AtomicLong();
+            SimpleBrokerMessageHandler broker = startBroker(delivered);
+            try {
+                for (int i = 0; i < sessions; i++) {
+                    subscribe(broker, "session-" + i, TOPIC);
+                    subscribe(broker, "session-" + i, USER_QUEUE_PREFIX + "session-" + i);
+                }
+
+                report("topic", sessions, run(sessions, delivered, () ->
+                        broker.handleMessage(newsMessage(TOPIC, payload))));
+                report("user-queue", sessions, run(sessions, delivered, () -> {
+                    for (int i = 0; i < sessions; i++) {
+                        broker.handleMessage(newsMessage(USER_QUEUE_PREFIX + "session-" + i, payload));
+                    }
+                }));
+            } finally {
+                broker.stop();
+            }
+        }
+    }
+
+    private SimpleBrokerMessageHandler startBroker(AtomicLong delivered) {
+        MessageChannel clientOutboundChannel = (message, timeout) -> {
+            delivered.incrementAndGet();
+            return true;
+        };
+        SimpleBrokerMessageHandler broker = new SimpleBrokerMessageHandler(
+                new ExecutorSubscribableChannel(), clientOutboundChannel,
+                new ExecutorSubscribableChannel(), List.of("/topic", "/queue"));
+        broker.start();
+        return broker;
+    }
+
+    private long[] run(int sessions, AtomicLong delivered, Runnable broadcast) {
+        // JIT 워밍업
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            broadcast.run();
+        }
+
+        long[] elapsed = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            delivered.set(0);
+            long startedAt = System.nanoTime();
+            broadcast.run();
+            elapsed[i] = System.nanoTime() - startedAt;
+            assertEquals(sessions, delivered.get(), "모든 세션에 전달되지 않았습니다");
+        }
+        return elapsed;
+    }
+
+    private void subscribe(SimpleBrokerMessageHandler broker, String sessionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(destination.startsWith(TOPIC) ? "sub-topic" : "sub-user");
+        accessor.setDestination(destination);
+        broker.handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private Message<byte[]> newsMessage(String destination, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    private void report(String name, int sessions, long[] elapsed) {
+        long[] sorted = elapsed.clone();
+        Arrays.sort(sorted);
+        long median = sorted[sorted.length / 2];
+        System.out.printf("%-12s %,7d sessions  p50 %,10.1fus/broadcast  %,8.1fns/session  max %,10.1fus%n",
+                name, sessions,
+                median / 1_000.0,
+                (double) median / sessions,
+                sorted[sorted.length - 1] / 1_000.0);
+    }
+}
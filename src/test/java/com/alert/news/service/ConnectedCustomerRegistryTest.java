@@ -0,0 +1,86 @@
+package com.alert.news.service;
+
+import com.alert.news.model.Customer;
+import com.alert.news.service.ConnectedCustomerRegistry.ConnectedCustomer;
+import com.alert.news.service.ConnectedCustomerRegistry.CustomerConnections;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 연결된 고객사 레지스트리 단위 테스트
+ */
+class ConnectedCustomerRegistryTest {
+
+    @Test
+    void reconnectReplacesPreviousConnection() {
+        ConnectedCustomerRegistry registry = new ConnectedCustomerRegistry();
+        Customer customer = new Customer("customer-1", "고객사", "token", LocalDateTime.now().plusHours(1));
+
+        assertNull(registry.connect(customer, "session-1"));
+        ConnectedCustomer previous = registry.connect(customer, "session-2");
+
+        assertEquals("session-1", previous.getConnectionId());
+        assertEquals(1, registry.size());
+        assertNull(registry.getByConnectionId("session-1"));
+        assertEquals("customer-1", registry.getByConnectionId("session-2").getCustomerId());
+
+        // 이미 대체된 연결의 해제 요청은 무시
+        assertNull(registry.disconnect("session-1"));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void deactivationExcludesCustomerWithoutChangingTakenSnapshot() {
+        ConnectedCustomerRegistry registry = new ConnectedCustomerRegistry();
+        Customer customer = new Customer("customer-1", "고객사", "token", LocalDateTime.now().plusHours(1));
+        registry.connect(customer, "session-1");
+
+        List<ConnectedCustomer> snapshot = registry.getDeliverableCustomers();
+        customer.setActive(false);
+        registry.update(customer);
+
+        assertEquals(1, snapshot.size());
+        assertTrue(registry.getDeliverableCustomers().isEmpty());
+        assertFalse(registry.getByCustomerId("customer-1").isActive());
+        assertEquals(1, registry.getConnectedCustomers().size());
+    }
+
+    @Test
+    void keepsConnectionsUpToLimitAndReplacesOldest() {
+        ConnectedCustomerRegistry registry = new ConnectedCustomerRegistry(2, ConnectionDistribution.ROUND_ROBIN);
+        Customer customer = new Customer("customer-1", "고객사", "token", LocalDateTime.now().plusHours(1));
+
+        assertNull(registry.connect(customer, "session-1"));
+        assertNull(registry.connect(customer, "session-2"));
+        assertEquals(2, registry.size());
+        assertEquals(1, registry.getCustomerCount());
+        assertTrue(registry.isSharded("customer-1"));
+
+        ConnectedCustomer replaced = registry.connect(customer, "session-3");
+        assertEquals("session-1", replaced.getConnectionId());
+        assertEquals("session-3", registry.getByCustomerId("customer-1").getConnectionId());
+
+        registry.disconnect("session-3");
+        assertEquals("session-2", registry.getByCustomerId("customer-1").getConnectionId());
+        assertFalse(registry.isSharded("customer-1"));
+    }
+
+    @Test
+    void roundRobinPositionSurvivesOtherCustomersChanges() {
+        ConnectedCustomerRegistry registry = new ConnectedCustomerRegistry(2, ConnectionDistribution.ROUND_ROBIN);
+        Customer customer = new Customer("customer-1", "고객사", "token", LocalDateTime.now().plusHours(1));
+        registry.connect(customer, "session-1");
+        registry.connect(customer, "session-2");
+
+        CustomerConnections connections = registry.getConnections("customer-1");
+        assertEquals("session-1", connections.nextRoundRobin().getConnectionId());
+        registry.connect(new Customer("customer-2", "고객사2", "token", LocalDateTime.now().plusHours(1)), "session-9");
+
+        assertEquals("session-2", registry.getConnections("customer-1").nextRoundRobin().getConnectionId());
+        assertEquals("session-1", registry.getConnections("customer-1").nextRoundRobin().getConnectionId());
+    }
+}
@@ -0,0 +1,246 @@
+package com.alert.news.service;
+
+import com.alert.news.model.Customer;
+import com.alert.news.queue.NewsPipelineMetrics;
+import com.alert.news.service.ConnectedCustomerRegistry.ConnectedCustomer;
+import com.alert.news.websocket.OutboundSocketMonitor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 수신 확인 추적 단위 테스트
+ */
+class DeliveryAckTrackerTest {
+
+    private static final byte[] PAYLOAD = new byte[16];
+    private static final Customer CUSTOMER = new Customer("customer-1", "고객사", "token", LocalDateTime.now().plusHours(1));
+
+    @Test
+    void cursorStopsBeforeOldestPendingNewsOnAnyConnection() {
+        ConnectedCustomerRegistry registry = new ConnectedCustomerRegistry(2, ConnectionDistribution.ALL);
+        DeliveryAckTracker tracker = tracker(registry, outboundQueues(new SimpleMeterRegistry()), customerService(registry, new ArrayList<>()));
+        ConnectedCustomer first = open(registry, tracker, "session-1");
+        ConnectedCustomer second = open(registry, tracker, "session-2");
+        for (long sequence = 1; sequence <= 3; sequence++) {
+            tracker.track(first, sequence, PAYLOAD);
+            tracker.track(second, sequence, PAYLOAD);
+        }
+
+        // 첫 연결이 모두 확인해도 두 번째 연결이 1번을 확인하기 전까지 커서는 그대로
+        assertEquals(3, tracker.ack("customer-1", "session-1", List.of(1L, 2L, 3L)));
+        assertEquals(0, tracker.getCursor("customer-1"));
+        assertEquals(1, tracker.ack("customer-1", "session-2", List.of(2L)));
+        assertEquals(0, tracker.getCursor("customer-1"));
+        tracker.ack("customer-1", "session-2", List.of(1L));
+        assertEquals(2, tracker.getCursor("customer-1"));
+        tracker.ack("customer-1", "session-2", List.of(3L));
+        assertEquals(3, tracker.getCursor("customer-1"));
+        assertEquals(0, tracker.getPendingCount());
+    }
+
+    @Test
+    void checkpointWritesChangedCursorsOncePerInterval() {
+        ConnectedCustomerRegistry registry = new ConnectedCustomerRegistry(1, ConnectionDistribution.ALL);
+        List<Map<String, Long>> writes = new ArrayList<>();
+        DeliveryAckTracker tracker = tracker(registry, outboundQueues(new SimpleMeterRegistry()), customerService(registry, writes));
+        ConnectedCustomer customer = open(registry, tracker, "session-1");
+        for (long sequence = 1; sequence <= 5; sequence++) {
+            tracker.track(customer, sequence, PAYLOAD);
+            tracker.ack("customer-1", "session-1", List.of(sequence));
+        }
+        // ack마다 DB에 쓰지 않음
+        assertTrue(writes.isEmpty());
+
+        tracker.checkpoint();
+        assertEquals(List.of(Map.of("customer-1", 5L)), writes);
+        // 커서가 바뀌지 않았으면 기록하지 않음
+        tracker.checkpoint();
+        assertEquals(1, writes.size());
+    }
+
+    @Test
+    void redeliversUnackedNewsUntilAcked() throws Exception {
+        ConnectedCustomerRegistry registry = new ConnectedCustomerRegistry(1, ConnectionDistribution.ALL);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        List<byte[]> resent = new CopyOnWriteArrayList<>();
+        SessionOutboundQueues outboundQueues = new SessionOutboundQueues(
+                new SimpMessagingTemplate((message, timeout) -> true), (message, timeout) -> true,
+                meterRegistry, new NewsPipelineMetrics(meterRegistry), new OutboundSocketMonitor()) {
+            @Override
+            public boolean enqueue(ConnectedCustomer customer, byte[] payload) {
+                return resent.add(payload);
+            }
+        };
+        DeliveryAckTracker tracker = tracker(registry, outboundQueues, customerService(registry, new ArrayList<>()));
+        ReflectionTestUtils.setField(tracker, "ackTimeoutMillis", 20L);
+        ReflectionTestUtils.setField(tracker, "maxRedeliveries", 100);
+        tracker.start();
+        try {
+            ConnectedCustomer customer = open(registry, tracker, "session-1");
+            byte[] payload = new byte[] {1, 2, 3};
+            tracker.track(customer, 1, payload);
+
+            // 확인 시간이 지나면 같은 payload를 다시 보냄
+            awaitTrue(() -> !resent.isEmpty());
+            assertSame(payload, resent.get(0));
+            assertEquals(1, tracker.getPendingCount());
+
+            // 확인한 뒤에는 더 보내지 않음
+            tracker.ack("customer-1", "session-1", List.of(1L));
+            int sent = resent.size();
+            TimeUnit.MILLISECONDS.sleep(100);
+            assertTrue(resent.size() <= sent + 1);
+            assertEquals(0, tracker.getPendingCount());
+            assertEquals(1, tracker.getCursor("customer-1"));
+        } finally {
+            tracker.stop();
+        }
+    }
+
+    @Test
+    void givesUpAfterMaxRedeliveriesWithoutMovingCursorPastIt() throws Exception {
+        ConnectedCustomerRegistry registry = new ConnectedCustomerRegistry(1, ConnectionDistribution.ALL);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DeliveryAckTracker tracker = new DeliveryAckTracker(registry, outboundQueues(meterRegistry),
+                customerService(registry, new ArrayList<>()), meterRegistry);
+        ReflectionTestUtils.setField(tracker, "ackTimeoutMillis", 20L);
+        ReflectionTestUtils.setField(tracker, "maxRedeliveries", 2);
+        tracker.start();
+        try {
+            ConnectedCustomer customer = open(registry, tracker, "session-1");
+            tracker.track(customer, 1, PAYLOAD);
+
+            // 재전송 2회 뒤에도 확인되지 않으면 추적 포기
+            awaitTrue(() -> tracker.getPendingCount() == 0);
+            assertEquals(1.0, meterRegistry.counter("news.ack.expired").count());
+
+            // 포기한 1번은 확인된 것이 아니므로, 이후 뉴스를 확인해도 커서는 그 앞에서 멈춤
+            ReflectionTestUtils.setField(tracker, "ackTimeoutMillis", 60_000L);
+            tracker.track(customer, 2, PAYLOAD);
+            tracker.ack("customer-1", "session-1", List.of(2L));
+            assertEquals(0, tracker.getCursor("customer-1"));
+
+            // 다시 인증하면 커서(0) 이후부터 재전송하므로 다시 전진할 수 있음
+            assertEquals(0, tracker.open("customer-1", "session-1"));
+            tracker.track(customer, 1, PAYLOAD);
+            tracker.track(customer, 2, PAYLOAD);
+            tracker.ack("customer-1", "session-1", List.of(1L, 2L));
+            assertEquals(2, tracker.getCursor("customer-1"));
+        } finally {
+            tracker.stop();
+        }
+    }
+
+    @Test
+    void pendingOverflowDoesNotMoveCursorPastDroppedNews() {
+        ConnectedCustomerRegistry registry = new ConnectedCustomerRegistry(1, ConnectionDistribution.ALL);
+        DeliveryAckTracker tracker = tracker(registry, outboundQueues(new SimpleMeterRegistry()), customerService(registry, new ArrayList<>()));
+        ReflectionTestUtils.setField(tracker, "maxPending", 2);
+        ConnectedCustomer customer = open(registry, tracker, "session-1");
+        tracker.track(customer, 1, PAYLOAD);
+        tracker.track(customer, 2, PAYLOAD);
+        // 한도를 넘어 1번 추적 포기
+        tracker.track(customer, 3, PAYLOAD);
+        assertEquals(2, tracker.getPendingCount());
+
+        tracker.ack("customer-1", "session-1", List.of(2L, 3L));
+        assertEquals(0, tracker.getCursor("customer-1"));
+    }
+
+    @Test
+    void replacedConnectionStopsTrackingAndIsClosed() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConnectedCustomerRegistry registry = new ConnectedCustomerRegistry(1, ConnectionDistribution.ALL);
+        List<Message<?>> clientFrames = new CopyOnWriteArrayList<>();
+        SessionOutboundQueues outboundQueues = new SessionOutboundQueues(
+                new SimpMessagingTemplate((message, timeout) -> true),
+                (message, timeout) -> clientFrames.add(message),
+                meterRegistry, new NewsPipelineMetrics(meterRegistry), new OutboundSocketMonitor());
+        CustomerService customerService = new CustomerService(null, registry, outboundQueues, null) {
+            @Override
+            public long getDeliveryCursor(String customerId) {
+                return 0;
+            }
+        };
+        DeliveryAckTracker tracker = new DeliveryAckTracker(registry, outboundQueues, customerService, meterRegistry);
+        registry.connect(CUSTOMER, "session-1");
+        tracker.open("customer-1", "session-1");
+        ConnectedCustomer first = registry.getByConnectionId("session-1");
+        tracker.track(first, 1, PAYLOAD);
+        tracker.track(first, 2, PAYLOAD);
+        assertEquals(2, tracker.getPendingCount());
+
+        // 한도(1개)를 넘는 새 연결이 들어오면 가장 오래된 연결이 레지스트리에서 빠짐
+        ConnectedCustomer replaced = registry.connect(CUSTOMER, "session-2");
+        assertEquals("session-1", replaced.getConnectionId());
+        ConnectionReplacedEvent event = new ConnectionReplacedEvent("customer-1", "session-1", "session-2");
+        tracker.onConnectionReplaced(event);
+        outboundQueues.onConnectionReplaced(event);
+
+        // 대체된 연결의 미확인 뉴스는 더 추적하지 않고, 세션에는 ERROR 프레임을 보내 닫음
+        assertEquals(0, tracker.getPendingCount());
+        tracker.track(first, 3, PAYLOAD);
+        assertEquals(0, tracker.getPendingCount());
+        assertEquals(1, clientFrames.size());
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(clientFrames.get(0));
+        assertEquals(StompCommand.ERROR, accessor.getCommand());
+        assertEquals("session-1", accessor.getSessionId());
+    }
+
+    private SessionOutboundQueues outboundQueues(SimpleMeterRegistry meterRegistry) {
+        return new SessionOutboundQueues(new SimpMessagingTemplate((message, timeout) -> true),
+                (message, timeout) -> true, meterRegistry, new NewsPipelineMetrics(meterRegistry),
+                new OutboundSocketMonitor());
+    }
+
+    /**
+     * 저장된 커서는 0이고, 커서 기록 요청을 writes에 남기는 고객사 서비스
+     */
+    private CustomerService customerService(ConnectedCustomerRegistry registry, List<Map<String, Long>> writes) {
+        return new CustomerService(null, registry, null, null) {
+            @Override
+            public long getDeliveryCursor(String customerId) {
+                return 0;
+            }
+
+            @Override
+            public void saveDeliveryCursors(Map<String, Long> cursors) {
+                writes.add(Map.copyOf(cursors));
+            }
+        };
+    }
+
+    private DeliveryAckTracker tracker(ConnectedCustomerRegistry registry, SessionOutboundQueues outboundQueues,
+                                       CustomerService customerService) {
+        return new DeliveryAckTracker(registry, outboundQueues, customerService, new SimpleMeterRegistry());
+    }
+
+    private ConnectedCustomer open(ConnectedCustomerRegistry registry, DeliveryAckTracker tracker, String connectionId) {
+        registry.connect(CUSTOMER, connectionId);
+        tracker.open("customer-1", connectionId);
+        return registry.getByConnectionId(connectionId);
+    }
+
+    private void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "제한 시간 안에 조건을 만족하지 않았습니다");
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.alert.news.service;
+
+import com.alert.news.service.KeywordSubscriptionIndex.KeywordMatch;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 키워드 구독 색인과 Aho–Corasick 오토마톤 단위 테스트
+ */
+class KeywordSubscriptionIndexTest {
+
+    @Test
+    void automatonFindsOverlappingKeywordsInSinglePass() {
+        KeywordMatcher matcher = KeywordMatcher.build(List.of("he", "she", "his", "hers", "채용", "개발자 채용"));
+
+        BitSet matched = new BitSet();
+        matcher.scan("USHERS", matched);
+        assertTrue(matched.get(matcher.indexOf("he")));
+        assertTrue(matched.get(matcher.indexOf("she")));
+        assertTrue(matched.get(matcher.indexOf("hers")));
+        assertFalse(matched.get(matcher.indexOf("his")));
+
+        matched.clear();
+        matcher.scan("AI Product팀 개발자 채용", matched);
+        assertTrue(matched.get(matcher.indexOf("채용")));
+        assertTrue(matched.get(matcher.indexOf("개발자 채용")));
+        assertEquals(2, matched.cardinality());
+    }
+
+    @Test
+    void unfilteredCustomersReceiveEverythingAndFilteredOnlyMatches() {
+        KeywordSubscriptionIndex index = new KeywordSubscriptionIndex();
+        assertEquals(List.of("ai", "채용"), index.subscribe("customer-1", List.of(" AI ", "채용", "ai", "")));
+        index.subscribe("customer-2", List.of("금리"));
+
+        KeywordMatch match = index.match("alert AI Product팀", "본문");
+        assertEquals(Set.of("customer-1"), match.getMatchedCustomerIds());
+        assertTrue(match.accepts("customer-1"));
+        assertFalse(match.accepts("customer-2"));
+        assertTrue(match.accepts("customer-3"));
+
+        // 빈 목록은 구독 해제
+        index.subscribe("customer-2", List.of());
+        assertFalse(index.hasFilter("customer-2"));
+        assertTrue(index.match("제목", "본문").accepts("customer-2"));
+    }
+
+    @Test
+    void automatonIsRebuiltOnlyForNewKeywords() {
+        KeywordSubscriptionIndex index = new KeywordSubscriptionIndex();
+        index.subscribe("customer-1", List.of("ai", "채용"));
+        assertEquals(1, index.getRebuildCount());
+
+        // 이미 있는 키워드만 쓰는 구독과 해제는 고객사 표만 교체
+        index.subscribe("customer-2", List.of("ai"));
+        index.unsubscribe("customer-1");
+        assertEquals(1, index.getRebuildCount());
+        assertEquals(Set.of("customer-2"), index.match("AI 뉴스").getMatchedCustomerIds());
+        assertTrue(index.match("채용 공고").getMatchedCustomerIds().isEmpty());
+
+        index.subscribe("customer-3", List.of("금리"));
+        assertEquals(2, index.getRebuildCount());
+        assertEquals(Set.of("customer-3"), index.match("기준금리 동결").getMatchedCustomerIds());
+    }
+}
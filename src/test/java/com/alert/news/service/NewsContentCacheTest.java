@@ -0,0 +1,48 @@
+package com.alert.news.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 뉴스 본문 캐시 단위 테스트
+ */
+class NewsContentCacheTest {
+
+    @Test
+    void leastRecentlyReadContentIsEvictedWhenByteLimitIsExceeded() {
+        NewsContentCache cache = new NewsContentCache(80);
+        cache.put("news-1", "0123456789");
+        cache.put("news-2", "0123456789");
+        cache.put("news-3", "0123456789");
+        assertEquals(30, cache.getTotalBytes());
+
+        // news-1을 읽어 가장 최근으로 만든 뒤 한도를 넘기면 news-2부터 제거
+        assertEquals("0123456789", new String(cache.get("news-1"), StandardCharsets.UTF_8));
+        for (int i = 4; i <= 9; i++) {
+            cache.put("news-" + i, "0123456789");
+        }
+        assertEquals(80, cache.getTotalBytes());
+        assertNull(cache.get("news-2"));
+        assertNotNull(cache.get("news-1"));
+        assertNotNull(cache.get("news-3"));
+
+        // 조회된 news-1, news-3은 남고 그다음으로 오래된 news-4가 제거됨
+        cache.put("news-10", "0123456789");
+        assertNull(cache.get("news-4"));
+        assertNotNull(cache.get("news-3"));
+        assertEquals(8, cache.size());
+    }
+
+    @Test
+    void oversizedContentIsNotCached() {
+        NewsContentCache cache = new NewsContentCache(80);
+        // 한글은 UTF-8로 3바이트씩, 한도의 1/8(10바이트)을 넘음
+        cache.put("news-1", "기준금리동결");
+        assertNull(cache.get("news-1"));
+        assertEquals(0, cache.getTotalBytes());
+        assertEquals(1, cache.getMisses());
+    }
+}
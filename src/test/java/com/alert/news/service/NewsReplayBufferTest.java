@@ -0,0 +1,59 @@
+package com.alert.news.service;
+
+import com.alert.news.dto.NewsDto;
+import com.alert.news.service.NewsReplayBuffer.Replay;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 브로드캐스트 재전송 버퍼 단위 테스트
+ */
+class NewsReplayBufferTest {
+
+    @Test
+    void replaysOnlyNewsAfterLastReceivedSequence() {
+        NewsReplayBuffer buffer = new NewsReplayBuffer(8, 0);
+        long first = buffer.append(news("news-1"));
+        long second = buffer.append(news("news-2"));
+        long third = buffer.append(news("news-3"));
+        assertTrue(first < second && second < third);
+
+        Replay replay = buffer.since(first);
+        assertTrue(replay.isComplete());
+        assertEquals(List.of("news-2", "news-3"), ids(replay));
+
+        assertTrue(buffer.since(third).getNews().isEmpty());
+    }
+
+    @Test
+    void gapOlderThanBufferRequiresCatchUp() {
+        NewsReplayBuffer buffer = new NewsReplayBuffer(2, 0);
+        long first = buffer.append(news("news-1"));
+        long second = buffer.append(news("news-2"));
+        buffer.append(news("news-3"));
+
+        // news-1을 덮어썼으므로 news-1까지 받은 클라이언트는 버퍼만으로 채울 수 있음
+        Replay replay = buffer.since(first);
+        assertTrue(replay.isComplete());
+        assertEquals(List.of("news-2", "news-3"), ids(replay));
+
+        // news-1 이전 순번(또는 재시작 이전 순번)은 DB 보충 필요
+        replay = buffer.since(first - 1);
+        assertFalse(replay.isComplete());
+        assertEquals(List.of("news-2", "news-3"), ids(replay));
+        assertTrue(replay.getCatchUpSince().isBefore(LocalDateTime.now().plusSeconds(1)));
+        assertTrue(buffer.since(second).isComplete());
+    }
+
+    private NewsDto news(String id) {
+        return new NewsDto(id, "제목 " + id, "본문 " + id, LocalDateTime.now());
+    }
+
+    private List<String> ids(Replay replay) {
+        return replay.getNews().stream().map(NewsDto::getId).toList();
+    }
+}
@@ -0,0 +1,111 @@
+package com.alert.news.service;
+
+import com.alert.news.dto.NewsDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 뉴스 payload 인코딩별 전송 크기와 CPU 비용 비교 벤치마크
+ *
+ * 기본 테스트에서는 제외되며 ./gradlew benchmark 로 실행합니다.
+ * JSON, permessage-deflate와 같은 방식(raw deflate, SYNC_FLUSH 후 끝의 00 00 ff ff 제거)으로 압축한 JSON, CBOR을
+ * 본문 길이별로 비교합니다. CPU는 현재 스레드의 CPU 시간으로 측정합니다.
+ */
+@Tag("benchmark")
+class PayloadEncodingBenchmarkTest {
+
+    private static final int[] CONTENT_LENGTHS = {500, 4_000, 20_000};
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    private final ObjectMapper jsonMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ObjectMapper cborMapper = jsonMapper.copyWith(new CBORFactory());
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    @Test
+    void compareJsonCompressedJsonAndCbor() throws Exception {
+        for (int contentLength : CONTENT_LENGTHS) {
+            NewsDto news = sampleNews(contentLength);
+
+            byte[] json = jsonMapper.writeValueAsBytes(news);
+            byte[] compressed = deflate(json);
+            byte[] cbor = cborMapper.writeValueAsBytes(news);
+            assertEquals(news.getContent(), cborMapper.readValue(cbor, NewsDto.class).getContent());
+
+            System.out.printf("본문 %,6d자%n", contentLength);
+            report("json", json.length, measure(() -> jsonMapper.writeValueAsBytes(news)));
+            report("json+deflate", compressed.length, measure(() -> deflate(jsonMapper.writeValueAsBytes(news))));
+            report("cbor", cbor.length, measure(() -> cborMapper.writeValueAsBytes(news)));
+        }
+    }
+
+    private long measure(Encoder encoder) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            encoder.encode();
+        }
+        long startedAt = threadMXBean.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            encoder.encode();
+        }
+        return (threadMXBean.getCurrentThreadCpuTime() - startedAt) / ITERATIONS;
+    }
+
+    /**
+     * permessage-deflate와 같은 방식으로 메시지 하나 압축 (컨텍스트 공유 없음)
+     */
+    private byte[] deflate(byte[] payload) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(payload);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2 + 16);
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH)) > 0) {
+                out.write(buffer, 0, length);
+                if (length < buffer.length) {
+                    break;
+                }
+            }
+            byte[] compressed = out.toByteArray();
+            // 메시지 끝의 빈 블록(00 00 ff ff)은 전송하지 않음 (RFC 7692 7.2.1)
+            byte[] trimmed = new byte[compressed.length - 4];
+            System.arraycopy(compressed, 0, trimmed, 0, trimmed.length);
+            return trimmed;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private NewsDto sampleNews(int contentLength) {
+        String sentence = "핀테크 스타트업 크래프트 테크놀로지스(alert Technologies)는 AI Product팀 개발자를 채용한다고 밝혔다. ";
+        StringBuilder content = new StringBuilder(contentLength + sentence.length());
+        while (content.length() < contentLength) {
+            content.append(sentence);
+        }
+        content.setLength(contentLength);
+        NewsDto news = new NewsDto("a1b2c3", "alert AI Product팀 개발자 채용", content.toString(),
+                LocalDateTime.of(2025, 6, 5, 10, 0));
+        news.setCreatedAt(LocalDateTime.of(2025, 6, 5, 10, 0, 1));
+        return news;
+    }
+
+    private void report(String name, int bytes, long cpuNanos) {
+        System.out.printf("  %-14s %,8d bytes  %,8.1fus CPU/alert%n", name, bytes, cpuNanos / 1_000.0);
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        Object encode() throws Exception;
+    }
+}
@@ -0,0 +1,57 @@
+package com.alert.news.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 묶음 프레임 배열 결합 단위 테스트
+ */
+class PayloadEncodingTest {
+
+    @Test
+    void jsonPayloadsAreJoinedIntoArray() {
+        byte[] array = PayloadEncoding.JSON.toArray(List.of(
+                "{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8),
+                "{\"id\":\"2\"}".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("[{\"id\":\"1\"},{\"id\":\"2\"}]", new String(array, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void cborArrayHeaderEncodesItemCount() {
+        // CBOR 정수 1 (0x01)을 원소로 사용
+        byte[] item = {0x01};
+
+        assertArrayEquals(new byte[] {(byte) 0x82, 0x01, 0x01}, PayloadEncoding.CBOR.toArray(List.of(item, item)));
+
+        List<byte[]> thirty = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            thirty.add(item);
+        }
+        byte[] array = PayloadEncoding.CBOR.toArray(thirty);
+        assertEquals(32, array.length);
+        assertEquals((byte) 0x98, array[0]);
+        assertEquals(30, array[1]);
+
+        List<byte[]> many = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            many.add(item);
+        }
+        array = PayloadEncoding.CBOR.toArray(many);
+        assertEquals((byte) 0x99, array[0]);
+        assertEquals(300, ((array[1] & 0xff) << 8) | (array[2] & 0xff));
+        assertEquals(303, array.length);
+    }
+
+    @Test
+    void unknownEncodingIsRejected() {
+        assertEquals(PayloadEncoding.JSON, PayloadEncoding.from(null));
+        assertEquals(PayloadEncoding.CBOR, PayloadEncoding.from(" cbor "));
+        assertThrows(IllegalArgumentException.class, () -> PayloadEncoding.from("smile"));
+    }
+}
@@ -0,0 +1,225 @@
+package com.alert.news.service;
+
+import com.alert.news.model.Customer;
+import com.alert.news.queue.NewsPipelineMetrics;
+import com.alert.news.service.ConnectedCustomerRegistry.ConnectedCustomer;
+import com.alert.news.websocket.OutboundSocketMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 연결별 송신 큐 단위 테스트
+ *
+ * 소켓 쓰기가 실제로 멈추는 세션을 {@link OutboundSocketMonitor}로 감싸고, 브로커 채널은 받은 payload를
+ * 그 세션에 바로 쓰도록 연결해 느린 소비자 정책이 소켓 상태를 보고 동작하는지 확인합니다.
+ */
+class SessionOutboundQueuesTest {
+
+    private static final String CONNECTION_ID = "session-1";
+    private static final byte[] PAYLOAD = new byte[64];
+
+    @Test
+    void keepsNewsInBufferWhileSocketIsBackedUpAndDropsOverflow() throws Exception {
+        StallingSession socket = new StallingSession();
+        SessionOutboundQueues queues = open(socket, SlowConsumerPolicy.DROP, 10_000);
+        ConnectedCustomer customer = connectedCustomer(queues);
+
+        // 첫 프레임에서 소켓 쓰기가 멈추고, 두 번째 프레임까지 넘기면 소켓 버퍼(100 bytes)를 넘음
+        assertTrue(queues.enqueue(customer, PAYLOAD));
+        assertTrue(queues.enqueue(customer, PAYLOAD));
+        awaitTrue(() -> monitor(queues).getBufferedBytes(CONNECTION_ID) == 2L * PAYLOAD.length);
+
+        // 이후 뉴스는 연결별 버퍼(2개)에 남고, 넘치는 뉴스는 버림
+        assertTrue(queues.enqueue(customer, PAYLOAD));
+        assertTrue(queues.enqueue(customer, PAYLOAD));
+        assertFalse(queues.enqueue(customer, PAYLOAD));
+        assertEquals(2, queues.getDepth(CONNECTION_ID));
+
+        socket.release.countDown();
+        awaitTrue(() -> socket.written.get() == 4 && queues.getDepth(CONNECTION_ID) == 0);
+        queues.stop();
+    }
+
+    @Test
+    void disconnectsWhenSocketWriteStallsPastSendTimeLimit() throws Exception {
+        StallingSession socket = new StallingSession();
+        SessionOutboundQueues queues = open(socket, SlowConsumerPolicy.DISCONNECT, 50);
+        ConnectedCustomer customer = connectedCustomer(queues);
+
+        assertTrue(queues.enqueue(customer, PAYLOAD));
+        awaitTrue(() -> monitor(queues).getTimeSinceSendStarted(CONNECTION_ID) > TimeUnit.MILLISECONDS.toNanos(50));
+
+        // 버퍼에 자리가 있어도 소켓 쓰기가 제한 시간을 넘겼으므로 연결을 끊음
+        assertFalse(queues.enqueue(customer, PAYLOAD));
+        assertEquals(CloseStatus.SESSION_NOT_RELIABLE, socket.closeStatus);
+        assertFalse(queues.enqueue(customer, PAYLOAD));
+        queues.stop();
+    }
+
+    @Test
+    void doesNotCreateBufferForConnectionThatWasNotOpened() throws Exception {
+        StallingSession socket = new StallingSession();
+        SessionOutboundQueues queues = open(socket, SlowConsumerPolicy.DROP, 10_000);
+        MeterRegistry meterRegistry = (MeterRegistry) ReflectionTestUtils.getField(queues, "meterRegistry");
+
+        // 세션 종료 처리가 끝난 뒤 이전 스냅샷으로 보내는 경우: 버퍼와 게이지를 새로 만들지 않음
+        ConnectedCustomerRegistry registry = new ConnectedCustomerRegistry();
+        registry.connect(new Customer("customer-2", "고객사2", "token", LocalDateTime.now().plusHours(1)), "session-2");
+        assertFalse(queues.enqueue(registry.getByConnectionId("session-2"), PAYLOAD));
+        assertNull(meterRegistry.find(SessionOutboundQueues.QUEUE_DEPTH).tag("connection", "session-2").gauge());
+        // 소켓이 없는 세션은 열지 않음
+        assertFalse(queues.open("customer-2", "session-2", DeliveryOptions.DEFAULT));
+        assertEquals(0, queues.getDepth("session-2"));
+        queues.stop();
+    }
+
+    private SessionOutboundQueues open(StallingSession socket, SlowConsumerPolicy policy, long sendTimeLimit)
+            throws Exception {
+        OutboundSocketMonitor monitor = new OutboundSocketMonitor();
+        ReflectionTestUtils.setField(monitor, "socketBufferSize", 100L);
+
+        // 실제 STOMP 세션 처리기처럼 감싼 세션을 받아 두고, 브로커 채널로 온 payload를 그 세션에 씀
+        Map<String, WebSocketSession> decorated = new ConcurrentHashMap<>();
+        monitor.decorate(new AbstractWebSocketHandler() {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) {
+                decorated.put(session.getId(), session);
+            }
+        }).afterConnectionEstablished(socket);
+        SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> {
+            try {
+                decorated.get(CONNECTION_ID).sendMessage(new BinaryMessage((byte[]) message.getPayload()));
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        });
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SessionOutboundQueues queues = new SessionOutboundQueues(template, (message, timeout) -> true, meterRegistry,
+                new NewsPipelineMetrics(meterRegistry), monitor);
+        ReflectionTestUtils.setField(queues, "bufferSize", 2);
+        ReflectionTestUtils.setField(queues, "sendTimeLimitMillis", sendTimeLimit);
+        ReflectionTestUtils.setField(queues, "slowConsumerPolicy", policy);
+        queues.start();
+        return queues;
+    }
+
+    private OutboundSocketMonitor monitor(SessionOutboundQueues queues) {
+        return (OutboundSocketMonitor) ReflectionTestUtils.getField(queues, "socketMonitor");
+    }
+
+    private ConnectedCustomer connectedCustomer(SessionOutboundQueues queues) {
+        assertTrue(queues.open("customer-1", CONNECTION_ID, DeliveryOptions.DEFAULT));
+        ConnectedCustomerRegistry registry = new ConnectedCustomerRegistry();
+        registry.connect(new Customer("customer-1", "고객사", "token", LocalDateTime.now().plusHours(1)), CONNECTION_ID);
+        return registry.getByConnectionId(CONNECTION_ID);
+    }
+
+    private void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "제한 시간 안에 조건을 만족하지 않았습니다");
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+
+    /**
+     * release가 열리거나 세션이 닫힐 때까지 모든 쓰기가 실제로 멈추는 소켓
+     */
+    private static final class StallingSession implements WebSocketSession {
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger written = new AtomicInteger();
+        private volatile CloseStatus closeStatus;
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (closeStatus == null) {
+                written.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+            closeStatus = status;
+            release.countDown();
+        }
+
+        @Override
+        public void close() {
+            close(CloseStatus.NORMAL);
+        }
+
+        @Override
+        public boolean isOpen() { return closeStatus == null; }
+
+        @Override
+        public String getId() { return CONNECTION_ID; }
+
+        @Override
+        public URI getUri() { return null; }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() { return new HttpHeaders(); }
+
+        @Override
+        public Map<String, Object> getAttributes() { return new ConcurrentHashMap<>(); }
+
+        @Override
+        public Principal getPrincipal() { return null; }
+
+        @Override
+        public InetSocketAddress getLocalAddress() { return null; }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() { return null; }
+
+        @Override
+        public String getAcceptedProtocol() { return "v12.stomp"; }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {}
+
+        @Override
+        public int getTextMessageSizeLimit() { return 0; }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {}
+
+        @Override
+        public int getBinaryMessageSizeLimit() { return 0; }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() { return List.of(); }
+    }
+}